@@ -9,6 +9,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.moa.auth.provider.JwtProvider;
+import com.moa.auth.provider.VerifiedToken;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -50,12 +51,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		try {
 			String jwt = resolveToken(request);
 
-			if (StringUtils.hasText(jwt) && jwtProvider.validateToken(jwt)) {
-				Authentication authentication = jwtProvider.getAuthentication(jwt);
+			VerifiedToken verified = StringUtils.hasText(jwt) ? jwtProvider.verify(jwt) : null;
+			if (verified != null) {
+				Authentication authentication = verified.toAuthentication(jwt);
 				SecurityContextHolder.getContext().setAuthentication(authentication);
 
 				request.setAttribute("LOGIN_USER_ID", authentication.getName());
-				request.setAttribute("LOGIN_PROVIDER", jwtProvider.getProviderFromToken(jwt));
+				request.setAttribute("LOGIN_PROVIDER", verified.provider());
 			}
 		} catch (Exception e) {
 			log.warn("JWT authentication failed: {}", e.getMessage());
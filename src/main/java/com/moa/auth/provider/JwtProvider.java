@@ -1,25 +1,20 @@
 package com.moa.auth.provider;
 
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
 import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import com.moa.dto.auth.TokenResponse;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -32,21 +27,30 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class JwtProvider {
 
-	private static final String AUTHORITIES_KEY = "auth";
-	private static final String PROVIDER_KEY = "provider";
+	static final String AUTHORITIES_KEY = "auth";
+	static final String PROVIDER_KEY = "provider";
 	private static final String BEARER_TYPE = "Bearer";
 
 	private final SecretKey secretKey;
 	private final long accessTokenExpirationMillis;
 	private final long refreshTokenExpirationMillis;
 
+	/** 불변/스레드 안전하므로 하나를 만들어 모든 요청에서 재사용 */
+	private final JwtParser jwtParser;
+	/** jwt.verified-cache.enabled=false 면 null */
+	private final VerifiedTokenCache verifiedTokenCache;
+
 	public JwtProvider(@Value("${jwt.secret}") String secret,
 			@Value("${jwt.access-token-expiration-millis}") long accessTokenExpirationMillis,
-			@Value("${jwt.refresh-token-expiration-millis}") long refreshTokenExpirationMillis) {
+			@Value("${jwt.refresh-token-expiration-millis}") long refreshTokenExpirationMillis,
+			@Value("${jwt.verified-cache.enabled:true}") boolean verifiedCacheEnabled,
+			@Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize) {
 		byte[] keyBytes = Decoders.BASE64.decode(secret);
 		this.secretKey = Keys.hmacShaKeyFor(keyBytes);
 		this.accessTokenExpirationMillis = accessTokenExpirationMillis;
 		this.refreshTokenExpirationMillis = refreshTokenExpirationMillis;
+		this.jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+		this.verifiedTokenCache = verifiedCacheEnabled ? new VerifiedTokenCache(verifiedCacheMaxSize) : null;
 	}
 
 	public TokenResponse generateToken(Authentication authentication, String provider) {
@@ -101,23 +105,48 @@ public class JwtProvider {
 	}
 
 	public Authentication getAuthentication(String accessToken) {
-		Claims claims = parseClaims(accessToken);
+		return VerifiedToken.from(parseClaims(accessToken)).toAuthentication(accessToken);
+	}
 
-		if (claims.get(AUTHORITIES_KEY) == null) {
-			throw new RuntimeException("Authority information not found in the token.");
+	/**
+	 * 서명/만료를 한 번만 검증하고 인증에 필요한 정보를 돌려준다 (유효하지 않으면 null).
+	 * 최근 검증한 토큰이면 파싱 없이 캐시된 결과를 돌려준다.
+	 */
+	public VerifiedToken verify(String token) {
+		if (verifiedTokenCache != null) {
+			VerifiedToken cached = verifiedTokenCache.get(token);
+			if (cached != null) {
+				return cached;
+			}
 		}
 
-		Collection<? extends GrantedAuthority> authorities = Arrays
-				.stream(claims.get(AUTHORITIES_KEY).toString().split(",")).map(SimpleGrantedAuthority::new).toList();
+		Claims claims = parseVerifiedClaims(token);
+		if (claims == null) {
+			return null;
+		}
 
-		UserDetails principal = new User(claims.getSubject(), "", authorities);
-		return new UsernamePasswordAuthenticationToken(principal, accessToken, authorities);
+		VerifiedToken verified = VerifiedToken.from(claims);
+		if (verifiedTokenCache != null) {
+			verifiedTokenCache.put(token, verified);
+		}
+		return verified;
 	}
 
 	public boolean validateToken(String token) {
+		return parseVerifiedClaims(token) != null;
+	}
+
+	public Claims parseClaims(String token) {
+		try {
+			return jwtParser.parseClaimsJws(token).getBody();
+		} catch (ExpiredJwtException e) {
+			return e.getClaims();
+		}
+	}
+
+	private Claims parseVerifiedClaims(String token) {
 		try {
-			Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-			return true;
+			return jwtParser.parseClaimsJws(token).getBody();
 		} catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
 			log.warn("잘못된 JWT 서명: {}", e.getMessage());
 		} catch (ExpiredJwtException e) {
@@ -127,15 +156,7 @@ public class JwtProvider {
 		} catch (IllegalArgumentException e) {
 			log.warn("JWT claims가 비어있음: {}", e.getMessage());
 		}
-		return false;
-	}
-
-	public Claims parseClaims(String token) {
-		try {
-			return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
-		} catch (ExpiredJwtException e) {
-			return e.getClaims();
-		}
+		return null;
 	}
 
 	public String getProviderFromToken(String token) {
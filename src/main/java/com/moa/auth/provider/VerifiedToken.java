@@ -0,0 +1,53 @@
+package com.moa.auth.provider;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명/만료 검증을 마친 토큰 정보 (불변)
+ *
+ * 필터는 요청마다 이 객체 하나로 인증 정보와 provider 를 꺼내고, 같은 토큰의 다음 요청은 캐시된 인스턴스를 재사용한다.
+ */
+public record VerifiedToken(String userId, List<GrantedAuthority> authorities, String provider,
+		long expiresAtMillis) {
+
+	public VerifiedToken {
+		authorities = List.copyOf(authorities);
+	}
+
+	static VerifiedToken from(Claims claims) {
+		if (claims.get(JwtProvider.AUTHORITIES_KEY) == null) {
+			throw new RuntimeException("Authority information not found in the token.");
+		}
+
+		List<GrantedAuthority> authorities = Arrays.stream(claims.get(JwtProvider.AUTHORITIES_KEY).toString().split(","))
+				.map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(authority)).toList();
+		String provider = claims.get(JwtProvider.PROVIDER_KEY, String.class);
+		Date expiration = claims.getExpiration();
+
+		return new VerifiedToken(claims.getSubject(), authorities,
+				provider == null || provider.isBlank() ? "email" : provider,
+				expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+	}
+
+	/**
+	 * 요청마다 새 Authentication 을 만든다 (SecurityContext 에 들어간 뒤 변경될 수 있으므로 공유하지 않는다)
+	 */
+	public Authentication toAuthentication(String token) {
+		User principal = new User(userId, "", authorities);
+		return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+	}
+
+	boolean isExpired(long nowMillis) {
+		return expiresAtMillis <= nowMillis;
+	}
+}
@@ -0,0 +1,78 @@
+package com.moa.auth.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 최근 검증한 토큰 캐시 (토큰 SHA-256 → VerifiedToken)
+ *
+ * - 토큰 원문은 보관하지 않는다
+ * - 토큰 만료 시각이 지나면 조회 시 제거하고 다시 검증하게 한다
+ * - 최대 크기에 도달하면 만료된 항목을 먼저 비우고, 그래도 가득 차 있으면 만료가 가장 가까운 항목부터 비운다
+ */
+class VerifiedTokenCache {
+
+	private final int maxSize;
+	private final Map<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+	VerifiedTokenCache(int maxSize) {
+		this.maxSize = Math.max(1, maxSize);
+	}
+
+	VerifiedToken get(String token) {
+		String key = keyOf(token);
+		VerifiedToken verified = entries.get(key);
+		if (verified == null) {
+			return null;
+		}
+		if (verified.isExpired(System.currentTimeMillis())) {
+			entries.remove(key, verified);
+			return null;
+		}
+		return verified;
+	}
+
+	void put(String token, VerifiedToken verified) {
+		if (verified.isExpired(System.currentTimeMillis())) {
+			return;
+		}
+		if (entries.size() >= maxSize) {
+			evict();
+		}
+		entries.put(keyOf(token), verified);
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	private synchronized void evict() {
+		if (entries.size() < maxSize) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		entries.values().removeIf(verified -> verified.isExpired(now));
+
+		int overflow = entries.size() - maxSize * 9 / 10;
+		if (overflow > 0) {
+			entries.entrySet().stream()
+					.sorted(Map.Entry.comparingByValue(Comparator.comparingLong(VerifiedToken::expiresAtMillis)))
+					.limit(overflow).map(Map.Entry::getKey).toList().forEach(entries::remove);
+		}
+	}
+
+	private static String keyOf(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.moa.common.aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 스케줄러 메서드를 클러스터에서 한 노드만 실행하도록 SCHEDULER_LOCK 리스로 감싼다.
+ * 리스를 얻지 못한 노드는 해당 트리거를 건너뛴다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DistributedLock {
+
+	/**
+	 * 작업 이름 (SCHEDULER_LOCK.LOCK_NAME)
+	 */
+	String name();
+
+	/**
+	 * 획득 후 최소 보유 시간(초), 음수면 scheduler.lock.min-hold-seconds
+	 */
+	long lockAtLeastSeconds() default -1;
+}
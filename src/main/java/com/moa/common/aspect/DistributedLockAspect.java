@@ -0,0 +1,41 @@
+package com.moa.common.aspect;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.moa.service.scheduler.SchedulerLockService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 트랜잭션보다 바깥에서 락을 잡도록 가장 먼저 적용한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DistributedLockAspect {
+
+	private final SchedulerLockService schedulerLockService;
+
+	@Around("@annotation(distributedLock)")
+	public Object runExclusively(ProceedingJoinPoint pjp, DistributedLock distributedLock) throws Throwable {
+		String lockName = distributedLock.name();
+		if (!schedulerLockService.tryAcquire(lockName)) {
+			log.debug("스케줄러 락 미획득, 실행 생략: lock={}", lockName);
+			return null;
+		}
+
+		try {
+			return pjp.proceed();
+		} finally {
+			schedulerLockService.release(lockName, distributedLock.lockAtLeastSeconds());
+		}
+	}
+}
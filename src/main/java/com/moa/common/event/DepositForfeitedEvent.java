@@ -0,0 +1,21 @@
+package com.moa.common.event;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class DepositForfeitedEvent {
+
+	private final Integer partyId;
+
+	private final Integer depositId;
+
+	private final String userId;
+
+	private final Integer amount;
+
+	private final LocalDateTime forfeitedAt;
+}
@@ -0,0 +1,21 @@
+package com.moa.common.event;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class InitialPaymentCompletedEvent {
+
+	private final Integer partyId;
+
+	private final Integer partyMemberId;
+
+	private final String userId;
+
+	private final Integer amount;
+
+	private final LocalDateTime paymentDate;
+}
@@ -1,5 +1,7 @@
 package com.moa.common.event;
 
+import java.time.LocalDateTime;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -16,4 +18,6 @@ public class MonthlyPaymentCompletedEvent {
 	private final Integer amount;
 
 	private final String targetMonth;
+
+	private final LocalDateTime paymentDate;
 }
@@ -19,6 +19,7 @@ public enum ErrorCode {
 	PARTY_NOT_FOUND("P404", "파티를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 	PARTY_FULL("P409", "파티 인원이 가득 찼습니다.", HttpStatus.CONFLICT),
 	ALREADY_JOINED("P409", "이미 참여 중입니다.", HttpStatus.CONFLICT),
+	PARTY_JOIN_HOLD_EXPIRED("P409", "가입 대기 시간이 만료되었습니다. 결제는 취소되니 다시 시도해주세요.", HttpStatus.CONFLICT),
 	LEADER_CANNOT_JOIN("P403", "파티장은 참여할 수 없습니다.", HttpStatus.FORBIDDEN),
 	LEADER_CANNOT_LEAVE("P403", "파티장은 탈퇴할 수 없습니다.", HttpStatus.FORBIDDEN),
 	NOT_PARTY_LEADER("P403", "파티장이 아닙니다.", HttpStatus.FORBIDDEN),
@@ -28,6 +29,7 @@ public enum ErrorCode {
 	INVALID_PARTY_STATUS("P400", "잘못된 파티 상태입니다.", HttpStatus.BAD_REQUEST),
 	INVALID_MAX_MEMBERS("P400", "파티 최대 인원이 잘못되었습니다.", HttpStatus.BAD_REQUEST),
 	PARTY_NOT_RECRUITING("P400", "모집 중인 파티가 아닙니다.", HttpStatus.BAD_REQUEST),
+	INVALID_PARTY_CURSOR("P400", "잘못된 목록 커서입니다. 처음부터 다시 조회해주세요.", HttpStatus.BAD_REQUEST),
 	PARTY_SUSPENDED("P410", "일시정지된 파티입니다.", HttpStatus.CONFLICT),
 	PARTY_DISBANDED("P411", "해산된 파티입니다.", HttpStatus.CONFLICT),
 	PARTY_LEADER_WITHDRAWAL("P412", "파티장이 탈퇴하여 파티가 해산되었습니다.", HttpStatus.CONFLICT),
@@ -65,6 +67,7 @@ public enum ErrorCode {
 	MAX_RETRY_EXCEEDED("PAY502", "최대 재시도 횟수를 초과했습니다.", HttpStatus.BAD_REQUEST),
 	RETRY_NOT_FOUND("PAY503", "재시도 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
 	INVALID_PAYMENT_STATUS("PAY400", "잘못된 결제 상태입니다.", HttpStatus.BAD_REQUEST),
+	TOSS_UNAVAILABLE("PAY504", "결제 시스템이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
 	// Refund Errors
 	REFUND_TEMPORARY_ERROR("REF501", "일시적인 환불 오류입니다. 재시도합니다.", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -93,7 +96,8 @@ public enum ErrorCode {
 	INVALID_PARAMETER("E400", "잘못된 요청 파라미터입니다.", HttpStatus.BAD_REQUEST),
 	INVALID_INPUT_VALUE("E444", "잘못된 입력값입니다.", HttpStatus.BAD_REQUEST),
 	INVALID_REQUEST("E445", "이메일을 입력해주세요.",HttpStatus.NOT_FOUND),
-	INVALID_CURRENT_PASSWORD("U400", "현재 비밀번호가 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
+	INVALID_CURRENT_PASSWORD("U400", "현재 비밀번호가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+	SSE_CONNECTION_LIMIT("PS503", "실시간 알림 연결이 많아 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 	private final String code;
 	private final String message;
 	private final HttpStatus httpStatus;
@@ -0,0 +1,14 @@
+package com.moa.common.exception;
+
+/**
+ * 토스 API 서킷이 열려 있거나 동시 호출 한도(bulkhead)를 넘어 호출 자체를 하지 않은 경우.
+ * 결제가 거절된 것이 아니므로 결제 실패 이력/재시도 횟수로 집계하지 않는다.
+ */
+public class TossUnavailableException extends BusinessException {
+
+	private static final long serialVersionUID = 1L;
+
+	public TossUnavailableException(String customMessage) {
+		super(ErrorCode.TOSS_UNAVAILABLE, customMessage);
+	}
+}
@@ -0,0 +1,61 @@
+package com.moa.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.Getter;
+
+@Configuration
+@Getter
+public class BillingConfig {
+
+	@Value("${billing.run.worker-threads:8}")
+	private int workerThreads;
+
+	@Value("${billing.run.max-concurrent-charges:4}")
+	private int maxConcurrentCharges;
+
+	@Value("${billing.run.await-timeout-minutes:120}")
+	private long awaitTimeoutMinutes;
+
+	/**
+	 * 결제 재시도: 회차 * base-delay-hours 뒤를 중심으로 ±jitter-minutes 안에서 무작위로 분산
+	 */
+	@Value("${billing.retry.base-delay-hours:24}")
+	private long retryBaseDelayHours;
+
+	@Value("${billing.retry.jitter-minutes:720}")
+	private long retryJitterMinutes;
+
+	@Value("${billing.retry.min-delay-minutes:60}")
+	private long retryMinDelayMinutes;
+
+	/**
+	 * 실행 마감까지 토스 서킷이 닫히지 않아 미뤄진 결제를 재시도 폴러가 가져갈 때까지의 지연
+	 */
+	@Value("${billing.retry.deferred-delay-minutes:5}")
+	private long retryDeferredDelayMinutes;
+
+	/**
+	 * 재시도 폴러 1회(1분)당 최대 결제 시도 수 (토스 호출 상한)
+	 */
+	@Value("${billing.retry.max-per-minute:30}")
+	private int retryMaxPerMinute;
+
+	/**
+	 * 월 정기결제 실행용 워커 풀 (파티 단위로 작업 분배)
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor billingExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workerThreads);
+		executor.setMaxPoolSize(workerThreads);
+		executor.setThreadNamePrefix("billing-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+		return executor;
+	}
+}
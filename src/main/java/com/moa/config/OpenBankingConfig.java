@@ -1,7 +1,9 @@
 package com.moa.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import lombok.Getter;
 
@@ -35,4 +37,50 @@ public class OpenBankingConfig {
 
     @Value("${openbanking.platform.client-num}")
     private String platformClientNum;
+
+    @Value("${openbanking.transfer.max-in-flight:8}")
+    private int transferMaxInFlight;
+
+    @Value("${openbanking.transfer.batch-size:200}")
+    private int transferBatchSize;
+
+    @Value("${openbanking.transfer.await-timeout-seconds:300}")
+    private long transferAwaitTimeoutSeconds;
+
+    /** 요청 후 이 시간이 지나도 IN_PROGRESS 인 이체는 결과 조회로 확정한다 (await-timeout + HTTP 타임아웃보다 길게) */
+    @Value("${openbanking.transfer.reconcile-after-seconds:900}")
+    private long transferReconcileAfterSeconds;
+
+    @Value("${openbanking.transfer.reconcile-interval-ms:300000}")
+    private long transferReconcileIntervalMs;
+
+    @Value("${openbanking.transfer.reconcile-batch-size:100}")
+    private int transferReconcileBatchSize;
+
+    @Value("${openbanking.stub.enabled:false}")
+    private boolean stubEnabled;
+
+    @Value("${openbanking.stub.min-latency-ms:50}")
+    private long stubMinLatencyMs;
+
+    @Value("${openbanking.stub.max-latency-ms:300}")
+    private long stubMaxLatencyMs;
+
+    @Value("${openbanking.stub.failure-rate:0.05}")
+    private double stubFailureRate;
+
+    /**
+     * 정산 입금이체 호출용 (동시 호출 수 = max-in-flight)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor openBankingTransferExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(transferMaxInFlight);
+        executor.setMaxPoolSize(transferMaxInFlight);
+        executor.setThreadNamePrefix("openbanking-transfer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
 }
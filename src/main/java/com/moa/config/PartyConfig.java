@@ -0,0 +1,35 @@
+package com.moa.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+
+@Configuration
+@Getter
+public class PartyConfig {
+
+	/**
+	 * 파티 목록(모집중/진행중) 메모리 인덱스 사용 여부. false 면 항상 SQL 로 조회한다.
+	 */
+	@Value("${party.index.enabled:true}")
+	private boolean indexEnabled;
+
+	/**
+	 * 전체 재적재 주기. 다른 노드에서 일어난 변경과 상품명/닉네임 변경은 이 주기로 반영된다.
+	 */
+	@Value("${party.index.refresh-interval-ms:60000}")
+	private long indexRefreshIntervalMs;
+
+	/**
+	 * 가입 좌석 선점 유지 시간. 빌링키 발급 + 첫 결제(토스 타임아웃 포함)보다 충분히 길어야 한다.
+	 */
+	@Value("${party.join.hold-seconds:120}")
+	private long joinHoldSeconds;
+
+	/**
+	 * 만료된 가입 선점을 반납하는 리퍼 실행 주기
+	 */
+	@Value("${party.join.reaper-interval-ms:30000}")
+	private long joinReaperIntervalMs;
+}
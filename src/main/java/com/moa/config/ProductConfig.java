@@ -0,0 +1,17 @@
+package com.moa.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+
+@Configuration
+@Getter
+public class ProductConfig {
+
+	/**
+	 * 상품/카테고리 캐시 유지 시간. 같은 노드의 변경은 즉시 반영되고, 다른 노드에서 일어난 변경은 이 시간 안에 반영된다.
+	 */
+	@Value("${product.catalog.ttl-seconds:300}")
+	private long catalogTtlSeconds;
+}
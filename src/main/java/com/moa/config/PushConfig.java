@@ -0,0 +1,120 @@
+package com.moa.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.Getter;
+
+@Configuration
+@Getter
+public class PushConfig {
+
+	@Value("${push.outbox.capacity:10000}")
+	private int outboxCapacity;
+
+	@Value("${push.outbox.batch-size:200}")
+	private int outboxBatchSize;
+
+	@Value("${push.outbox.flush-interval-ms:200}")
+	private long outboxFlushIntervalMs;
+
+	@Value("${push.outbox.offer-timeout-ms:50}")
+	private long outboxOfferTimeoutMs;
+
+	@Value("${push.outbox.max-attempts:3}")
+	private int outboxMaxAttempts;
+
+	@Value("${push.broadcast.chunk-size:1000}")
+	private int broadcastChunkSize;
+
+	@Value("${push.broadcast.retained-jobs:20}")
+	private int broadcastRetainedJobs;
+
+	@Value("${push.unread.max-entries:100000}")
+	private int unreadMaxEntries;
+
+	@Value("${push.sse.timeout-ms:1800000}")
+	private long sseTimeoutMs;
+
+	@Value("${push.sse.heartbeat-interval-ms:25000}")
+	private long sseHeartbeatIntervalMs;
+
+	@Value("${push.sse.max-connections:20000}")
+	private int sseMaxConnections;
+
+	@Value("${push.sse.max-connections-per-user:5}")
+	private int sseMaxConnectionsPerUser;
+
+	@Value("${push.sse.outbound-queue-capacity:32}")
+	private int sseOutboundQueueCapacity;
+
+	@Value("${push.sse.sender-threads:4}")
+	private int sseSenderThreads;
+
+	@Value("${push.sse.replay-buffer-size:50}")
+	private int sseReplayBufferSize;
+
+	@Value("${push.sse.replay-retention-ms:600000}")
+	private long sseReplayRetentionMs;
+
+	/**
+	 * DB 재전송 시 lastPushId 발송 시각보다 이만큼 앞선 push 까지 다시 포함한다 (늦게 커밋된 push 보정)
+	 */
+	@Value("${push.sse.replay-db-rewind-seconds:5}")
+	private int sseReplayDbRewindSeconds;
+
+	@Value("${push.sse.replay-max-events:100}")
+	private int sseReplayMaxEvents;
+
+	@Value("${push.cluster.node-id:}")
+	private String clusterNodeId;
+
+	@Value("${push.cluster.poll-interval-ms:500}")
+	private long clusterPollIntervalMs;
+
+	@Value("${push.cluster.presence-interval-ms:5000}")
+	private long clusterPresenceIntervalMs;
+
+	@Value("${push.cluster.poll-batch-size:500}")
+	private int clusterPollBatchSize;
+
+	/**
+	 * 비어 있는 EVENT_ID (늦게 커밋되는 이벤트) 를 기다리는 최대 시간, 지나면 롤백된 것으로 보고 건너뛴다
+	 */
+	@Value("${push.cluster.gap-timeout-ms:10000}")
+	private long clusterGapTimeoutMs;
+
+	@Value("${push.cluster.event-retention-seconds:300}")
+	private int clusterEventRetentionSeconds;
+
+	@Value("${push.cluster.presence-stale-seconds:30}")
+	private int clusterPresenceStaleSeconds;
+
+	/**
+	 * 전체 발송 작업 실행용 (한 번에 한 작업씩 순서대로 처리)
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor pushBroadcastExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setThreadNamePrefix("push-broadcast-");
+		executor.initialize();
+		return executor;
+	}
+
+	/**
+	 * SSE 실제 전송용 (연결당 동시에 한 작업만 예약되므로 큐 길이는 연결 수 이하)
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor pushSseSenderExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(sseSenderThreads);
+		executor.setMaxPoolSize(sseSenderThreads);
+		executor.setThreadNamePrefix("push-sse-");
+		executor.initialize();
+		return executor;
+	}
+}
@@ -0,0 +1,38 @@
+package com.moa.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+
+@Configuration
+@Getter
+public class SchedulerConfig {
+
+	/**
+	 * false 면 락 없이 모든 노드에서 스케줄러를 실행한다 (단일 노드 개발 환경용)
+	 */
+	@Value("${scheduler.lock.enabled:true}")
+	private boolean lockEnabled;
+
+	/**
+	 * 비워 두면 호스트명 + 임의 접미사로 생성
+	 */
+	@Value("${scheduler.lock.node-id:}")
+	private String nodeId;
+
+	/**
+	 * 리스 유효 시간. 실행 중에는 renew-interval 마다 연장되고, 노드가 죽으면 이 시간 뒤 다른 노드가 가져간다.
+	 */
+	@Value("${scheduler.lock.lease-seconds:600}")
+	private long leaseSeconds;
+
+	@Value("${scheduler.lock.renew-interval-seconds:60}")
+	private long renewIntervalSeconds;
+
+	/**
+	 * 작업이 빨리 끝나도 획득 후 이 시간까지는 리스를 유지해 시계가 늦은 노드가 같은 트리거를 다시 실행하지 않게 한다.
+	 */
+	@Value("${scheduler.lock.min-hold-seconds:30}")
+	private long minHoldSeconds;
+}
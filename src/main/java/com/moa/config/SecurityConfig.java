@@ -100,6 +100,9 @@ public class SecurityConfig {
 						.requestMatchers("/api/community/inquiry/**").authenticated()
 						.requestMatchers("/api/admin/**").hasAuthority("ADMIN")
 						.requestMatchers("/api/push/admin/**").hasAuthority("ADMIN")
+						.requestMatchers("/api/settlements/admin/**").hasAuthority("ADMIN")
+						.requestMatchers("/api/v1/payments/admin/**").hasAuthority("ADMIN")
+						.requestMatchers("/mock-toss/**").permitAll()
 						
 						.requestMatchers(HttpMethod.GET, "/api/product/**").permitAll()
 						.requestMatchers(HttpMethod.GET, "/api/parties").permitAll()
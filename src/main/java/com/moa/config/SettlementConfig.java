@@ -0,0 +1,61 @@
+package com.moa.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.Getter;
+
+@Configuration
+@Getter
+public class SettlementConfig {
+
+	@Value("${settlement.run.worker-threads:8}")
+	private int workerThreads;
+
+	@Value("${settlement.run.max-concurrent-transfers:2}")
+	private int maxConcurrentTransfers;
+
+	@Value("${settlement.run.await-timeout-minutes:120}")
+	private long awaitTimeoutMinutes;
+
+	/**
+	 * true 면 정산 생성 시 원장을 믿지 않고 결제/몰수 내역을 다시 집계해 원장과 비교한다.
+	 */
+	@Value("${settlement.ledger.verify:false}")
+	private boolean ledgerVerify;
+
+	/**
+	 * 이체 실패 정산 재시도 (초기 시도 포함 최대 횟수, 지수 백오프)
+	 */
+	@Value("${settlement.retry.max-attempts:4}")
+	private int retryMaxAttempts;
+
+	@Value("${settlement.retry.base-delay-minutes:120}")
+	private long retryBaseDelayMinutes;
+
+	@Value("${settlement.retry.max-delay-minutes:720}")
+	private long retryMaxDelayMinutes;
+
+	@Value("${settlement.retry.batch-size:100}")
+	private int retryBatchSize;
+
+	@Value("${settlement.retry.stale-claim-minutes:30}")
+	private int retryStaleClaimMinutes;
+
+	/**
+	 * 월 정산 실행용 워커 풀 (파티 단위로 작업 분배)
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor settlementExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(workerThreads);
+		executor.setMaxPoolSize(workerThreads);
+		executor.setThreadNamePrefix("settlement-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		executor.initialize();
+		return executor;
+	}
+}
@@ -1,11 +1,19 @@
 package com.moa.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.moa.service.payment.TossApiMetrics;
+
 import lombok.Getter;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 @Getter
@@ -17,8 +25,100 @@ public class TossPaymentConfig {
 	@Value("${toss.secret.api-key:test_sk_dummy}")
 	private String secretApiKey;
 
+	/**
+	 * 부하 테스트 시 로컬 Mock 서버로 바꿔 끼울 수 있도록 분리 (예: http://localhost:8080/mock-toss)
+	 */
+	@Value("${toss.api.base-url:https://api.tosspayments.com}")
+	private String apiBaseUrl;
+
+	@Value("${toss.http.connect-timeout-ms:3000}")
+	private int connectTimeoutMs;
+
+	@Value("${toss.http.read-timeout-ms:10000}")
+	private long readTimeoutMs;
+
+	/**
+	 * 호스트(route)별 커넥션 풀 크기
+	 */
+	@Value("${toss.http.max-connections-per-route:50}")
+	private int maxConnectionsPerRoute;
+
+	@Value("${toss.http.pending-acquire-timeout-ms:5000}")
+	private long pendingAcquireTimeoutMs;
+
+	@Value("${toss.http.max-idle-ms:30000}")
+	private long maxIdleMs;
+
+	/**
+	 * 최근 sliding-window-size 건 중 실패율이 failure-rate-threshold(%) 이상이면 서킷을 연다
+	 */
+	@Value("${toss.circuit.failure-rate-threshold:50}")
+	private int circuitFailureRateThreshold;
+
+	@Value("${toss.circuit.sliding-window-size:20}")
+	private int circuitSlidingWindowSize;
+
+	@Value("${toss.circuit.minimum-calls:10}")
+	private int circuitMinimumCalls;
+
+	@Value("${toss.circuit.open-duration-ms:30000}")
+	private long circuitOpenDurationMs;
+
+	/**
+	 * HALF_OPEN 상태에서 허용하는 시험 호출 수 (모두 성공하면 CLOSED)
+	 */
+	@Value("${toss.circuit.half-open-probes:3}")
+	private int circuitHalfOpenProbes;
+
+	@Value("${toss.bulkhead.max-concurrent:20}")
+	private int bulkheadMaxConcurrent;
+
+	@Value("${toss.bulkhead.max-wait-ms:1000}")
+	private long bulkheadMaxWaitMs;
+
+	@Value("${toss.mock.enabled:false}")
+	private boolean mockEnabled;
+
+	@Value("${toss.mock.min-latency-ms:50}")
+	private long mockMinLatencyMs;
+
+	@Value("${toss.mock.max-latency-ms:300}")
+	private long mockMaxLatencyMs;
+
+	@Value("${toss.mock.failure-rate:0.05}")
+	private double mockFailureRate;
+
+	/**
+	 * 기본 RestTemplate (오픈뱅킹 등 토스 외 호출용, 설정 변경 없음)
+	 */
 	@Bean
+	@Primary
 	public RestTemplate restTemplate() {
 		return new RestTemplate();
 	}
+
+	/**
+	 * 토스 API 전용 커넥션 풀(keep-alive) 기반 RestTemplate
+	 *
+	 * 호스트별 풀을 재사용해 매 호출마다 TLS 핸드셰이크를 하지 않고,
+	 * 토스 API 호출은 TossApiMetrics 가 엔드포인트별 지연 시간을 기록한다.
+	 */
+	@Bean
+	public RestTemplate tossRestTemplate(TossApiMetrics tossApiMetrics) {
+		ConnectionProvider connectionProvider = ConnectionProvider.builder("toss-http")
+				.maxConnections(maxConnectionsPerRoute)
+				.pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+				.maxIdleTime(Duration.ofMillis(maxIdleMs))
+				.evictInBackground(Duration.ofMillis(maxIdleMs))
+				.build();
+
+		ReactorClientHttpRequestFactory requestFactory = new ReactorClientHttpRequestFactory(
+				HttpClient.create(connectionProvider).keepAlive(true));
+		requestFactory.setConnectTimeout(connectTimeoutMs);
+		requestFactory.setReadTimeout(readTimeoutMs);
+
+		RestTemplate restTemplate = new RestTemplate(requestFactory);
+		restTemplate.getInterceptors().add(tossApiMetrics);
+		return restTemplate;
+	}
 }
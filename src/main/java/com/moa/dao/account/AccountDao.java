@@ -1,5 +1,6 @@
 package com.moa.dao.account;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.ibatis.annotations.Mapper;
@@ -19,6 +20,8 @@ public interface AccountDao {
 
     Optional<Account> findActiveByUserId(@Param("userId") String userId);
 
+    List<Account> findActiveByUserIds(@Param("userIds") List<String> userIds);
+
     int updateStatus(@Param("accountId") Integer accountId, @Param("status") String status);
 
     /**
@@ -12,6 +12,8 @@ public interface TransferTransactionMapper {
 
 	void insert(TransferTransaction transaction);
 
+	int insertBatch(@Param("transactions") List<TransferTransaction> transactions);
+
 	TransferTransaction findByBankTranId(@Param("bankTranId") String bankTranId);
 
 	List<TransferTransaction> findBySettlementId(@Param("settlementId") Integer settlementId);
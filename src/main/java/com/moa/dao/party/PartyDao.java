@@ -8,6 +8,7 @@ import org.apache.ibatis.annotations.Param;
 
 import com.moa.domain.Party;
 import com.moa.domain.enums.PartyStatus;
+import com.moa.dto.party.request.PartyListCursor;
 import com.moa.dto.party.response.PartyDetailResponse;
 import com.moa.dto.party.response.PartyListResponse;
 
@@ -25,6 +26,15 @@ public interface PartyDao {
 			@Param("startDate") java.time.LocalDate startDate, @Param("offset") int offset, @Param("size") int size,
 			@Param("sort") String sort);
 
+	List<PartyListResponse> findPartyListByCursor(@Param("productId") Integer productId,
+			@Param("partyStatus") PartyStatus partyStatus, @Param("keyword") String keyword,
+			@Param("startDate") java.time.LocalDate startDate, @Param("cursor") PartyListCursor cursor,
+			@Param("limit") int limit, @Param("sort") String sort);
+
+	List<PartyListResponse> findPartyIndexRows();
+
+	PartyListResponse findPartyIndexRow(@Param("partyId") Integer partyId);
+
 	int updateParty(Party party);
 
 	int updateOttAccount(@Param("partyId") Integer partyId, @Param("ottId") String ottId,
@@ -36,6 +46,10 @@ public interface PartyDao {
 
 	int decrementCurrentMembers(@Param("partyId") Integer partyId);
 
+	Integer lockById(@Param("partyId") Integer partyId);
+
+	int activateIfFull(@Param("partyId") Integer partyId, @Param("activeMembers") int activeMembers);
+
 	List<PartyListResponse> findMyParties(@Param("userId") String userId,
 			@Param("includeClosed") boolean includeClosed);
 
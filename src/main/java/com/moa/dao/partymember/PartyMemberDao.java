@@ -28,7 +28,19 @@ public interface PartyMemberDao {
 
 	List<PartyMember> findActiveMembersExcludingLeader(@Param("partyId") Integer partyId);
 
+	List<PartyMember> findActiveMembersExcludingLeaderByPartyIds(@Param("partyIds") List<Integer> partyIds);
+
 	int deletePartyMember(@Param("partyMemberId") Integer partyMemberId);
 
 	List<PartyMember> findActiveMembershipsByUserId(@Param("userId") String userId);
+
+	int insertJoinHold(@Param("member") PartyMember partyMember, @Param("holdSeconds") long holdSeconds);
+
+	int confirmJoinHold(@Param("partyMemberId") Integer partyMemberId);
+
+	int deleteJoinHold(@Param("partyMemberId") Integer partyMemberId, @Param("expiredOnly") boolean expiredOnly);
+
+	List<PartyMember> findExpiredJoinHolds(@Param("limit") int limit);
+
+	int countActiveByPartyId(@Param("partyId") Integer partyId);
 }
\ No newline at end of file
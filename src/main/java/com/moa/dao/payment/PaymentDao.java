@@ -1,5 +1,6 @@
 package com.moa.dao.payment;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,7 @@ import org.apache.ibatis.annotations.Param;
 import com.moa.domain.Payment;
 import com.moa.dto.payment.response.PaymentDetailResponse;
 import com.moa.dto.payment.response.PaymentResponse;
+import com.moa.dto.settlement.response.SettlementPaymentSummary;
 
 @Mapper
 public interface PaymentDao {
@@ -26,6 +28,9 @@ public interface PaymentDao {
 	Optional<Payment> findByPartyMemberIdAndTargetMonth(@Param("partyMemberId") Integer partyMemberId,
 			@Param("targetMonth") String targetMonth);
 
+	List<Integer> findPaidPartyMemberIds(@Param("partyIds") List<Integer> partyIds,
+			@Param("targetMonth") String targetMonth);
+
 	Optional<Payment> findByOrderId(@Param("orderId") String orderId);
 
 	int updatePaymentStatus(@Param("paymentId") Integer paymentId, @Param("status") String status);
@@ -37,6 +42,14 @@ public interface PaymentDao {
 
 	int updateSettlementId(@Param("paymentId") Integer paymentId, @Param("settlementId") Integer settlementId);
 
+	SettlementPaymentSummary summarizeSettlementPayments(@Param("partyId") Integer partyId,
+			@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate,
+			@Param("targetMonth") String targetMonth);
+
+	int linkSettlementPayments(@Param("settlementId") Integer settlementId, @Param("partyId") Integer partyId,
+			@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate,
+			@Param("targetMonth") String targetMonth);
+
 	List<PaymentResponse> findBySettlementId(@Param("settlementId") Integer settlementId);
 
 	Optional<Payment> findLastMonthlyPayment(@Param("partyId") Integer partyId,
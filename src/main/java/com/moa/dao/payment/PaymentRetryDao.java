@@ -1,6 +1,5 @@
 package com.moa.dao.payment;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +17,18 @@ public interface PaymentRetryDao {
 
 	List<PaymentRetryHistory> findByPaymentId(@Param("paymentId") Integer paymentId);
 
-	List<PaymentRetryHistory> findByNextRetryDate(@Param("today") LocalDate today);
+	/**
+	 * 재시도 시각이 지난 건 (IDX_NEXT_RETRY 범위 조회)
+	 */
+	List<PaymentRetryHistory> findDueRetries(@Param("limit") int limit);
+
+	/**
+	 * 재시도 선점: NEXT_RETRY_DATE 를 비워 다음 조회에서 제외 (다른 인스턴스가 먼저 가져갔으면 0)
+	 */
+	int claimRetry(@Param("retryId") Integer retryId);
+
+	int rescheduleRetry(@Param("retryId") Integer retryId,
+			@Param("nextRetryDate") java.time.LocalDateTime nextRetryDate);
 
 	Optional<PaymentRetryHistory> findLatestByPaymentId(@Param("paymentId") Integer paymentId);
 }
@@ -0,0 +1,31 @@
+package com.moa.dao.push;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.moa.domain.PushBusEvent;
+
+@Mapper
+public interface PushClusterDao {
+
+	int addEvent(PushBusEvent event);
+
+	long getLastEventId();
+
+	List<PushBusEvent> getEventsAfter(@Param("lastEventId") long lastEventId, @Param("nodeId") String nodeId,
+			@Param("limit") int limit);
+
+	int deleteEventsBefore(@Param("retentionSeconds") int retentionSeconds);
+
+	int upsertPresence(@Param("receiverId") String receiverId, @Param("nodeId") String nodeId);
+
+	int deletePresence(@Param("receiverId") String receiverId, @Param("nodeId") String nodeId);
+
+	int touchPresence(@Param("nodeId") String nodeId);
+
+	List<String> getRemoteReceiverIds(@Param("nodeId") String nodeId, @Param("staleSeconds") int staleSeconds);
+
+	int deleteStalePresence(@Param("staleSeconds") int staleSeconds);
+}
@@ -14,6 +14,8 @@ public interface PushDao {
 
 	int addPush(Push push);
 
+	int addPushBatch(@Param("pushes") List<Push> pushes);
+
 	PushCode getPushCodeByName(@Param("codeName") String codeName);
 
 	List<Push> getPushList(@Param("offset") int offset, @Param("limit") int limit);
@@ -37,6 +39,8 @@ public interface PushDao {
 
 	int getUnreadCount(@Param("receiverId") String receiverId);
 
+	List<Map<String, Object>> getUnreadCounts(@Param("receiverIds") List<String> receiverIds);
+
 	List<PushCode> getPushCodeList();
 
 	PushCode getPushCodeById(@Param("pushCodeId") Integer pushCodeId);
@@ -57,5 +61,8 @@ public interface PushDao {
 
 	List<Map<String, String>> searchUsersForPush(@Param("keyword") String keyword);
 
-	List<String> getAllUserIdsExceptAdmin();
+	List<Push> getPushesAfter(@Param("receiverId") String receiverId, @Param("lastPushId") long lastPushId,
+			@Param("rewindSeconds") int rewindSeconds, @Param("limit") int limit);
+
+	List<String> getUserIdsExceptAdminAfter(@Param("lastUserId") String lastUserId, @Param("limit") int limit);
 }
\ No newline at end of file
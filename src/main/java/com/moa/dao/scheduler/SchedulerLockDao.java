@@ -0,0 +1,25 @@
+package com.moa.dao.scheduler;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.moa.domain.SchedulerLock;
+
+@Mapper
+public interface SchedulerLockDao {
+
+	int insertIfAbsent(@Param("lockName") String lockName);
+
+	int tryAcquire(@Param("lockName") String lockName, @Param("nodeId") String nodeId,
+			@Param("leaseSeconds") long leaseSeconds);
+
+	int renew(@Param("lockName") String lockName, @Param("nodeId") String nodeId,
+			@Param("leaseSeconds") long leaseSeconds);
+
+	int release(@Param("lockName") String lockName, @Param("nodeId") String nodeId,
+			@Param("minHoldSeconds") long minHoldSeconds);
+
+	List<SchedulerLock> findAll();
+}
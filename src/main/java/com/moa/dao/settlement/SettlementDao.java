@@ -29,5 +29,19 @@ public interface SettlementDao {
 
 	int updateStatus(@Param("settlementId") Integer settlementId, @Param("status") String status);
 
+	int updateAmounts(Settlement settlement);
+
 	int updateBankTranId(@Param("settlementId") Integer settlementId, @Param("bankTranId") String bankTranId);
+
+	int updateStatusBatch(@Param("settlementIds") List<Integer> settlementIds, @Param("status") String status);
+
+	int markTransferRequested(@Param("settlements") List<Settlement> settlements);
+
+	List<Integer> findIdsByTransferTranIds(@Param("transferTranIds") List<String> transferTranIds);
+
+	int completeBatch(@Param("settlements") List<Settlement> settlements);
+
+	int failBatch(@Param("settlementIds") List<Integer> settlementIds);
+
+	List<Settlement> findStaleTransfers(@Param("staleSeconds") long staleSeconds, @Param("limit") int limit);
 }
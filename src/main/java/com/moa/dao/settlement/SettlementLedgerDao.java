@@ -0,0 +1,26 @@
+package com.moa.dao.settlement;
+
+import java.util.Optional;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import com.moa.domain.SettlementLedger;
+
+@Mapper
+public interface SettlementLedgerDao {
+
+	int addPayment(@Param("partyId") Integer partyId, @Param("periodMonth") String periodMonth,
+			@Param("amount") Integer amount);
+
+	int addForfeited(@Param("partyId") Integer partyId, @Param("periodMonth") String periodMonth,
+			@Param("amount") Integer amount);
+
+	/**
+	 * 집계 결과로 원장 덮어쓰기 (정합성 검증 후 보정용)
+	 */
+	int upsertLedger(SettlementLedger ledger);
+
+	Optional<SettlementLedger> findByPartyIdAndMonth(@Param("partyId") Integer partyId,
+			@Param("periodMonth") String periodMonth);
+}
@@ -13,11 +13,29 @@ public interface SettlementRetryHistoryDao {
 
 	int insertRetry(SettlementRetryHistory retry);
 
+	/**
+	 * 재시도 큐 등록 (정산당 1건, 이미 있으면 1회차 PENDING 으로 재등록)
+	 */
+	int upsertRetry(SettlementRetryHistory retry);
+
 	Optional<SettlementRetryHistory> findById(@Param("retryId") Integer retryId);
 
 	List<SettlementRetryHistory> findBySettlementId(@Param("settlementId") Integer settlementId);
 
-	List<SettlementRetryHistory> findPendingRetries();
+	/**
+	 * 지금 재시도할 건 (RETRY_STATUS, NEXT_RETRY_DATE 인덱스)
+	 */
+	List<SettlementRetryHistory> findDueRetries(@Param("limit") int limit);
+
+	/**
+	 * PENDING → IN_PROGRESS 선점 (다른 인스턴스가 먼저 가져갔으면 0)
+	 */
+	int claimRetry(@Param("retryId") Integer retryId);
+
+	/**
+	 * 처리 중 중단된 선점 건을 PENDING 으로 되돌림
+	 */
+	int releaseStaleClaims(@Param("staleMinutes") int staleMinutes);
 
 	int updateRetryStatus(SettlementRetryHistory retry);
 
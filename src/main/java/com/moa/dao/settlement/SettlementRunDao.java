@@ -0,0 +1,15 @@
+package com.moa.dao.settlement;
+
+import java.util.Optional;
+
+import org.apache.ibatis.annotations.Mapper;
+
+import com.moa.domain.SettlementRun;
+
+@Mapper
+public interface SettlementRunDao {
+
+	int insertSettlementRun(SettlementRun settlementRun);
+
+	Optional<SettlementRun> findLatest();
+}
@@ -1,5 +1,6 @@
 package com.moa.dao.user;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.ibatis.annotations.Mapper;
@@ -13,6 +14,8 @@ public interface UserCardDao {
 
     Optional<UserCard> findByUserId(@Param("userId") String userId);
 
+    List<UserCard> findByUserIds(@Param("userIds") List<String> userIds);
+
     int deleteUserCard(@Param("userId") String userId);
     int updateUserCard(UserCard userCard); // 추가
 }
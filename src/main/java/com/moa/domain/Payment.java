@@ -33,4 +33,13 @@ public class Payment {
     private String cardCompany;
     private String targetMonth;
     private Integer settlementId;
+    private String idempotencyKey;
+
+    /**
+     * (결제 유형, 파티 멤버, 대상 월) 당 하나로 고정되는 멱등 키 (예: MONTHLY_123_202510)
+     * 토스 orderId 규칙(영문/숫자/_/-, 6~64자)을 만족하므로 정기결제는 orderId 로도 그대로 사용한다.
+     */
+    public static String idempotencyKeyOf(String paymentType, Integer partyMemberId, String targetMonth) {
+        return paymentType + "_" + partyMemberId + "_" + targetMonth.replace("-", "");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.moa.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PushBusEvent {
+    /** SSE 발송 중계 (PAYLOAD = PushDelivery) */
+    public static final String TYPE_PUSH = "PUSH";
+    /** 미읽음 수 변경 알림 (PAYLOAD = 사용자 ID 배열) */
+    public static final String TYPE_UNREAD = "UNREAD";
+
+    private Long eventId;
+    private String eventType;
+    private String originNode;
+    private String receiverId;
+    private String payload;
+    private LocalDateTime createdAt;
+}
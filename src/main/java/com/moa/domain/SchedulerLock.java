@@ -0,0 +1,23 @@
+package com.moa.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLock {
+    private String lockName;
+    private String lockedBy;
+    private LocalDateTime lockedAt;
+    private LocalDateTime lockUntil;
+    private LocalDateTime lastFinishedAt;
+    private Boolean held;
+}
@@ -29,5 +29,7 @@ public class Settlement {
     private SettlementStatus settlementStatus;
     private LocalDateTime settlementDate;
     private String bankTranId;
+    private String transferTranId;
+    private LocalDateTime transferRequestedAt;
     private LocalDateTime regDate;
 }
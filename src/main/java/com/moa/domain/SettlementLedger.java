@@ -0,0 +1,24 @@
+package com.moa.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementLedger {
+    private Integer partyId;
+    private String periodMonth;
+    private Integer paymentCount;
+    private Integer paymentTotal;
+    private Integer forfeitedCount;
+    private Integer forfeitedTotal;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package com.moa.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementRun {
+    private Integer runId;
+    private String targetMonth;
+    private Integer partyCount;
+    private Integer settled;
+    private Integer pendingAccount;
+    private Integer failed;
+    private Integer skipped;
+    private Long totalNetAmount;
+    private LocalDateTime startedAt;
+    private Long elapsedMillis;
+    private Boolean timedOut;
+}
@@ -0,0 +1,17 @@
+package com.moa.domain.enums;
+
+public enum BillingOutcome {
+    CHARGED("결제성공"),
+    FAILED("결제실패"),
+    SKIPPED("결제생략");
+
+    private final String description;
+
+    BillingOutcome(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,18 @@
+package com.moa.domain.enums;
+
+public enum SettlementOutcome {
+    SETTLED("정산완료"),
+    PENDING_ACCOUNT("계좌미등록"),
+    FAILED("정산실패"),
+    SKIPPED("정산생략");
+
+    private final String description;
+
+    SettlementOutcome(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
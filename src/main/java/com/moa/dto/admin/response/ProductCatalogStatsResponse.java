@@ -0,0 +1,19 @@
+package com.moa.dto.admin.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductCatalogStatsResponse {
+    private long hits;
+    private long misses;
+    private double hitRate;         // hits / (hits + misses), 조회가 없으면 0
+    private long loads;             // 전체 적재 횟수
+    private int productCount;
+    private int categoryCount;
+    private LocalDateTime loadedAt; // 현재 캐시 적재 시각 (무효화 후 미적재면 null)
+    private long ttlSeconds;
+}
@@ -0,0 +1,18 @@
+package com.moa.dto.admin.response;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SchedulerLockResponse {
+    private String lockName;
+    private String lockedBy;
+    private LocalDateTime lockedAt;
+    private LocalDateTime lockUntil;
+    private LocalDateTime lastFinishedAt;
+    private boolean held;           // 리스가 아직 유효한지 (실행 중이거나 최소 보유 시간 이내)
+    private boolean heldByThisNode; // 조회한 노드가 현재 실행 중인지
+}
@@ -24,4 +24,7 @@ public class TransferDepositRequest {
 	private String printContent;
 
 	private String reqClientName;
+
+	/** 이용기관이 부여하는 거래고유번호 (결과 조회 키, 없으면 은행이 부여) */
+	private String bankTranId;
 }
@@ -10,7 +10,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class TransferDepositResponse {
-    
+
+    public static final String RSP_SUCCESS = "A0000";
+    /** 은행과 통신하지 못해 이체 여부를 알 수 없음 (결과 조회로 확인해야 함) */
+    public static final String RSP_COMMUNICATION_ERROR = "A0007";
+    /** 결과 조회 시 해당 거래고유번호의 이체가 없음 */
+    public static final String RSP_NOT_FOUND = "A0008";
+
     private String rspCode;
     private String rspMessage;
     private String bankTranId;
@@ -18,13 +24,21 @@ public class TransferDepositResponse {
 
     public static TransferDepositResponse success(String bankTranId, Integer tranAmt) {
         return TransferDepositResponse.builder()
-                .rspCode("A0000")
+                .rspCode(RSP_SUCCESS)
                 .rspMessage("이체 성공")
                 .bankTranId(bankTranId)
                 .tranAmt(tranAmt)
                 .build();
     }
 
+    public static TransferDepositResponse notFound(String bankTranId) {
+        return TransferDepositResponse.builder()
+                .rspCode(RSP_NOT_FOUND)
+                .rspMessage("이체 내역 없음 (요청 미도달)")
+                .bankTranId(bankTranId)
+                .build();
+    }
+
     public static TransferDepositResponse error(String rspCode, String rspMessage) {
         return TransferDepositResponse.builder()
                 .rspCode(rspCode)
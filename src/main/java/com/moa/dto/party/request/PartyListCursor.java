@@ -0,0 +1,68 @@
+package com.moa.dto.party.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.moa.common.exception.BusinessException;
+import com.moa.common.exception.ErrorCode;
+import com.moa.dto.party.response.PartyListResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 파티 목록 keyset 페이징 커서
+ *
+ * 직전 페이지 마지막 행의 정렬 키(정렬 기준 값 + REG_DATE + PARTY_ID)를 담아
+ * 클라이언트에는 불투명한 Base64 토큰으로 내려준다. 정렬이 바뀌면 커서는 무효다.
+ */
+@Getter
+@AllArgsConstructor
+public class PartyListCursor {
+
+	private static final String VERSION = "v1";
+	private static final String SEPARATOR = "|";
+
+	private final String sort;
+	private final Integer monthlyFee;
+	private final Integer remainingSlots;
+	private final LocalDateTime startDate;
+	private final LocalDateTime regDate;
+	private final Integer partyId;
+
+	public static PartyListCursor from(String sort, PartyListResponse last) {
+		return new PartyListCursor(sort, last.getMonthlyFee(), last.getRemainingSlots(), last.getStartDateTime(),
+				last.getRegDateTime(), last.getPartyId());
+	}
+
+	public String encode() {
+		String raw = String.join(SEPARATOR, VERSION, sort, String.valueOf(monthlyFee), String.valueOf(remainingSlots),
+				String.valueOf(startDate), String.valueOf(regDate), String.valueOf(partyId));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static PartyListCursor decode(String token, String sort) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\" + SEPARATOR, -1);
+			if (parts.length != 7 || !VERSION.equals(parts[0]) || !parts[1].equals(sort)) {
+				throw new BusinessException(ErrorCode.INVALID_PARTY_CURSOR);
+			}
+			return new PartyListCursor(sort, parseInt(parts[2]), parseInt(parts[3]), parseDateTime(parts[4]),
+					LocalDateTime.parse(parts[5]), Integer.valueOf(parts[6]));
+		} catch (BusinessException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new BusinessException(ErrorCode.INVALID_PARTY_CURSOR);
+		}
+	}
+
+	private static Integer parseInt(String value) {
+		return "null".equals(value) ? null : Integer.valueOf(value);
+	}
+
+	private static LocalDateTime parseDateTime(String value) {
+		return "null".equals(value) ? null : LocalDateTime.parse(value);
+	}
+}
@@ -0,0 +1,20 @@
+package com.moa.dto.party.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartyCursorPageResponse {
+
+	private List<PartyListResponse> content;
+	private int size;
+	private boolean hasNext;
+	private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+}
@@ -1,6 +1,9 @@
 package com.moa.dto.party.response;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,4 +35,10 @@ public class PartyListResponse {
 	private String leaderNickname;
 
 	private Integer remainingSlots;
+
+	// 커서 페이징용 정렬 키 원본 (regDate/startDate 는 날짜만 내려가므로 시각까지 보관)
+	@JsonIgnore
+	private LocalDateTime regDateTime;
+	@JsonIgnore
+	private LocalDateTime startDateTime;
 }
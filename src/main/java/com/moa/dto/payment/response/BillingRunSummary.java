@@ -0,0 +1,31 @@
+package com.moa.dto.payment.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillingRunSummary {
+
+	private String targetMonth;
+	private int partyCount;
+	private int skippedParties;
+
+	private int charged;
+	private int failed;
+	private int skipped;
+	/** 토스 서킷이 열린 채로 실행 시간이 끝나 이번 실행에서 결제하지 못한 건 */
+	private int deferred;
+	/** 토스 서킷이 열려 결제를 멈추고 기다린 횟수 */
+	private int pauses;
+
+	private LocalDateTime startedAt;
+	private long elapsedMillis;
+	private boolean timedOut;
+}
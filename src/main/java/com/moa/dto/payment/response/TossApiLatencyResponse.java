@@ -0,0 +1,25 @@
+package com.moa.dto.payment.response;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TossApiLatencyResponse {
+
+	private String endpoint;
+	private long count;
+	private long errorCount;
+	private long avgMs;
+	private long p50Ms;
+	private long p95Ms;
+	private long p99Ms;
+	private long maxMs;
+	private Map<String, Long> buckets;
+}
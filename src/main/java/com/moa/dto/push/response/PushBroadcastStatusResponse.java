@@ -0,0 +1,24 @@
+package com.moa.dto.push.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PushBroadcastStatusResponse {
+
+    private String jobId;
+    private String status;
+    private String pushCode;
+    private long sent;
+    private int chunks;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
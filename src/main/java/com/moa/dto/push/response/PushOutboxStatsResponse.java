@@ -0,0 +1,22 @@
+package com.moa.dto.push.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PushOutboxStatsResponse {
+
+    private int queueDepth;
+    private int capacity;
+    private long enqueued;
+    private long written;
+    private long batches;
+    private long backpressure;
+    private long retried;
+    private long dropped;
+}
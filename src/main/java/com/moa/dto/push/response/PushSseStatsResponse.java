@@ -0,0 +1,27 @@
+package com.moa.dto.push.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PushSseStatsResponse {
+
+    private int connectedUsers;
+    private int openConnections;
+    private int maxConnections;
+    private int maxConnectionsPerUser;
+    private long opened;
+    private long evictedDead;
+    private long evictedOverUserCap;
+    private long evictedSlow;
+    private long coalescedUnread;
+    private long rejected;
+    private int replayBuffers;
+    private long replayedFromMemory;
+    private long replayedFromDb;
+}
@@ -0,0 +1,28 @@
+package com.moa.dto.settlement.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementExpectedResponse {
+
+	private Integer partyId;
+	private String settlementMonth;
+	private LocalDateTime periodStart;
+	private LocalDateTime periodEnd;
+	private Integer paymentCount;
+	private Integer paymentTotal;
+	private Integer forfeitedCount;
+	private Integer forfeitedTotal;
+	private Integer totalAmount;
+	private Integer commissionAmount;
+	private Integer expectedNetAmount;
+	private LocalDateTime updatedAt;
+}
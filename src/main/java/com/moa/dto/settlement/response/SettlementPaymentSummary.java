@@ -0,0 +1,16 @@
+package com.moa.dto.settlement.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementPaymentSummary {
+
+	private int paymentCount;
+	private int paymentTotal;
+}
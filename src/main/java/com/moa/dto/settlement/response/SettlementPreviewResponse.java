@@ -0,0 +1,30 @@
+package com.moa.dto.settlement.response;
+
+import com.moa.domain.Settlement;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementPreviewResponse {
+
+	private Integer partyId;
+	private String partyLeaderId;
+	private String settlementStatus;
+	private Integer totalAmount;
+	private Integer commissionAmount;
+	private Integer netAmount;
+
+	public static SettlementPreviewResponse from(Settlement settlement) {
+		return SettlementPreviewResponse.builder().partyId(settlement.getPartyId())
+				.partyLeaderId(settlement.getPartyLeaderId())
+				.settlementStatus(settlement.getSettlementStatus() != null ? settlement.getSettlementStatus().name() : null)
+				.totalAmount(settlement.getTotalAmount()).commissionAmount(settlement.getCommissionAmount())
+				.netAmount(settlement.getNetAmount()).build();
+	}
+}
@@ -0,0 +1,33 @@
+package com.moa.dto.settlement.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementRunSummary {
+
+	private Integer runId;
+	private String targetMonth;
+	private boolean dryRun;
+	private int partyCount;
+
+	private int settled;
+	private int pendingAccount;
+	private int failed;
+	private int skipped;
+	private long totalNetAmount;
+	private List<Integer> failedPartyIds;
+	private List<SettlementPreviewResponse> previews;
+
+	private LocalDateTime startedAt;
+	private long elapsedMillis;
+	private boolean timedOut;
+}
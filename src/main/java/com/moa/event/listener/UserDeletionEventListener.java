@@ -13,11 +13,9 @@ import com.moa.common.event.UserDeletedEvent;
 import com.moa.dao.deposit.DepositDao;
 import com.moa.dao.party.PartyDao;
 import com.moa.dao.partymember.PartyMemberDao;
-import com.moa.dao.product.ProductDao;
 import com.moa.domain.Deposit;
 import com.moa.domain.Party;
 import com.moa.domain.PartyMember;
-import com.moa.domain.Product;
 import com.moa.domain.enums.DepositStatus;
 import com.moa.domain.enums.MemberStatus;
 import com.moa.domain.enums.PartyStatus;
@@ -25,6 +23,8 @@ import com.moa.domain.enums.PushCodeType;
 import com.moa.dto.partymember.response.PartyMemberResponse;
 import com.moa.dto.push.request.TemplatePushRequest;
 import com.moa.service.deposit.DepositService;
+import com.moa.service.party.PartyListIndex;
+import com.moa.service.product.ProductCatalog;
 import com.moa.service.push.PushService;
 import com.moa.service.refund.RefundRetryService;
 
@@ -37,12 +37,13 @@ import lombok.extern.slf4j.Slf4j;
 public class UserDeletionEventListener {
 
 	private final PartyDao partyDao;
+	private final PartyListIndex partyListIndex;
 	private final PartyMemberDao partyMemberDao;
 	private final DepositDao depositDao;
 	private final DepositService depositService;
 	private final RefundRetryService refundRetryService;
 	private final PushService pushService;
-	private final ProductDao productDao;
+	private final ProductCatalog productCatalog;
 
 	@EventListener
 	@Async
@@ -97,6 +98,7 @@ public class UserDeletionEventListener {
 		case PENDING_PAYMENT:
 			log.info("PENDING_PAYMENT 파티 삭제: partyId={}", partyId);
 			partyDao.updatePartyStatus(partyId, PartyStatus.DISBANDED);
+			partyListIndex.refresh(partyId);
 			break;
 
 		case RECRUITING:
@@ -144,6 +146,7 @@ public class UserDeletionEventListener {
 		}
 
 		partyDao.updatePartyStatus(partyId, PartyStatus.DISBANDED);
+		partyListIndex.refresh(partyId);
 	}
 
 	private void disbandActiveParty(Party party, String deleteReason) {
@@ -170,6 +173,7 @@ public class UserDeletionEventListener {
 		}
 
 		partyDao.updatePartyStatus(partyId, PartyStatus.DISBANDED);
+		partyListIndex.refresh(partyId);
 	}
 
 	private void handleMemberParties(String userId, String deleteReason) {
@@ -223,11 +227,13 @@ public class UserDeletionEventListener {
 		member.setWithdrawDate(LocalDateTime.now());
 		partyMemberDao.updatePartyMember(member);
 		partyDao.decrementCurrentMembers(partyId);
+		partyListIndex.refresh(partyId);
 
 		Party updatedParty = partyDao.findById(partyId).orElse(null);
 		if (updatedParty != null && updatedParty.getPartyStatus() == PartyStatus.ACTIVE
 				&& updatedParty.getCurrentMembers() < updatedParty.getMaxMembers()) {
 			partyDao.updatePartyStatus(partyId, PartyStatus.RECRUITING);
+			partyListIndex.refresh(partyId);
 		}
 		try {
 			sendMemberWithdrawnPush(party.getPartyLeaderId(), userId, party, deleteReason);
@@ -261,20 +267,9 @@ public class UserDeletionEventListener {
 		partyMemberDao.leaveParty(partyMemberId);
 	}
 
-	private String getProductName(Integer productId) {
-		if (productId == null)
-			return "OTT 서비스";
-		try {
-			Product product = productDao.getProduct(productId);
-			return (product != null && product.getProductName() != null) ? product.getProductName() : "OTT 서비스";
-		} catch (Exception e) {
-			return "OTT 서비스";
-		}
-	}
-
 	private void sendPartyDisbandedPush(String receiverId, Party party, String reason) {
 		try {
-			String productName = getProductName(party.getProductId());
+			String productName = productCatalog.getProductName(party.getProductId());
 
 			Map<String, String> params = Map.of("productName", productName, "reason",
 					reason != null ? reason : "파티장 탈퇴");
@@ -292,7 +287,7 @@ public class UserDeletionEventListener {
 
 	private void sendMemberWithdrawnPush(String leaderId, String withdrawnUserId, Party party, String reason) {
 		try {
-			String productName = getProductName(party.getProductId());
+			String productName = productCatalog.getProductName(party.getProductId());
 
 			Map<String, String> params = Map.of("productName", productName, "memberNickname", withdrawnUserId, "reason",
 					reason != null ? reason : "회원 탈퇴");
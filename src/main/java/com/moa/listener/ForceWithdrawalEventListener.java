@@ -11,6 +11,7 @@ import com.moa.domain.Party;
 import com.moa.domain.PartyMember;
 import com.moa.domain.enums.PartyStatus;
 import com.moa.service.deposit.DepositService;
+import com.moa.service.party.PartyListIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,7 @@ public class ForceWithdrawalEventListener {
 
 	private final PartyMemberDao partyMemberDao;
 	private final PartyDao partyDao;
+	private final PartyListIndex partyListIndex;
 	private final DepositService depositService;
 
 	@EventListener
@@ -51,6 +53,7 @@ public class ForceWithdrawalEventListener {
 			log.info("파티원 탈퇴 처리 완료: partyMemberId={}", member.getPartyMemberId());
 
 			int updatedRows = partyDao.decrementCurrentMembers(event.getPartyId());
+			partyListIndex.refresh(event.getPartyId());
 			if (updatedRows > 0) {
 				log.info("파티 인원 감소 완료: partyId={}", event.getPartyId());
 			}
@@ -59,6 +62,7 @@ public class ForceWithdrawalEventListener {
 			if (party != null && party.getPartyStatus() == PartyStatus.ACTIVE) {
 				if (party.getCurrentMembers() < party.getMaxMembers()) {
 					partyDao.updatePartyStatus(event.getPartyId(), PartyStatus.RECRUITING);
+					partyListIndex.refresh(event.getPartyId());
 					log.info("파티 상태 변경: ACTIVE → RECRUITING, partyId={}", event.getPartyId());
 				}
 			}
@@ -0,0 +1,59 @@
+package com.moa.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.moa.common.event.DepositForfeitedEvent;
+import com.moa.common.event.InitialPaymentCompletedEvent;
+import com.moa.common.event.MonthlyPaymentCompletedEvent;
+import com.moa.service.settlement.SettlementLedgerService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 결제 완료 / 보증금 몰수 시 정산 원장 누적
+ *
+ * 발행한 쪽 트랜잭션이 커밋된 뒤 원장만 별도 트랜잭션(REQUIRES_NEW)으로 갱신한다.
+ * 결제 트랜잭션 안에서 갱신하면 원장 예외가 결제 트랜잭션을 rollback-only 로 만들어
+ * 토스 결제가 끝난 PAYMENT 기록까지 잃으므로, 원장 갱신 실패는 로그만 남기고
+ * 어긋난 원장은 정산 생성 시 정합성 검증에서 보정된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementLedgerEventListener {
+
+	private final SettlementLedgerService settlementLedgerService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleMonthlyPaymentCompleted(MonthlyPaymentCompletedEvent event) {
+		try {
+			settlementLedgerService.recordPayment(event.getPartyId(), event.getAmount(), event.getPaymentDate());
+		} catch (Exception e) {
+			log.error("정산 원장 갱신 실패 (월 결제): partyId={}, partyMemberId={}, error={}", event.getPartyId(),
+					event.getPartyMemberId(), e.getMessage());
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleInitialPaymentCompleted(InitialPaymentCompletedEvent event) {
+		try {
+			settlementLedgerService.recordPayment(event.getPartyId(), event.getAmount(), event.getPaymentDate());
+		} catch (Exception e) {
+			log.error("정산 원장 갱신 실패 (첫 결제): partyId={}, partyMemberId={}, error={}", event.getPartyId(),
+					event.getPartyMemberId(), e.getMessage());
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleDepositForfeited(DepositForfeitedEvent event) {
+		try {
+			settlementLedgerService.recordForfeited(event.getPartyId(), event.getAmount(), event.getForfeitedAt());
+		} catch (Exception e) {
+			log.error("정산 원장 갱신 실패 (보증금 몰수): partyId={}, depositId={}, error={}", event.getPartyId(),
+					event.getDepositId(), e.getMessage());
+		}
+	}
+}
@@ -7,6 +7,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moa.common.aspect.DistributedLock;
 import com.moa.dao.party.PartyDao;
 import com.moa.domain.Party;
 
@@ -22,6 +23,7 @@ public class ExpiredPartyCleanupScheduler {
 
 	private static final int RETENTION_DAYS = 30;
 
+	@DistributedLock(name = "party.expired-cleanup")
 	@Scheduled(cron = "0 0 4 * * *")
 	@Transactional
 	public void cleanupExpiredClosedParties() {
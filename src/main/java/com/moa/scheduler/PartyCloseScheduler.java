@@ -7,15 +7,15 @@ import java.util.Map;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.moa.common.aspect.DistributedLock;
 import com.moa.dao.party.PartyDao;
 import com.moa.dao.partymember.PartyMemberDao;
-import com.moa.dao.product.ProductDao;
 import com.moa.domain.Party;
 import com.moa.domain.PartyMember;
-import com.moa.domain.Product;
 import com.moa.domain.enums.PushCodeType;
 import com.moa.dto.push.request.TemplatePushRequest;
 import com.moa.service.party.PartyService;
+import com.moa.service.product.ProductCatalog;
 import com.moa.service.push.PushService;
 
 import lombok.RequiredArgsConstructor;
@@ -30,9 +30,10 @@ public class PartyCloseScheduler {
 	private final PartyService partyService;
 
 	private final PushService pushService;
-	private final ProductDao productDao;
+	private final ProductCatalog productCatalog;
 	private final PartyMemberDao partyMemberDao;
 
+	@DistributedLock(name = "party.close")
 	@Scheduled(cron = "0 0 3 * * *")
 	public void closeExpiredParties() {
 		log.info("===== Party Close Scheduler Started =====");
@@ -73,22 +74,9 @@ public class PartyCloseScheduler {
 		}
 	}
 
-	private String getProductName(Integer productId) {
-		if (productId == null)
-			return "OTT 서비스";
-
-		try {
-			Product product = productDao.getProduct(productId);
-			return (product != null && product.getProductName() != null) ? product.getProductName() : "OTT 서비스";
-		} catch (Exception e) {
-			log.warn("상품 조회 실패: productId={}", productId);
-			return "OTT 서비스";
-		}
-	}
-
 	private void sendPartyClosedPush(Party party) {
 		try {
-			String productName = getProductName(party.getProductId());
+			String productName = productCatalog.getProductName(party.getProductId());
 
 			List<PartyMember> members = partyMemberDao.findActiveByPartyId(party.getPartyId());
 
@@ -0,0 +1,34 @@
+package com.moa.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.moa.common.aspect.DistributedLock;
+import com.moa.service.party.PartyService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 파티 가입 좌석 선점 반납
+ *
+ * 결제 도중 서버가 내려가는 등으로 joinParty 가 반납하지 못한 PENDING_PAYMENT 좌석을
+ * HOLD_UNTIL 이 지나면 삭제하고 정원을 되돌린다.
+ * 30초 주기라 spring.task.scheduling.pool.size 로 스케줄러 스레드를 여러 개 두어 야간 배치에 밀리지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartyJoinHoldScheduler {
+
+	private final PartyService partyService;
+
+	@DistributedLock(name = "party.join-hold-reaper")
+	@Scheduled(fixedDelayString = "${party.join.reaper-interval-ms:30000}")
+	public void releaseExpiredJoinHolds() {
+		int released = partyService.releaseExpiredJoinHolds();
+		if (released > 0) {
+			log.warn("만료된 파티 가입 선점 {}건 반납", released);
+		}
+	}
+}
@@ -8,17 +8,19 @@ import java.util.Map;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.moa.common.aspect.DistributedLock;
+import com.moa.config.BillingConfig;
 import com.moa.dao.party.PartyDao;
 import com.moa.dao.partymember.PartyMemberDao;
-import com.moa.dao.product.ProductDao;
 import com.moa.domain.Party;
 import com.moa.domain.PartyMember;
 import com.moa.domain.PaymentRetryHistory;
-import com.moa.domain.Product;
 import com.moa.domain.enums.PushCodeType;
 import com.moa.dto.push.request.TemplatePushRequest;
+import com.moa.service.payment.BillingRunService;
 import com.moa.service.payment.PaymentRetryService;
-import com.moa.service.payment.PaymentService;
+import com.moa.service.payment.TossCircuitBreaker;
+import com.moa.service.product.ProductCatalog;
 import com.moa.service.push.PushService;
 
 import lombok.RequiredArgsConstructor;
@@ -31,11 +33,14 @@ public class PaymentScheduler {
 
 	private final PartyDao partyDao;
 	private final PartyMemberDao partyMemberDao;
-	private final PaymentService paymentService;
+	private final BillingRunService billingRunService;
 	private final PaymentRetryService retryService;
 	private final PushService pushService;
-	private final ProductDao productDao;
+	private final ProductCatalog productCatalog;
+	private final BillingConfig billingConfig;
+	private final TossCircuitBreaker tossCircuitBreaker;
 
+	@DistributedLock(name = "payment.daily")
 	@Scheduled(cron = "0 0 2 * * *")
 	public void runDailyPayments() {
 		log.info("Starting daily payment scheduler...");
@@ -44,7 +49,6 @@ public class PaymentScheduler {
 		String targetMonth = today.format(DateTimeFormatter.ofPattern("yyyy-MM"));
 
 		processNewMonthlyPayments(today, targetMonth);
-		processRetryPayments(today, targetMonth);
 
 		log.info("Daily payment scheduler finished.");
 	}
@@ -58,60 +62,34 @@ public class PaymentScheduler {
 		List<Party> parties = partyDao.findPartiesByPaymentDay(currentDay, lastDayOfMonth);
 		log.info("Found {} parties for payment on day {}", parties.size(), currentDay);
 
-		for (Party party : parties) {
-			try {
-				processPartyPayments(party, targetMonth);
-			} catch (Exception e) {
-				log.error("Failed to process payments for partyId: {}", party.getPartyId(), e);
-			}
-		}
+		billingRunService.runMonthlyBilling(parties, targetMonth);
 	}
 
-	private void processPartyPayments(Party party, String targetMonth) {
-		if (!isPartyPaymentEligible(party)) {
-			log.warn("결제 불가능한 파티 상태, 스킵: partyId={}, status={}", party.getPartyId(), party.getPartyStatus());
+	/**
+	 * 재시도는 정기결제와 분리해 1분마다 처리한다.
+	 * 한 번에 billing.retry.max-per-minute 건까지만 시도해 토스 호출량을 제한한다.
+	 * 토스 서킷이 열려 있으면 이번 회차는 건너뛴다.
+	 * 스케줄러 풀(spring.task.scheduling.pool.size)에서 돌기 때문에 02:00 정기결제 실행 중에도 계속 폴링하며,
+	 * 정기결제가 마감까지 서킷이 닫히지 않아 미룬 결제도 여기서 이어서 처리한다.
+	 */
+	@DistributedLock(name = "payment.retry")
+	@Scheduled(fixedDelayString = "${billing.retry.poll-interval-ms:60000}")
+	public void processRetryPayments() {
+		if (!tossCircuitBreaker.isCallPermitted()) {
 			return;
 		}
-		Party freshParty = partyDao.findById(party.getPartyId()).orElse(null);
-		if (freshParty == null || !isPartyPaymentEligible(freshParty)) {
-			log.warn("결제 처리 중 파티 상태 변경 감지, 스킵: partyId={}", party.getPartyId());
+		List<PaymentRetryHistory> retries = retryService.findDueRetries(Math.max(1, billingConfig.getRetryMaxPerMinute()));
+		if (retries.isEmpty()) {
 			return;
 		}
+		log.info("Found {} payments due for retry", retries.size());
 
-		List<PartyMember> members = partyMemberDao.findActiveMembersExcludingLeader(party.getPartyId());
-
-		log.info("Processing {} active members for partyId: {}", members.size(), party.getPartyId());
-
-		for (PartyMember member : members) {
-			try {
-				paymentService.processMonthlyPayment(party.getPartyId(), member.getPartyMemberId(), member.getUserId(),
-						party.getMonthlyFee(), targetMonth);
-			} catch (Exception e) {
-				log.error("Failed to process payment for partyMemberId: {}", member.getPartyMemberId(), e);
-			}
-		}
-	}
-
-	private boolean isPartyPaymentEligible(Party party) {
-		if (party == null) {
-			return false;
-		}
-
-		return switch (party.getPartyStatus()) {
-		case ACTIVE -> true;
-		case RECRUITING -> false;
-		case PENDING_PAYMENT -> false;
-		case SUSPENDED -> false;
-		case DISBANDED -> false;
-		case CLOSED -> false;
-		};
-	}
-
-	private void processRetryPayments(LocalDate today, String targetMonth) {
-		List<PaymentRetryHistory> retries = retryService.findPendingRetries(today);
-		log.info("Found {} payments pending retry", retries.size());
-
+		String targetMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
 		for (PaymentRetryHistory retry : retries) {
+			if (!tossCircuitBreaker.isCallPermitted()) {
+				log.warn("Toss circuit {}, pausing payment retries until next poll", tossCircuitBreaker.getState());
+				return;
+			}
 			try {
 				retryService.retryPayment(retry, targetMonth);
 			} catch (Exception e) {
@@ -120,6 +98,7 @@ public class PaymentScheduler {
 		}
 	}
 
+	@DistributedLock(name = "payment.upcoming-notification")
 	@Scheduled(cron = "0 0 18 * * *")
 	public void sendPaymentUpcomingNotifications() {
 		log.info("===== Payment Upcoming Notification Started =====");
@@ -168,21 +147,8 @@ public class PaymentScheduler {
 		}
 	}
 
-	private String getProductName(Integer productId) {
-		if (productId == null)
-			return "OTT 서비스";
-
-		try {
-			Product product = productDao.getProduct(productId);
-			return (product != null && product.getProductName() != null) ? product.getProductName() : "OTT 서비스";
-		} catch (Exception e) {
-			log.warn("상품 조회 실패: productId={}", productId);
-			return "OTT 서비스";
-		}
-	}
-
 	private void sendPaymentUpcomingPush(Party party, PartyMember member) {
-		String productName = getProductName(party.getProductId());
+		String productName = productCatalog.getProductName(party.getProductId());
 		LocalDate tomorrow = LocalDate.now().plusDays(1);
 
 		Map<String, String> params = Map.of("productName", productName, "amount", String.valueOf(party.getMonthlyFee()),
@@ -7,14 +7,14 @@ import java.util.Map;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.moa.common.aspect.DistributedLock;
 import com.moa.dao.party.PartyDao;
-import com.moa.dao.product.ProductDao;
 import com.moa.domain.Party;
-import com.moa.domain.Product;
 import com.moa.domain.enums.PartyStatus;
 import com.moa.domain.enums.PushCodeType;
 import com.moa.dto.push.request.TemplatePushRequest;
 import com.moa.service.party.PartyService;
+import com.moa.service.product.ProductCatalog;
 import com.moa.service.push.PushService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,9 +28,10 @@ public class PaymentTimeoutScheduler {
 	private final PartyDao partyDao;
 	private final PartyService partyService;
 	private final PushService pushService;
-	private final ProductDao productDao;
+	private final ProductCatalog productCatalog;
 	private static final int TIMEOUT_MINUTES = 30;
 
+	@DistributedLock(name = "payment.timeout")
 	@Scheduled(fixedRate = 5 * 60 * 1000)
 	public void checkPaymentTimeout() {
 		log.info("결제 타임아웃 체크 시작");
@@ -67,22 +68,9 @@ public class PaymentTimeoutScheduler {
 		}
 	}
 
-	private String getProductName(Integer productId) {
-		if (productId == null)
-			return "OTT 서비스";
-
-		try {
-			Product product = productDao.getProduct(productId);
-			return (product != null && product.getProductName() != null) ? product.getProductName() : "OTT 서비스";
-		} catch (Exception e) {
-			log.warn("상품 조회 실패: productId={}", productId);
-			return "OTT 서비스";
-		}
-	}
-
 	private void sendPaymentTimeoutPush(Party party) {
 		try {
-			String productName = getProductName(party.getProductId());
+			String productName = productCatalog.getProductName(party.getProductId());
 
 			Map<String, String> params = Map.of("productName", productName, "timeoutMinutes",
 					String.valueOf(TIMEOUT_MINUTES));
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moa.common.aspect.DistributedLock;
 import com.moa.dao.deposit.DepositDao;
 import com.moa.dao.refund.RefundRetryHistoryDao;
 
@@ -21,6 +22,7 @@ public class PendingDepositCleanupScheduler {
 	private final RefundRetryHistoryDao refundRetryHistoryDao;
 	private static final int PENDING_TIMEOUT_HOURS = 24;
 
+	@DistributedLock(name = "deposit.pending-cleanup")
 	@Scheduled(cron = "0 0 3 * * *")
 	@Transactional
 	public void cleanupStalePendingDeposits() {
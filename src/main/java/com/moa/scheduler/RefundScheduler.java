@@ -6,15 +6,15 @@ import java.util.Map;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.moa.common.aspect.DistributedLock;
 import com.moa.dao.deposit.DepositDao;
 import com.moa.dao.party.PartyDao;
-import com.moa.dao.product.ProductDao;
 import com.moa.domain.Deposit;
 import com.moa.domain.Party;
-import com.moa.domain.Product;
 import com.moa.domain.RefundRetryHistory;
 import com.moa.domain.enums.PushCodeType;
 import com.moa.dto.push.request.TemplatePushRequest;
+import com.moa.service.product.ProductCatalog;
 import com.moa.service.push.PushService;
 import com.moa.service.refund.RefundRetryService;
 
@@ -30,8 +30,9 @@ public class RefundScheduler {
 	private final PushService pushService;
 	private final DepositDao depositDao;
 	private final PartyDao partyDao;
-	private final ProductDao productDao;
+	private final ProductCatalog productCatalog;
 
+	@DistributedLock(name = "refund.retry")
 	@Scheduled(cron = "0 0 * * * *")
 	public void processRefundRetries() {
 		log.info("===== Refund Retry Scheduler Started =====");
@@ -71,19 +72,6 @@ public class RefundScheduler {
 		}
 	}
 
-	private String getProductName(Integer productId) {
-		if (productId == null)
-			return "OTT 서비스";
-
-		try {
-			Product product = productDao.getProduct(productId);
-			return (product != null && product.getProductName() != null) ? product.getProductName() : "OTT 서비스";
-		} catch (Exception e) {
-			log.warn("상품 조회 실패: productId={}", productId);
-			return "OTT 서비스";
-		}
-	}
-
 	private void sendRefundSuccessPush(RefundRetryHistory retry) {
 		try {
 			Deposit deposit = depositDao.findById(retry.getDepositId()).orElse(null);
@@ -94,7 +82,7 @@ public class RefundScheduler {
 			if (party == null)
 				return;
 
-			String productName = getProductName(party.getProductId());
+			String productName = productCatalog.getProductName(party.getProductId());
 
 			Map<String, String> params = Map.of("productName", productName, "amount", String
 					.valueOf(retry.getRefundAmount() != null ? retry.getRefundAmount() : deposit.getDepositAmount()));
@@ -1,21 +1,18 @@
 package com.moa.scheduler;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import com.moa.common.event.SettlementCompletedEvent;
-import com.moa.dao.party.PartyDao;
-import com.moa.dao.settlement.SettlementDao;
-import com.moa.domain.Party;
-import com.moa.domain.Settlement;
-import com.moa.domain.enums.SettlementStatus;
-import com.moa.service.settlement.SettlementService;
+import com.moa.common.aspect.DistributedLock;
+import com.moa.config.SettlementConfig;
+import com.moa.domain.SettlementRetryHistory;
+import com.moa.dto.settlement.response.SettlementRunSummary;
+import com.moa.service.settlement.SettlementRetryService;
+import com.moa.service.settlement.SettlementRunService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,13 +22,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SettlementScheduler {
 
-	private final PartyDao partyDao;
-	private final SettlementDao settlementDao;
-	private final SettlementService settlementService;
-	private final ApplicationEventPublisher eventPublisher;
-	private static final int MAX_RETRY_ATTEMPTS = 3;
-	private static final int RETRY_DELAY_HOURS = 2;
+	private final SettlementRunService settlementRunService;
+	private final SettlementRetryService settlementRetryService;
+	private final SettlementConfig settlementConfig;
 
+	@DistributedLock(name = "settlement.monthly")
 	@Scheduled(cron = "0 0 4 1 * *")
 	public void runMonthlySettlement() {
 		log.info("Starting monthly settlement scheduler...");
@@ -39,85 +34,44 @@ public class SettlementScheduler {
 		LocalDate lastMonth = now.minusMonths(1);
 		String targetMonth = lastMonth.format(DateTimeFormatter.ofPattern("yyyy-MM"));
 
-		List<Party> activeParties = partyDao.findActiveParties();
-		if (activeParties.isEmpty()) {
-			log.info("No active parties found for settlement.");
-			return;
-		}
-
-		for (Party party : activeParties) {
-			try {
-				Settlement settlement = settlementService.createMonthlySettlement(party.getPartyId(), targetMonth);
-
-				if (settlement == null) {
-					log.info("No payments to settle for partyId: {} in month: {}", party.getPartyId(), targetMonth);
-					continue;
-				}
-
-				settlementService.completeSettlement(settlement.getSettlementId());
-				eventPublisher.publishEvent(new SettlementCompletedEvent(party.getPartyId(), settlement.getNetAmount(),
-						party.getPartyLeaderId()));
+		SettlementRunSummary summary = settlementRunService.runMonthlySettlement(targetMonth, false);
 
-			} catch (Exception e) {
-				log.error("Failed to process settlement for partyId: {}", party.getPartyId(), e);
-			}
-		}
-
-		log.info("Monthly settlement scheduler finished.");
+		log.info("Monthly settlement scheduler finished. settled={}, failed={}", summary.getSettled(),
+				summary.getFailed());
 	}
 
-	@Scheduled(cron = "0 0 * * * *")
+	/**
+	 * 재시도 큐에서 지금 처리할 건만 꺼낸다 (종료된 건은 조회 대상이 아님)
+	 */
+	@DistributedLock(name = "settlement.retry")
+	@Scheduled(fixedDelayString = "${settlement.retry.poll-interval-ms:300000}")
 	public void retryFailedSettlements() {
-		log.info("Starting failed settlement retry scheduler...");
-
-		List<Settlement> failedSettlements = settlementDao.findFailedSettlements();
-		if (failedSettlements.isEmpty()) {
-			log.info("No failed settlements to retry.");
-			return;
+		int released = settlementRetryService.releaseStaleClaims();
+		if (released > 0) {
+			log.warn("Released {} stale settlement retry claims", released);
 		}
 
-		log.info("Found {} failed settlements to retry", failedSettlements.size());
-
-		for (Settlement settlement : failedSettlements) {
-			try {
-				if (settlement.getBankTranId() != null && !settlement.getBankTranId().isEmpty()) {
-					log.warn("Settlement {} has bankTranId but status is FAILED. Manual intervention required.",
-							settlement.getSettlementId());
-					continue;
+		int batchSize = Math.max(1, settlementConfig.getRetryBatchSize());
+		int processed = 0;
+		int succeeded = 0;
+
+		List<SettlementRetryHistory> dueRetries;
+		do {
+			dueRetries = settlementRetryService.findDueRetries(batchSize);
+			for (SettlementRetryHistory retry : dueRetries) {
+				try {
+					if (settlementRetryService.retrySettlement(retry)) {
+						succeeded++;
+					}
+				} catch (Exception e) {
+					log.error("Failed to retry settlement {}: {}", retry.getSettlementId(), e.getMessage());
 				}
-				LocalDateTime createdTime = settlement.getRegDate();
-				LocalDateTime now = LocalDateTime.now();
-				long hoursSinceCreation = java.time.Duration.between(createdTime, now).toHours();
-
-				if (hoursSinceCreation < RETRY_DELAY_HOURS) {
-					log.debug("Settlement {} too recent to retry ({}h < {}h)", settlement.getSettlementId(),
-							hoursSinceCreation, RETRY_DELAY_HOURS);
-					continue;
-				}
-				if (hoursSinceCreation > 24) {
-					log.warn("Settlement {} retry timed out ({}h > 24h). Stopping retries.",
-							settlement.getSettlementId(), hoursSinceCreation);
-					continue;
-				}
-				log.info("Retrying settlement {}", settlement.getSettlementId());
-				settlementDao.updateSettlementStatus(settlement.getSettlementId(), SettlementStatus.PENDING.name(),
-						null);
-				settlementService.completeSettlement(settlement.getSettlementId());
-
-				Party party = partyDao.findById(settlement.getPartyId()).orElse(null);
-				if (party != null) {
-					eventPublisher.publishEvent(new SettlementCompletedEvent(settlement.getPartyId(),
-							settlement.getNetAmount(), settlement.getPartyLeaderId()));
-				}
-
-				log.info("Successfully retried settlement {}", settlement.getSettlementId());
-
-			} catch (Exception e) {
-				log.error("Failed to retry settlement {}: {}", settlement.getSettlementId(), e.getMessage());
-
+				processed++;
 			}
-		}
+		} while (dueRetries.size() == batchSize);
 
-		log.info("Failed settlement retry scheduler finished.");
+		if (processed > 0) {
+			log.info("Settlement retry finished. processed={}, succeeded={}", processed, succeeded);
+		}
 	}
 }
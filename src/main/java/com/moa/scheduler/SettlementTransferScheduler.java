@@ -1,21 +1,30 @@
 package com.moa.scheduler;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.moa.common.aspect.DistributedLock;
+import com.moa.config.OpenBankingConfig;
 import com.moa.dao.account.AccountDao;
 import com.moa.dao.openbanking.TransferTransactionMapper;
 import com.moa.dao.party.PartyDao;
-import com.moa.dao.product.ProductDao;
 import com.moa.dao.settlement.SettlementDao;
 import com.moa.domain.Account;
 import com.moa.domain.Party;
-import com.moa.domain.Product;
 import com.moa.domain.Settlement;
 import com.moa.domain.enums.PushCodeType;
 import com.moa.domain.openbanking.TransactionStatus;
@@ -23,25 +32,43 @@ import com.moa.domain.openbanking.TransferTransaction;
 import com.moa.dto.openbanking.TransferDepositRequest;
 import com.moa.dto.openbanking.TransferDepositResponse;
 import com.moa.dto.push.request.TemplatePushRequest;
-import com.moa.service.openbanking.OpenBankingClient;
+import com.moa.service.openbanking.AsyncTransferClient;
+import com.moa.service.product.ProductCatalog;
 import com.moa.service.push.PushService;
+import com.moa.service.settlement.SettlementRetryService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 정산 입금이체
+ *
+ * 이체 요청 전에 정산마다 거래고유번호(TRANSFER_TRAN_ID)를 부여해 IN_PROGRESS 로 기록한다.
+ * 응답이 늦은 이체는 응답이 오는 대로 반영하고, 결과 저장에 실패했거나 은행과 통신하지 못한 건은
+ * 대사(reconcileStaleTransfers)가 거래고유번호로 결과를 조회해 확정한다. 결과 조회 없이 재시도하지 않는다 (중복 이체 방지).
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SettlementTransferScheduler {
 
+	private static final DateTimeFormatter TRAN_ID_TIME = DateTimeFormatter.ofPattern("yyMMddHHmmss");
+
 	private final SettlementDao settlementDao;
 	private final AccountDao accountDao;
 	private final TransferTransactionMapper transactionMapper;
-	private final OpenBankingClient openBankingClient;
 	private final PushService pushService;
 	private final PartyDao partyDao;
-	private final ProductDao productDao;
+	private final ProductCatalog productCatalog;
+	private final AsyncTransferClient asyncTransferClient;
+	private final OpenBankingConfig openBankingConfig;
+	private final TransactionTemplate transactionTemplate;
+	private final SettlementRetryService settlementRetryService;
+
+	/** 이 노드에서 은행 응답(또는 결과 반영)을 기다리는 정산 ID, 대사 대상에서 제외한다 */
+	private final Set<Integer> awaitingResponse = ConcurrentHashMap.newKeySet();
 
+	@DistributedLock(name = "settlement.transfer")
 	@Scheduled(cron = "0 0 10 * * *")
 	public void processSettlementTransfers() {
 		log.info("[정산스케줄러] 자동 이체 처리 시작");
@@ -54,102 +81,338 @@ public class SettlementTransferScheduler {
 
 		log.info("[정산스케줄러] 처리 대상: {}건", pendingSettlements.size());
 
-		int successCount = 0;
-		int failCount = 0;
-		int skipCount = 0;
+		long startedAt = System.currentTimeMillis();
+		int batchSize = Math.max(1, openBankingConfig.getTransferBatchSize());
+		TransferBatchResult total = new TransferBatchResult();
 
-		for (Settlement settlement : pendingSettlements) {
+		for (int from = 0; from < pendingSettlements.size(); from += batchSize) {
+			List<Settlement> chunk = pendingSettlements.subList(from,
+					Math.min(from + batchSize, pendingSettlements.size()));
 			try {
-				boolean result = processSettlement(settlement);
-				if (result) {
-					successCount++;
-				} else {
-					skipCount++;
-				}
+				total.add(processSettlementBatch(chunk));
 			} catch (Exception e) {
-				log.error("[정산스케줄러] 정산 처리 실패 - settlementId: {}", settlement.getSettlementId(), e);
-				failCount++;
+				// 이체 요청 전(계좌 조회, 요청 기록) 실패라 묶음은 PENDING 그대로 다음 실행에서 처리된다
+				log.error("[정산스케줄러] 배치 준비 실패 - {}건 다음 실행으로 이월", chunk.size(), e);
+				total.skipCount += chunk.size();
 			}
 		}
 
-		log.info("[정산스케줄러] 처리 완료 - 성공: {}, 실패: {}, 건너뜀: {}", successCount, failCount, skipCount);
+		long elapsedMs = Math.max(1, System.currentTimeMillis() - startedAt);
+		int transferred = total.successCount + total.failCount;
+		log.info("[정산스케줄러] 처리 완료 - 성공: {}, 실패: {}, 확인대기: {}, 건너뜀: {}, 소요: {}ms, 처리량: {}건/초",
+				total.successCount, total.failCount, total.pendingCount, total.skipCount, elapsedMs,
+				String.format("%.1f", transferred * 1000.0 / elapsedMs));
 	}
 
-	@Transactional
-	public boolean processSettlement(Settlement settlement) {
-		log.info("[정산처리] 시작 - settlementId: {}, 파티장: {}, 금액: {}", settlement.getSettlementId(),
-				settlement.getPartyLeaderId(), settlement.getNetAmount());
+	/**
+	 * 정산 묶음 이체: 계좌 일괄 조회 → 요청 일괄 기록 → 이체 동시 호출 → 결과 일괄 저장
+	 *
+	 * 요청을 기록한 뒤에는 예외를 밖으로 던지지 않는다. 결과를 확정하지 못한 건은 pendingCount 로 센다.
+	 */
+	private TransferBatchResult processSettlementBatch(List<Settlement> chunk) {
+		TransferBatchResult result = new TransferBatchResult();
+
+		Map<String, Account> accounts = findAccounts(chunk);
+
+		List<Settlement> transferable = new ArrayList<>();
+		for (Settlement settlement : chunk) {
+			Account account = accounts.get(settlement.getPartyLeaderId());
+			if (account == null || account.getFintechUseNum() == null || account.getFintechUseNum().isBlank()) {
+				log.warn("[정산처리] 계좌 미등록 - 파티장: {}", settlement.getPartyLeaderId());
+				sendAccountRequiredPush(settlement);
+				result.skipCount++;
+				continue;
+			}
+			settlement.setTransferTranId(newTransferTranId(settlement));
+			transferable.add(settlement);
+		}
 
-		Optional<Account> accountOpt = accountDao.findActiveByUserId(settlement.getPartyLeaderId());
+		if (transferable.isEmpty()) {
+			return result;
+		}
 
-		if (accountOpt.isEmpty()) {
-			log.warn("[정산처리] 계좌 미등록 - 파티장: {}", settlement.getPartyLeaderId());
+		// 조회 이후 다른 실행/경로가 상태를 바꾼 건은 기록되지 않으므로, 이번에 기록된 건만 이체한다
+		int marked = settlementDao.markTransferRequested(transferable);
+		if (marked < transferable.size()) {
+			Set<Integer> markedIds = Set.copyOf(settlementDao
+					.findIdsByTransferTranIds(transferable.stream().map(Settlement::getTransferTranId).toList()));
+			int before = transferable.size();
+			transferable.removeIf(settlement -> !markedIds.contains(settlement.getSettlementId()));
+			log.warn("[정산스케줄러] 이미 처리 중이거나 상태가 바뀐 정산 {}건 제외", before - transferable.size());
+			result.skipCount += before - transferable.size();
+			if (transferable.isEmpty()) {
+				return result;
+			}
+		}
 
-			sendAccountRequiredPush(settlement);
+		List<CompletableFuture<TransferDepositResponse>> futures = new ArrayList<>(transferable.size());
+		for (Settlement settlement : transferable) {
+			awaitingResponse.add(settlement.getSettlementId());
+			futures.add(asyncTransferClient.transferAsync(
+					transferRequest(settlement, accounts.get(settlement.getPartyLeaderId()).getFintechUseNum())));
+		}
 
-			return false;
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+					.get(openBankingConfig.getTransferAwaitTimeoutSeconds(), TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | TimeoutException e) {
+			log.warn("[정산스케줄러] 이체 응답 대기 초과 - 미응답 건은 응답이 오는 대로 반영합니다");
 		}
 
-		Account account = accountOpt.get();
+		List<TransferTransaction> transactions = new ArrayList<>();
+		List<Settlement> completed = new ArrayList<>();
+		List<Settlement> failed = new ArrayList<>();
+		List<String> failCodes = new ArrayList<>();
+		List<String> failMessages = new ArrayList<>();
+		List<Integer> answered = new ArrayList<>();
+
+		for (int i = 0; i < transferable.size(); i++) {
+			CompletableFuture<TransferDepositResponse> future = futures.get(i);
+			Settlement settlement = transferable.get(i);
+			String fintechUseNum = accounts.get(settlement.getPartyLeaderId()).getFintechUseNum();
+
+			if (!future.isDone()) {
+				// 은행 응답 전이므로 성공/실패를 단정하지 않고, 응답이 오면 그때 반영한다 (중복 이체 방지)
+				future.whenComplete((response, error) -> applyLateResult(settlement, fintechUseNum, response));
+				result.pendingCount++;
+				continue;
+			}
 
-		if (account.getFintechUseNum() == null || account.getFintechUseNum().isBlank()) {
-			log.warn("[정산처리] 핀테크번호 없음 - 파티장: {}", settlement.getPartyLeaderId());
-			sendAccountRequiredPush(settlement);
-			return false;
+			answered.add(settlement.getSettlementId());
+			TransferDepositResponse response = future.getNow(null);
+			if (isUnknown(response)) {
+				log.warn("[정산처리] 이체 결과 미확인 - settlementId: {}, 대사에서 확정", settlement.getSettlementId());
+				result.pendingCount++;
+				continue;
+			}
+
+			boolean success = TransferDepositResponse.RSP_SUCCESS.equals(response.getRspCode());
+			transactions.add(toTransaction(settlement, fintechUseNum, response));
+
+			if (success) {
+				settlement.setBankTranId(bankTranIdOf(settlement, response));
+				completed.add(settlement);
+			} else {
+				log.error("[정산처리] 실패 - settlementId: {}, 에러: {}", settlement.getSettlementId(),
+						response.getRspMessage());
+				failed.add(settlement);
+				failCodes.add(response.getRspCode());
+				failMessages.add(response.getRspMessage());
+			}
 		}
 
-		settlementDao.updateStatus(settlement.getSettlementId(), "IN_PROGRESS");
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				if (!transactions.isEmpty()) {
+					transactionMapper.insertBatch(transactions);
+				}
+				if (!completed.isEmpty()) {
+					settlementDao.completeBatch(completed);
+				}
+				if (!failed.isEmpty()) {
+					settlementDao.failBatch(failed.stream().map(Settlement::getSettlementId).toList());
+				}
+			});
+		} catch (Exception e) {
+			// IN_PROGRESS 로 남은 건은 대사가 거래고유번호로 결과를 조회해 확정한다
+			log.error("[정산스케줄러] 이체 결과 저장 실패 - {}건 대사에서 확정", completed.size() + failed.size(), e);
+			result.pendingCount += completed.size() + failed.size();
+			return result;
+		} finally {
+			answered.forEach(awaitingResponse::remove);
+		}
 
-		TransferDepositRequest request = TransferDepositRequest.builder().fintechUseNum(account.getFintechUseNum())
-				.tranAmt(settlement.getNetAmount()).printContent("MOA정산").reqClientName("MOA").build();
+		for (Settlement settlement : completed) {
+			sendSettlementCompletedPush(settlement);
+		}
+		for (int i = 0; i < failed.size(); i++) {
+			scheduleRetry(failed.get(i), failCodes.get(i), failMessages.get(i));
+			sendSettlementFailedPush(failed.get(i), failMessages.get(i));
+		}
 
-		TransferDepositResponse response = openBankingClient.transferDeposit(request);
+		result.successCount = completed.size();
+		result.failCount = failed.size();
+		return result;
+	}
 
-		TransferTransaction transaction = TransferTransaction.builder().settlementId(settlement.getSettlementId())
-				.bankTranId(response.getBankTranId()).fintechUseNum(account.getFintechUseNum())
-				.tranAmt(settlement.getNetAmount()).printContent("MOA정산").reqClientName("MOA")
-				.rspCode(response.getRspCode()).rspMessage(response.getRspMessage())
-				.status("A0000".equals(response.getRspCode()) ? TransactionStatus.SUCCESS : TransactionStatus.FAILED)
-				.build();
+	/**
+	 * 대기 시간 안에 응답하지 않은 이체의 결과 반영 (이체 스레드에서 실행)
+	 */
+	private void applyLateResult(Settlement settlement, String fintechUseNum, TransferDepositResponse response) {
+		try {
+			if (isUnknown(response)) {
+				log.warn("[정산처리] 지연 응답 결과 미확인 - settlementId: {}, 대사에서 확정", settlement.getSettlementId());
+				return;
+			}
+			log.info("[정산처리] 지연 응답 반영 - settlementId: {}, 코드: {}", settlement.getSettlementId(),
+					response.getRspCode());
+			applyTransferResult(settlement, fintechUseNum, response);
+		} catch (Exception e) {
+			log.error("[정산처리] 지연 응답 반영 실패 - settlementId: {}, 대사에서 확정", settlement.getSettlementId(), e);
+		} finally {
+			awaitingResponse.remove(settlement.getSettlementId());
+		}
+	}
 
-		transactionMapper.insert(transaction);
-		if ("A0000".equals(response.getRspCode())) {
-			settlementDao.updateStatus(settlement.getSettlementId(), "COMPLETED");
-			settlementDao.updateBankTranId(settlement.getSettlementId(), response.getBankTranId());
-			log.info("[정산처리] 성공 - settlementId: {}, 거래ID: {}", settlement.getSettlementId(), response.getBankTranId());
+	/**
+	 * 결과 미확정 이체 대사
+	 *
+	 * 요청 후 reconcile-after-seconds 가 지나도 IN_PROGRESS 인 정산을 거래고유번호로 조회한다.
+	 * 이체가 있으면 완료, 은행에 이체가 없거나 실패로 끝났으면 FAILED 로 바꾸고 재시도를 등록한다.
+	 * 조회도 통신 실패면 다음 주기에 다시 조회한다.
+	 */
+	@DistributedLock(name = "settlement.transfer-reconcile")
+	@Scheduled(fixedDelayString = "${openbanking.transfer.reconcile-interval-ms:300000}")
+	public void reconcileStaleTransfers() {
+		List<Settlement> stale = settlementDao.findStaleTransfers(openBankingConfig.getTransferReconcileAfterSeconds(),
+				Math.max(1, openBankingConfig.getTransferReconcileBatchSize()));
+		if (stale.isEmpty()) {
+			return;
+		}
 
-			sendSettlementCompletedPush(settlement);
+		Map<String, Account> accounts = findAccounts(stale);
+		int completedCount = 0;
+		int failedCount = 0;
+		int unresolvedCount = 0;
 
+		for (Settlement settlement : stale) {
+			if (awaitingResponse.contains(settlement.getSettlementId())) {
+				unresolvedCount++;
+				continue;
+			}
+			Account account = accounts.get(settlement.getPartyLeaderId());
+			if (settlement.getTransferTranId() == null || account == null || account.getFintechUseNum() == null) {
+				log.error("[정산대사] 거래고유번호 또는 계좌 없음 - settlementId: {}, 수동 확인 필요", settlement.getSettlementId());
+				unresolvedCount++;
+				continue;
+			}
+
+			try {
+				TransferDepositResponse response = asyncTransferClient.inquire(settlement.getTransferTranId());
+				if (isUnknown(response)) {
+					log.warn("[정산대사] 결과 조회 실패 - settlementId: {}, 다음 주기에 재조회", settlement.getSettlementId());
+					unresolvedCount++;
+				} else if (applyTransferResult(settlement, account.getFintechUseNum(), response)) {
+					if (TransferDepositResponse.RSP_SUCCESS.equals(response.getRspCode())) {
+						completedCount++;
+					} else {
+						failedCount++;
+					}
+				}
+			} catch (Exception e) {
+				log.error("[정산대사] 처리 실패 - settlementId: {}", settlement.getSettlementId(), e);
+				unresolvedCount++;
+			}
+		}
+
+		log.info("[정산대사] 완료 - 대상: {}, 완료: {}, 실패: {}, 미확정: {}", stale.size(), completedCount, failedCount,
+				unresolvedCount);
+	}
+
+	/**
+	 * 정산 1건에 이체 결과 반영 (IN_PROGRESS 인 경우에만, 반영했으면 푸시/재시도 등록)
+	 *
+	 * @return 이번 호출이 결과를 반영했는지 (지연 응답과 대사 중 먼저 반영한 쪽만 true)
+	 */
+	private boolean applyTransferResult(Settlement settlement, String fintechUseNum, TransferDepositResponse response) {
+		boolean success = TransferDepositResponse.RSP_SUCCESS.equals(response.getRspCode());
+		if (success) {
+			settlement.setBankTranId(bankTranIdOf(settlement, response));
+		}
+
+		Boolean applied = transactionTemplate.execute(status -> {
+			int updated = success ? settlementDao.completeBatch(List.of(settlement))
+					: settlementDao.failBatch(List.of(settlement.getSettlementId()));
+			if (updated == 0) {
+				return false;
+			}
+			transactionMapper.insert(toTransaction(settlement, fintechUseNum, response));
 			return true;
+		});
+
+		if (!Boolean.TRUE.equals(applied)) {
+			if (success) {
+				log.error("[정산처리] 이미 확정된 정산의 이체 성공 응답 - settlementId: {}, 거래ID: {}, 수동 확인 필요",
+						settlement.getSettlementId(), settlement.getBankTranId());
+			}
+			return false;
+		}
+
+		if (success) {
+			log.info("[정산처리] 성공 - settlementId: {}, 거래ID: {}", settlement.getSettlementId(), settlement.getBankTranId());
+			sendSettlementCompletedPush(settlement);
 		} else {
-			settlementDao.updateStatus(settlement.getSettlementId(), "FAILED");
 			log.error("[정산처리] 실패 - settlementId: {}, 에러: {}", settlement.getSettlementId(), response.getRspMessage());
-
+			scheduleRetry(settlement, response.getRspCode(), response.getRspMessage());
 			sendSettlementFailedPush(settlement, response.getRspMessage());
-			return false;
 		}
+		return true;
 	}
 
-	@Transactional
-	public boolean processSettlementManually(Integer settlementId) {
-		Settlement settlement = settlementDao.findById(settlementId).orElse(null);
-		if (settlement == null) {
-			log.error("[수동정산] 정산 정보 없음 - settlementId: {}", settlementId);
-			return false;
+	private Map<String, Account> findAccounts(List<Settlement> settlements) {
+		List<String> leaderIds = settlements.stream().map(Settlement::getPartyLeaderId).distinct().toList();
+		Map<String, Account> accounts = new HashMap<>();
+		for (Account account : accountDao.findActiveByUserIds(leaderIds)) {
+			accounts.putIfAbsent(account.getUserId(), account);
 		}
-		return processSettlement(settlement);
+		return accounts;
+	}
+
+	/**
+	 * 이용기관 부여 거래고유번호 (요청마다 새로 만든다, 최대 30자)
+	 */
+	private static String newTransferTranId(Settlement settlement) {
+		return "MOA" + LocalDateTime.now().format(TRAN_ID_TIME) + "S" + settlement.getSettlementId();
+	}
+
+	private static TransferDepositRequest transferRequest(Settlement settlement, String fintechUseNum) {
+		return TransferDepositRequest.builder().fintechUseNum(fintechUseNum).tranAmt(settlement.getNetAmount())
+				.printContent("MOA정산").reqClientName("MOA").bankTranId(settlement.getTransferTranId()).build();
+	}
+
+	private static TransferTransaction toTransaction(Settlement settlement, String fintechUseNum,
+			TransferDepositResponse response) {
+		boolean success = TransferDepositResponse.RSP_SUCCESS.equals(response.getRspCode());
+		return TransferTransaction.builder().settlementId(settlement.getSettlementId())
+				.bankTranId(bankTranIdOf(settlement, response)).fintechUseNum(fintechUseNum)
+				.tranAmt(settlement.getNetAmount()).printContent("MOA정산").reqClientName("MOA")
+				.rspCode(response.getRspCode()).rspMessage(response.getRspMessage())
+				.status(success ? TransactionStatus.SUCCESS : TransactionStatus.FAILED).build();
+	}
+
+	private static String bankTranIdOf(Settlement settlement, TransferDepositResponse response) {
+		return response.getBankTranId() != null ? response.getBankTranId() : settlement.getTransferTranId();
 	}
 
-	private String getProductName(Integer productId) {
-		if (productId == null)
-			return "OTT 서비스";
+	/**
+	 * 은행과 통신하지 못해 이체 여부를 알 수 없는 응답 (결과 조회로만 확정한다)
+	 */
+	private static boolean isUnknown(TransferDepositResponse response) {
+		return response == null || TransferDepositResponse.RSP_COMMUNICATION_ERROR.equals(response.getRspCode());
+	}
+
+	private static class TransferBatchResult {
+		private int successCount;
+		private int failCount;
+		private int pendingCount;
+		private int skipCount;
+
+		private void add(TransferBatchResult other) {
+			successCount += other.successCount;
+			failCount += other.failCount;
+			pendingCount += other.pendingCount;
+			skipCount += other.skipCount;
+		}
+	}
 
+	private void scheduleRetry(Settlement settlement, String errorCode, String errorMessage) {
 		try {
-			Product product = productDao.getProduct(productId);
-			return (product != null && product.getProductName() != null) ? product.getProductName() : "OTT 서비스";
+			settlementRetryService.scheduleRetry(settlement, errorCode, errorMessage);
 		} catch (Exception e) {
-			log.warn("상품 조회 실패: productId={}", productId);
-			return "OTT 서비스";
+			log.error("[정산처리] 재시도 등록 실패 - settlementId: {}, error: {}", settlement.getSettlementId(),
+					e.getMessage());
 		}
 	}
 
@@ -159,7 +422,7 @@ public class SettlementTransferScheduler {
 			if (party == null)
 				return;
 
-			String productName = getProductName(party.getProductId());
+			String productName = productCatalog.getProductName(party.getProductId());
 
 			Map<String, String> params = Map.of("productName", productName, "amount",
 					String.valueOf(settlement.getNetAmount()), "targetMonth", settlement.getSettlementMonth());
@@ -183,7 +446,7 @@ public class SettlementTransferScheduler {
 			if (party == null)
 				return;
 
-			String productName = getProductName(party.getProductId());
+			String productName = productCatalog.getProductName(party.getProductId());
 
 			Map<String, String> params = Map.of("productName", productName, "amount",
 					String.valueOf(settlement.getNetAmount()), "errorMessage",
@@ -208,7 +471,7 @@ public class SettlementTransferScheduler {
 			if (party == null)
 				return;
 
-			String productName = getProductName(party.getProductId());
+			String productName = productCatalog.getProductName(party.getProductId());
 
 			Map<String, String> params = Map.of("productName", productName, "amount",
 					String.valueOf(settlement.getNetAmount()));
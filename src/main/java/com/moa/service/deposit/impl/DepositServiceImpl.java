@@ -8,15 +8,14 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moa.common.event.DepositForfeitedEvent;
 import com.moa.common.event.RefundCompletedEvent;
 import com.moa.common.exception.BusinessException;
 import com.moa.common.exception.ErrorCode;
 import com.moa.dao.deposit.DepositDao;
 import com.moa.dao.party.PartyDao;
-import com.moa.dao.product.ProductDao;
 import com.moa.domain.Deposit;
 import com.moa.domain.Party;
-import com.moa.domain.Product;
 import com.moa.domain.enums.DepositStatus;
 import com.moa.domain.enums.PushCodeType;
 import com.moa.dto.deposit.response.DepositResponse;
@@ -24,6 +23,7 @@ import com.moa.dto.payment.request.PaymentRequest;
 import com.moa.dto.push.request.TemplatePushRequest;
 import com.moa.service.deposit.DepositService;
 import com.moa.service.payment.TossPaymentService;
+import com.moa.service.product.ProductCatalog;
 import com.moa.service.push.PushService;
 import com.moa.service.refund.RefundRetryService;
 
@@ -44,7 +44,7 @@ public class DepositServiceImpl implements DepositService {
     private final RefundRetryService refundRetryService;
 
     private final PushService pushService;
-    private final ProductDao productDao;
+    private final ProductCatalog productCatalog;
 
 	// 기존 PaymentRequest를 받는 createDeposit 메소드를 이 새로운 메소드로 대체
     @Override
@@ -194,29 +194,18 @@ public class DepositServiceImpl implements DepositService {
         deposit.setRefundAmount(0);
 
         depositDao.updateDeposit(deposit);
+        eventPublisher.publishEvent(new DepositForfeitedEvent(deposit.getPartyId(), deposit.getDepositId(),
+                deposit.getUserId(), deposit.getDepositAmount(), deposit.getRefundDate()));
         sendDepositForfeitedPush(deposit);
 
     }
 
-    private String getProductName(Integer productId) {
-        if (productId == null) return "OTT 서비스";
-        
-        try {
-            Product product = productDao.getProduct(productId);
-            return (product != null && product.getProductName() != null) 
-                ? product.getProductName() : "OTT 서비스";
-        } catch (Exception e) {
-            log.warn("상품 조회 실패: productId={}", productId);
-            return "OTT 서비스";
-        }
-    }
-
     private void sendDepositRefundedPush(Deposit deposit) {
         try {
             Party party = partyDao.findById(deposit.getPartyId()).orElse(null);
             if (party == null) return;
 
-            String productName = getProductName(party.getProductId());
+            String productName = productCatalog.getProductName(party.getProductId());
 
             Map<String, String> params = Map.of(
                 "productName", productName,
@@ -244,7 +233,7 @@ public class DepositServiceImpl implements DepositService {
             Party party = partyDao.findById(deposit.getPartyId()).orElse(null);
             if (party == null) return;
 
-            String productName = getProductName(party.getProductId());
+            String productName = productCatalog.getProductName(party.getProductId());
 
             Map<String, String> params = Map.of(
                 "productName", productName,
@@ -0,0 +1,81 @@
+package com.moa.service.openbanking;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.moa.config.OpenBankingConfig;
+import com.moa.dto.openbanking.TransferDepositRequest;
+import com.moa.dto.openbanking.TransferDepositResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입금이체 비동기 호출 클라이언트
+ *
+ * 동시에 은행으로 나가는 요청 수를 openbanking.transfer.max-in-flight 로 제한한다.
+ * 한도에 도달하면 transferAsync 호출 스레드가 자리가 날 때까지 대기한다 (backpressure).
+ * openbanking.stub.enabled=true 면 StubBankClient 로 보낸다.
+ */
+@Slf4j
+@Component
+public class AsyncTransferClient {
+
+    private final OpenBankingClient delegate;
+    private final ThreadPoolTaskExecutor transferExecutor;
+    private final Semaphore inFlight;
+
+    public AsyncTransferClient(OpenBankingClient openBankingClient, Optional<StubBankClient> stubBankClient,
+            @Qualifier("openBankingTransferExecutor") ThreadPoolTaskExecutor transferExecutor,
+            OpenBankingConfig openBankingConfig) {
+        this.delegate = stubBankClient.<OpenBankingClient>map(stub -> stub).orElse(openBankingClient);
+        this.transferExecutor = transferExecutor;
+        this.inFlight = new Semaphore(Math.max(1, openBankingConfig.getTransferMaxInFlight()));
+        log.info("입금이체 클라이언트: {}", delegate.getClass().getSimpleName());
+    }
+
+    public CompletableFuture<TransferDepositResponse> transferAsync(TransferDepositRequest request) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(TransferDepositResponse.error("A0007", "이체 요청 대기 중단"));
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> call(request), transferExecutor)
+                    .whenComplete((response, error) -> inFlight.release());
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            return CompletableFuture.completedFuture(TransferDepositResponse.error("A0007", "이체 요청 거절: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 입금이체 결과 조회 (동기, 이체와 같은 은행 클라이언트로 보낸다)
+     */
+    public TransferDepositResponse inquire(String bankTranId) {
+        try {
+            TransferDepositResponse response = delegate.inquireTransferResult(bankTranId);
+            return response != null ? response : TransferDepositResponse.error("A0007", "은행 응답 없음");
+        } catch (Exception e) {
+            log.error("입금이체 결과 조회 실패: {}", e.getMessage());
+            return TransferDepositResponse.error("A0007", "은행 호출 실패: " + e.getMessage());
+        }
+    }
+
+    private TransferDepositResponse call(TransferDepositRequest request) {
+        try {
+            TransferDepositResponse response = delegate.transferDeposit(request);
+            return response != null ? response : TransferDepositResponse.error("A0007", "은행 응답 없음");
+        } catch (Exception e) {
+            log.error("입금이체 호출 실패: {}", e.getMessage());
+            return TransferDepositResponse.error("A0007", "은행 호출 실패: " + e.getMessage());
+        }
+    }
+}
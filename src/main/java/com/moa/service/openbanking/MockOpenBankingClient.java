@@ -91,6 +91,29 @@ public class MockOpenBankingClient implements OpenBankingClient {
         }
     }
 
+    @Override
+    public TransferDepositResponse inquireTransferResult(String bankTranId) {
+        log.info("[MockClient] 입금이체 결과 조회 - 거래ID: {}", bankTranId);
+
+        try {
+            WebClient webClient = createInsecureWebClient();
+
+            TransferDepositResponse response = webClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/mock/openbanking/transfer/result")
+                            .queryParam("bankTranId", bankTranId).build())
+                    .retrieve()
+                    .bodyToMono(TransferDepositResponse.class)
+                    .block();
+
+            log.info("[MockClient] 입금이체 결과 조회 응답 - 코드: {}", response.getRspCode());
+            return response;
+
+        } catch (Exception e) {
+            log.error("[MockClient] 입금이체 결과 조회 실패", e);
+            return TransferDepositResponse.error("A0007", "Mock 서버 연결 실패: " + e.getMessage());
+        }
+    }
+
     private WebClient createInsecureWebClient() {
         try {
             var sslContext = io.netty.handler.ssl.SslContextBuilder.forClient()
@@ -2,8 +2,10 @@ package com.moa.service.openbanking;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
@@ -38,6 +40,9 @@ public class MockOpenBankingService implements OpenBankingClient {
     private static final int VERIFY_EXPIRY_MINUTES = 5;
     private static final int MAX_VERIFY_ATTEMPTS = 3;
 
+    /** 입금이체 결과 (거래고유번호 → 응답), 결과 조회용으로 메모리에만 보관 */
+    private final Map<String, TransferDepositResponse> transferResults = new ConcurrentHashMap<>();
+
     @Override
     @Transactional
     public InquiryReceiveResponse requestVerification(InquiryReceiveRequest request) {
@@ -140,11 +145,21 @@ public class MockOpenBankingService implements OpenBankingClient {
             return TransferDepositResponse.error("A0002", "이체금액이 올바르지 않습니다");
         }
 
-        String bankTranId = generateBankTranId();
+        String bankTranId = request.getBankTranId() != null ? request.getBankTranId() : generateBankTranId();
 
         log.info("[Mock] 입금이체 처리 완료 - 거래ID: {}, 금액: {}", bankTranId, request.getTranAmt());
 
-        return TransferDepositResponse.success(bankTranId, request.getTranAmt());
+        TransferDepositResponse response = TransferDepositResponse.success(bankTranId, request.getTranAmt());
+        transferResults.put(bankTranId, response);
+        return response;
+    }
+
+    @Override
+    public TransferDepositResponse inquireTransferResult(String bankTranId) {
+        TransferDepositResponse response = transferResults.get(bankTranId);
+        log.info("[Mock] 입금이체 결과 조회 - 거래ID: {}, 결과: {}", bankTranId,
+                response != null ? response.getRspCode() : TransferDepositResponse.RSP_NOT_FOUND);
+        return response != null ? response : TransferDepositResponse.notFound(bankTranId);
     }
 
     @Transactional
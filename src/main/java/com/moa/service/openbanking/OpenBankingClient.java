@@ -14,4 +14,9 @@ public interface OpenBankingClient {
 	InquiryVerifyResponse verifyCode(InquiryVerifyRequest request);
 
 	TransferDepositResponse transferDeposit(TransferDepositRequest request);
+
+	/**
+	 * 입금이체 결과 조회 (거래고유번호 기준, 이체가 없으면 RSP_NOT_FOUND)
+	 */
+	TransferDepositResponse inquireTransferResult(String bankTranId);
 }
@@ -0,0 +1,96 @@
+package com.moa.service.openbanking;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.moa.config.OpenBankingConfig;
+import com.moa.dto.openbanking.InquiryReceiveRequest;
+import com.moa.dto.openbanking.InquiryReceiveResponse;
+import com.moa.dto.openbanking.InquiryVerifyRequest;
+import com.moa.dto.openbanking.InquiryVerifyResponse;
+import com.moa.dto.openbanking.TransferDepositRequest;
+import com.moa.dto.openbanking.TransferDepositResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 처리량 측정용 로컬 스텁 은행 (openbanking.stub.enabled=true 일 때만 등록)
+ *
+ * 입금이체 요청마다 min~max-latency-ms 사이로 대기하고, failure-rate 확률로 실패 응답을 돌려준다.
+ * 정산 이체 파이프라인(AsyncTransferClient)만 이 스텁을 사용하며, 1원 인증은 지원하지 않는다.
+ * 처리한 이체 결과는 결과 조회용으로 메모리에만 보관한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "openbanking.stub.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class StubBankClient implements OpenBankingClient {
+
+    private final OpenBankingConfig openBankingConfig;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final Map<String, TransferDepositResponse> results = new ConcurrentHashMap<>();
+
+    @Override
+    public InquiryReceiveResponse requestVerification(InquiryReceiveRequest request) {
+        return InquiryReceiveResponse.error("A0009", "스텁 은행은 1원 인증을 지원하지 않습니다");
+    }
+
+    @Override
+    public InquiryVerifyResponse verifyCode(InquiryVerifyRequest request) {
+        return InquiryVerifyResponse.fail("A0009", "스텁 은행은 1원 인증을 지원하지 않습니다");
+    }
+
+    @Override
+    public TransferDepositResponse transferDeposit(TransferDepositRequest request) {
+        long seq = requests.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long minLatency = openBankingConfig.getStubMinLatencyMs();
+        long maxLatency = Math.max(minLatency, openBankingConfig.getStubMaxLatencyMs());
+        try {
+            Thread.sleep(minLatency == maxLatency ? minLatency : random.nextLong(minLatency, maxLatency + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return TransferDepositResponse.error("A0007", "스텁 은행 응답 대기 중단");
+        }
+
+        String bankTranId = request.getBankTranId() != null ? request.getBankTranId()
+                : "STUB" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
+                        + String.format("%06d", seq % 1_000_000);
+
+        TransferDepositResponse response;
+        if (random.nextDouble() < openBankingConfig.getStubFailureRate()) {
+            failures.incrementAndGet();
+            response = TransferDepositResponse.error("A0005", "스텁 은행 처리 실패 (시뮬레이션)");
+            response.setBankTranId(bankTranId);
+        } else {
+            response = TransferDepositResponse.success(bankTranId, request.getTranAmt());
+        }
+        results.put(bankTranId, response);
+        return response;
+    }
+
+    @Override
+    public TransferDepositResponse inquireTransferResult(String bankTranId) {
+        TransferDepositResponse response = results.get(bankTranId);
+        return response != null ? response : TransferDepositResponse.notFound(bankTranId);
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+}
@@ -0,0 +1,274 @@
+package com.moa.service.party;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moa.config.PartyConfig;
+import com.moa.dao.party.PartyDao;
+import com.moa.domain.enums.PartyStatus;
+import com.moa.dto.party.response.PartyListResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파티 목록 메모리 인덱스 (모집중/진행중 파티)
+ *
+ * - 기동 후 전체 적재, 이후 party.index.refresh-interval-ms 마다 전체 재적재
+ * - 파티 생성/가입/탈퇴/상태 변경 경로에서 refresh(partyId) 를 호출하면 커밋 후 해당 행만 다시 읽어 반영
+ * - 키워드는 상품명/방장 닉네임의 2-gram 역색인으로 후보를 좁힌 뒤 부분 문자열로 확인 (LIKE '%kw%' 와 동일한 결과)
+ *
+ * 아직 적재 전이거나 인덱스 대상이 아닌 상태를 조회하면 null 을 돌려주고, 호출자는 SQL 로 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartyListIndex {
+
+	private static final Set<String> INDEXED_STATUSES = Set.of(PartyStatus.RECRUITING.name(),
+			PartyStatus.ACTIVE.name());
+
+	private static final Comparator<PartyListResponse> LATEST = Comparator
+			.comparing(PartyListResponse::getRegDateTime, Comparator.reverseOrder())
+			.thenComparing(PartyListResponse::getPartyId, Comparator.reverseOrder());
+
+	private static final int RELOAD_LOCK_STRIPES = 64;
+
+	private final PartyDao partyDao;
+	private final PartyConfig partyConfig;
+
+	private volatile Snapshot snapshot;
+	private volatile boolean rebuilding;
+	private final Set<Integer> touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+	private final Object[] reloadLocks = newReloadLocks();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		rebuild();
+	}
+
+	/**
+	 * 스케줄러 풀(spring.task.scheduling.pool.size)에서 돌아 야간 정기결제/정산 배치 중에도 주기대로 재적재된다.
+	 */
+	@Scheduled(initialDelayString = "${party.index.refresh-interval-ms:60000}", fixedDelayString = "${party.index.refresh-interval-ms:60000}")
+	public void scheduledRebuild() {
+		rebuild();
+	}
+
+	/**
+	 * 파티 한 건 변경 반영 (트랜잭션 중이면 커밋 후 반영)
+	 */
+	public void refresh(Integer partyId) {
+		if (!partyConfig.isIndexEnabled() || partyId == null) {
+			return;
+		}
+
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					reload(partyId);
+				}
+			});
+		} else {
+			reload(partyId);
+		}
+	}
+
+	/**
+	 * findPartyList 와 같은 조건/정렬로 조회
+	 *
+	 * @return 메모리에서 답할 수 없으면 null
+	 */
+	public List<PartyListResponse> find(Integer productId, PartyStatus partyStatus, String keyword,
+			LocalDate startDate, int offset, int size, String sort) {
+		Snapshot current = snapshot;
+		if (current == null || partyStatus == null || !INDEXED_STATUSES.contains(partyStatus.name())) {
+			return null;
+		}
+
+		String needle = (keyword == null || keyword.isEmpty()) ? null : keyword.toLowerCase(Locale.ROOT);
+		LocalDateTime startFrom = startDate != null ? startDate.atStartOfDay() : null;
+
+		return current.candidates(needle).filter(party -> partyStatus.name().equals(party.getPartyStatus()))
+				.filter(party -> productId == null || productId.equals(party.getProductId()))
+				.filter(party -> startFrom == null || !party.getStartDateTime().isBefore(startFrom))
+				.filter(party -> needle == null || matches(party, needle)).sorted(comparatorOf(sort)).skip(offset)
+				.limit(size).toList();
+	}
+
+	private synchronized void rebuild() {
+		if (!partyConfig.isIndexEnabled()) {
+			return;
+		}
+
+		touchedDuringRebuild.clear();
+		rebuilding = true;
+		try {
+			long startedAt = System.currentTimeMillis();
+			Snapshot fresh = new Snapshot();
+			partyDao.findPartyIndexRows().forEach(fresh::put);
+			snapshot = fresh;
+			log.debug("파티 목록 인덱스 적재: parties={}, grams={}, elapsed={}ms", fresh.parties.size(),
+					fresh.grams.size(), System.currentTimeMillis() - startedAt);
+		} catch (Exception e) {
+			log.warn("파티 목록 인덱스 적재 실패, 기존 인덱스 유지: {}", e.getMessage());
+		} finally {
+			rebuilding = false;
+		}
+
+		// 적재 쿼리 이후 커밋된 변경이 새 인덱스에서 빠지지 않도록 다시 반영
+		for (Integer partyId : touchedDuringRebuild) {
+			reload(partyId);
+		}
+	}
+
+	private void reload(Integer partyId) {
+		if (rebuilding) {
+			touchedDuringRebuild.add(partyId);
+		}
+		Snapshot current = snapshot;
+		if (current == null) {
+			return;
+		}
+
+		// 같은 파티의 조회~반영을 직렬화해 먼저 읽은 예전 행이 나중에 읽은 행을 덮어쓰지 않게 한다
+		try {
+			synchronized (reloadLocks[Math.floorMod(partyId, RELOAD_LOCK_STRIPES)]) {
+				PartyListResponse row = partyDao.findPartyIndexRow(partyId);
+				if (row == null || !INDEXED_STATUSES.contains(row.getPartyStatus())) {
+					current.remove(partyId);
+				} else {
+					current.put(row);
+				}
+			}
+		} catch (Exception e) {
+			// 다음 전체 재적재 때 반영된다
+			log.warn("파티 목록 인덱스 갱신 실패: partyId={}, error={}", partyId, e.getMessage());
+		}
+	}
+
+	private static Object[] newReloadLocks() {
+		Object[] locks = new Object[RELOAD_LOCK_STRIPES];
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new Object();
+		}
+		return locks;
+	}
+
+	private static boolean matches(PartyListResponse party, String needle) {
+		return contains(party.getProductName(), needle) || contains(party.getLeaderNickname(), needle);
+	}
+
+	private static boolean contains(String text, String needle) {
+		return text != null && text.toLowerCase(Locale.ROOT).contains(needle);
+	}
+
+	private static Comparator<PartyListResponse> comparatorOf(String sort) {
+		if (sort == null) {
+			return LATEST;
+		}
+		return switch (sort) {
+		case "price_low" -> Comparator.comparing(PartyListResponse::getMonthlyFee).thenComparing(LATEST);
+		case "price_high" -> Comparator.comparing(PartyListResponse::getMonthlyFee, Comparator.reverseOrder())
+				.thenComparing(LATEST);
+		case "popularity", "deadline" ->
+			Comparator.comparing(PartyListResponse::getRemainingSlots).thenComparing(LATEST);
+		case "start_date_asc" -> Comparator.comparing(PartyListResponse::getStartDateTime).thenComparing(LATEST);
+		default -> LATEST;
+		};
+	}
+
+	private static Set<String> gramsOf(PartyListResponse party) {
+		Set<String> grams = new HashSet<>();
+		addGrams(grams, party.getProductName());
+		addGrams(grams, party.getLeaderNickname());
+		return grams;
+	}
+
+	private static void addGrams(Collection<String> grams, String text) {
+		if (text == null) {
+			return;
+		}
+		String lower = text.toLowerCase(Locale.ROOT);
+		for (int i = 0; i + 2 <= lower.length(); i++) {
+			grams.add(lower.substring(i, i + 2));
+		}
+	}
+
+	private static class Snapshot {
+
+		private final Map<Integer, PartyListResponse> parties = new ConcurrentHashMap<>();
+		private final Map<String, Set<Integer>> grams = new ConcurrentHashMap<>();
+
+		private synchronized void put(PartyListResponse party) {
+			remove(party.getPartyId());
+			parties.put(party.getPartyId(), party);
+			for (String gram : gramsOf(party)) {
+				grams.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(party.getPartyId());
+			}
+		}
+
+		private synchronized void remove(Integer partyId) {
+			PartyListResponse old = parties.remove(partyId);
+			if (old == null) {
+				return;
+			}
+			for (String gram : gramsOf(old)) {
+				Set<Integer> ids = grams.get(gram);
+				if (ids != null) {
+					ids.remove(partyId);
+				}
+			}
+		}
+
+		/**
+		 * 키워드의 모든 2-gram 을 가진 파티만 후보로 (1글자 키워드는 전체)
+		 */
+		private Stream<PartyListResponse> candidates(String needle) {
+			if (needle == null || needle.length() < 2) {
+				return parties.values().stream();
+			}
+
+			List<String> needleGrams = new ArrayList<>(new HashSet<>(gramsOfText(needle)));
+			Set<Integer> smallest = null;
+			for (String gram : needleGrams) {
+				Set<Integer> ids = grams.get(gram);
+				if (ids == null || ids.isEmpty()) {
+					return Stream.empty();
+				}
+				if (smallest == null || ids.size() < smallest.size()) {
+					smallest = ids;
+				}
+			}
+
+			return smallest.stream().filter(id -> needleGrams.stream().allMatch(gram -> {
+				Set<Integer> ids = grams.get(gram);
+				return ids != null && ids.contains(id);
+			})).map(parties::get).filter(party -> party != null);
+		}
+
+		private static List<String> gramsOfText(String text) {
+			List<String> result = new ArrayList<>();
+			addGrams(result, text);
+			return result;
+		}
+	}
+}
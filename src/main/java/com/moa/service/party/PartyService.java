@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.moa.dto.party.request.PartyCreateRequest;
 import com.moa.dto.party.request.UpdateOttAccountRequest;
+import com.moa.dto.party.response.PartyCursorPageResponse;
 import com.moa.dto.party.response.PartyDetailResponse;
 import com.moa.dto.party.response.PartyListResponse;
 import com.moa.dto.partymember.response.PartyMemberResponse;
@@ -20,10 +21,15 @@ public interface PartyService {
 	List<PartyListResponse> getPartyList(Integer productId, String partyStatus, String keyword,
 			java.time.LocalDate startDate, int page, int size, String sort);
 
+	PartyCursorPageResponse getPartyListByCursor(Integer productId, String partyStatus, String keyword,
+			java.time.LocalDate startDate, String cursor, int size, String sort);
+
 	PartyDetailResponse updateOttAccount(Integer partyId, String userId, UpdateOttAccountRequest request);
 
 	PartyMemberResponse joinParty(Integer partyId, String userId, PaymentRequest paymentRequest);
 
+	int releaseExpiredJoinHolds();
+
 	List<PartyMemberResponse> getPartyMembers(Integer partyId);
 
 	void leaveParty(Integer partyId, String userId);
@@ -6,15 +6,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.moa.common.exception.BusinessException;
 import com.moa.common.exception.ErrorCode;
 import com.moa.common.util.AESUtil; // Import AESUtil
+import com.moa.config.PartyConfig;
 import com.moa.dao.party.PartyDao;
 import com.moa.dao.partymember.PartyMemberDao;
-import com.moa.dao.product.ProductDao;
 import com.moa.dao.user.UserDao;
 import com.moa.dao.user.UserCardDao;
 import com.moa.domain.Deposit;
@@ -27,15 +30,19 @@ import com.moa.domain.enums.MemberStatus;
 import com.moa.domain.enums.PartyStatus;
 import com.moa.domain.enums.PushCodeType;
 import com.moa.dto.party.request.PartyCreateRequest;
+import com.moa.dto.party.request.PartyListCursor;
 import com.moa.dto.party.request.UpdateOttAccountRequest;
+import com.moa.dto.party.response.PartyCursorPageResponse;
 import com.moa.dto.party.response.PartyDetailResponse;
 import com.moa.dto.party.response.PartyListResponse;
 import com.moa.dto.partymember.response.PartyMemberResponse;
 import com.moa.dto.payment.request.PaymentRequest;
 import com.moa.dto.push.request.TemplatePushRequest;
 import com.moa.service.deposit.DepositService;
+import com.moa.service.party.PartyListIndex;
 import com.moa.service.party.PartyService;
 import com.moa.service.payment.PaymentService;
+import com.moa.service.product.ProductCatalog;
 import com.moa.service.push.PushService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -45,9 +52,14 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class PartyServiceImpl implements PartyService {
 
+	private static final java.util.Set<String> PARTY_LIST_SORTS = java.util.Set.of("latest", "price_low", "price_high",
+			"popularity", "deadline", "start_date_asc");
+
+	private static final int JOIN_HOLD_REAP_BATCH_SIZE = 500;
+
 	private final PartyDao partyDao;
 	private final PartyMemberDao partyMemberDao;
-	private final ProductDao productDao;
+	private final ProductCatalog productCatalog;
 	private final DepositService depositService;
 	private final PaymentService paymentService;
 	private final PushService pushService;
@@ -55,14 +67,18 @@ public class PartyServiceImpl implements PartyService {
 	private final com.moa.service.refund.RefundRetryService refundRetryService;
 	private final UserDao userDao;
 	private final UserCardDao userCardDao;
+	private final PartyListIndex partyListIndex;
+	private final PartyConfig partyConfig;
+	private final TransactionTemplate transactionTemplate;
 
-	public PartyServiceImpl(PartyDao partyDao, PartyMemberDao partyMemberDao, ProductDao productDao,
+	public PartyServiceImpl(PartyDao partyDao, PartyMemberDao partyMemberDao, ProductCatalog productCatalog,
 			DepositService depositService, PaymentService paymentService, PushService pushService,
 			com.moa.service.payment.TossPaymentService tossPaymentService,
-			com.moa.service.refund.RefundRetryService refundRetryService, UserDao userDao, UserCardDao userCardDao) {
+			com.moa.service.refund.RefundRetryService refundRetryService, UserDao userDao, UserCardDao userCardDao,
+			PartyListIndex partyListIndex, PartyConfig partyConfig, TransactionTemplate transactionTemplate) {
 		this.partyDao = partyDao;
 		this.partyMemberDao = partyMemberDao;
-		this.productDao = productDao;
+		this.productCatalog = productCatalog;
 		this.depositService = depositService;
 		this.paymentService = paymentService;
 		this.pushService = pushService;
@@ -70,6 +86,9 @@ public class PartyServiceImpl implements PartyService {
 		this.refundRetryService = refundRetryService;
 		this.userDao = userDao;
 		this.userCardDao = userCardDao;
+		this.partyListIndex = partyListIndex;
+		this.partyConfig = partyConfig;
+		this.transactionTemplate = transactionTemplate;
 	}
 
 	@Override
@@ -77,7 +96,7 @@ public class PartyServiceImpl implements PartyService {
 		validateCreateRequest(request);
 		Product product = null;
 		try {
-			product = productDao.getProduct(request.getProductId());
+			product = productCatalog.getProduct(request.getProductId());
 		} catch (Exception e) {
 		}
 		if (product == null) {
@@ -175,6 +194,7 @@ public class PartyServiceImpl implements PartyService {
 		partyMemberDao.updatePartyMember(leaderMember);
 		party.setPartyStatus(PartyStatus.RECRUITING);
 		partyDao.updateParty(party);
+		partyListIndex.refresh(party.getPartyId());
 
 		return partyDao.findDetailById(partyId).orElseThrow(() -> new BusinessException(ErrorCode.PARTY_NOT_FOUND));
 	}
@@ -214,15 +234,7 @@ public class PartyServiceImpl implements PartyService {
 	public List<PartyListResponse> getPartyList(Integer productId, String partyStatus, String keyword,
 			java.time.LocalDate startDate, int page, int size, String sort) {
 
-		// 상태 문자열을 Enum으로 변환
-		PartyStatus status = null;
-		if (partyStatus != null && !partyStatus.trim().isEmpty()) {
-			try {
-				status = PartyStatus.valueOf(partyStatus.toUpperCase());
-			} catch (IllegalArgumentException e) {
-				throw new BusinessException(ErrorCode.INVALID_PARTY_STATUS);
-			}
-		}
+		PartyStatus status = parsePartyStatus(partyStatus);
 
 		// 페이지 번호 검증
 		if (page < 1)
@@ -233,9 +245,51 @@ public class PartyServiceImpl implements PartyService {
 		// OFFSET 계산
 		int offset = (page - 1) * size;
 
+		List<PartyListResponse> indexed = partyListIndex.find(productId, status, keyword, startDate, offset, size,
+				sort);
+		if (indexed != null) {
+			return indexed;
+		}
+
 		return partyDao.findPartyList(productId, status, keyword, startDate, offset, size, sort);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public PartyCursorPageResponse getPartyListByCursor(Integer productId, String partyStatus, String keyword,
+			java.time.LocalDate startDate, String cursor, int size, String sort) {
+
+		PartyStatus status = parsePartyStatus(partyStatus);
+		if (size <= 0)
+			size = 10;
+		if (!PARTY_LIST_SORTS.contains(sort))
+			sort = "latest";
+
+		PartyListCursor after = (cursor == null || cursor.isBlank()) ? null : PartyListCursor.decode(cursor, sort);
+
+		// 한 건 더 읽어 다음 페이지 존재 여부 판단
+		List<PartyListResponse> rows = partyDao.findPartyListByCursor(productId, status, keyword, startDate, after,
+				size + 1, sort);
+		boolean hasNext = rows.size() > size;
+		List<PartyListResponse> content = hasNext ? rows.subList(0, size) : rows;
+		String nextCursor = hasNext ? PartyListCursor.from(sort, content.get(content.size() - 1)).encode() : null;
+
+		return PartyCursorPageResponse.builder().content(content).size(size).hasNext(hasNext).nextCursor(nextCursor)
+				.build();
+	}
+
+	private PartyStatus parsePartyStatus(String partyStatus) {
+		// 상태 문자열을 Enum으로 변환
+		if (partyStatus == null || partyStatus.trim().isEmpty()) {
+			return null;
+		}
+		try {
+			return PartyStatus.valueOf(partyStatus.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new BusinessException(ErrorCode.INVALID_PARTY_STATUS);
+		}
+	}
+
 	@Override
 	public PartyDetailResponse updateOttAccount(Integer partyId, String userId, UpdateOttAccountRequest request) {
 
@@ -249,10 +303,20 @@ public class PartyServiceImpl implements PartyService {
 		return partyDao.findDetailById(partyId).orElseThrow(() -> new BusinessException(ErrorCode.PARTY_NOT_FOUND));
 	}
 
+	/**
+	 * 파티 가입 (2단계)
+	 *
+	 * 1. 좌석 선점: 정원 증가 + PENDING_PAYMENT 멤버 생성을 짧은 트랜잭션으로 바로 커밋 (HOLD_UNTIL 까지 유효)
+	 * 2. 빌링키 발급/첫 결제: DB 트랜잭션 밖에서 토스 호출 (PARTY 행 잠금을 잡고 있지 않는다)
+	 * 3. 확정: 멤버 ACTIVE + 보증금/첫 달 결제 기록. 결제 실패면 좌석 반납, 기록 실패면 결제 취소 후 반납
+	 *
+	 * 서버 중단 등으로 반납하지 못한 좌석은 만료 후 PartyJoinHoldScheduler 가 반납한다.
+	 */
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public PartyMemberResponse joinParty(Integer partyId, String userId, PaymentRequest paymentRequest) {
 
-		// 1. 초기 검증 및 파티/멤버 기본 정보 설정
+		// 1. 초기 검증 및 좌석 선점
 		Party party = partyDao.findById(partyId).orElseThrow(() -> new BusinessException(ErrorCode.PARTY_NOT_FOUND));
 
 		if (party.getPartyStatus() != PartyStatus.RECRUITING) {
@@ -265,89 +329,162 @@ public class PartyServiceImpl implements PartyService {
 			throw new BusinessException(ErrorCode.ALREADY_JOINED);
 		});
 
+		boolean hasAuthKey = paymentRequest.getAuthKey() != null && !paymentRequest.getAuthKey().isEmpty();
+		if (!hasAuthKey && !paymentRequest.isUseExistingCard()) {
+			// 유효하지 않은 요청 (authKey도 없고 기존 카드 사용 플래그도 없음)
+			throw new BusinessException(ErrorCode.INVALID_PAYMENT_REQUEST, "유효한 결제 요청 정보가 없습니다.");
+		}
+
+		PartyMember partyMember = transactionTemplate.execute(status -> reserveSeat(partyId, userId));
+
+		// 2. 빌링키 처리 및 첫 결제 (보증금 + 월회비)
+		JoinCharge charge;
+		try {
+			charge = chargeJoin(party, userId, paymentRequest, hasAuthKey);
+		} catch (RuntimeException e) {
+			log.error("Toss 빌링키 결제 실패: partyId={}, userId={}, error={}", partyId, userId, e.getMessage());
+			releaseSeat(partyMember);
+			throw e;
+		}
+
+		// 3. 좌석 확정 및 DEPOSIT/PAYMENT 기록
+		boolean activated;
+		try {
+			activated = Boolean.TRUE.equals(transactionTemplate.execute(status -> confirmSeat(party, partyMember, charge)));
+		} catch (RuntimeException e) {
+			log.error("파티 가입 확정 실패, 결제 취소: partyId={}, userId={}, paymentKey={}, error={}", partyId, userId,
+					charge.paymentKey(), e.getMessage());
+			cancelJoinCharge(charge);
+			releaseSeat(partyMember);
+			throw e;
+		}
+		log.info("파티 멤버 {} 활성화 완료: partyId={}", userId, partyId);
+
+		if (activated) {
+			Party updatedParty = partyDao.findById(partyId)
+					.orElseThrow(() -> new BusinessException(ErrorCode.PARTY_NOT_FOUND));
+			safeSendPush(() -> sendPartyStartPushToAllMembers(partyId, updatedParty));
+			log.info("파티 {} 활성화 완료 (정원 충족)", partyId);
+		}
+
+		safeSendPush(() -> sendPartyJoinPush(userId, getUserNickname(userId), party));
+		safeSendPush(() -> sendPartyMemberJoinPushToLeader(userId, party));
+
+		return partyMemberDao.findByPartyMemberId(partyMember.getPartyMemberId())
+				.orElseThrow(() -> new BusinessException(ErrorCode.PARTY_MEMBER_NOT_FOUND));
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public int releaseExpiredJoinHolds() {
+		List<PartyMember> expiredHolds = partyMemberDao.findExpiredJoinHolds(JOIN_HOLD_REAP_BATCH_SIZE);
+
+		int released = 0;
+		for (PartyMember hold : expiredHolds) {
+			try {
+				if (Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteHold(hold, true)))) {
+					released++;
+					log.info("만료된 가입 선점 반납: partyId={}, userId={}, partyMemberId={}", hold.getPartyId(),
+							hold.getUserId(), hold.getPartyMemberId());
+				}
+			} catch (Exception e) {
+				log.error("가입 선점 반납 실패: partyMemberId={}, error={}", hold.getPartyMemberId(), e.getMessage());
+			}
+		}
+		return released;
+	}
+
+	private PartyMember reserveSeat(Integer partyId, String userId) {
 		// 정원 증가 시도. 실패하면 파티 정원 초과
 		int updatedRows = partyDao.incrementCurrentMembers(partyId);
 		if (updatedRows == 0) {
 			throw new BusinessException(ErrorCode.PARTY_FULL);
 		}
 
-		// 파티 멤버 임시 생성 (결제 실패 시 트랜잭션 롤백에 의존)
 		PartyMember partyMember = PartyMember.builder()
 				.partyId(partyId)
-				.userId(userId) // userId 필드 추가가 필요할 수 있음
+				.userId(userId)
 				.memberRole("MEMBER")
 				.memberStatus(MemberStatus.PENDING_PAYMENT)
 				.joinDate(LocalDateTime.now())
 				.build();
-		partyMemberDao.insertPartyMember(partyMember); // 먼저 멤버를 생성하여 ID를 확보 (트랜잭션에 포함)
+		try {
+			partyMemberDao.insertJoinHold(partyMember, partyConfig.getJoinHoldSeconds());
+		} catch (DuplicateKeyException e) {
+			// 같은 사용자의 동시 가입 요청 (UQ_PARTY_MEMBER_USER), 정원 증가도 함께 롤백된다
+			throw new BusinessException(ErrorCode.ALREADY_JOINED);
+		}
+		partyListIndex.refresh(partyId);
+		return partyMember;
+	}
 
-		// 2. 빌링키 처리 로직
-		UserCard userCard;
+	private JoinCharge chargeJoin(Party party, String userId, PaymentRequest paymentRequest, boolean hasAuthKey) {
+		UserCard newCard = null;
 		String billingKey;
-		String cardCompany = null;
-		String cardNumber = null; // 마지막 4자리
 
-		Optional<UserCard> existingUserCard = userCardDao.findByUserId(userId);
-
-		if (paymentRequest.getAuthKey() != null && !paymentRequest.getAuthKey().isEmpty()) {
-			// Case A: 새 카드 등록 (authKey로 빌링키 발급 및 저장/업데이트)
+		if (hasAuthKey) {
+			// Case A: 새 카드 등록 (authKey로 빌링키 발급, 저장은 확정 단계에서)
 			Map<String, Object> billingKeyIssueResponse = tossPaymentService.issueBillingKey(paymentRequest.getAuthKey(), userId);
 			billingKey = (String) billingKeyIssueResponse.get("billingKey");
 			Map<String, Object> cardInfo = (Map<String, Object>) billingKeyIssueResponse.get("card");
-			cardCompany = (String) cardInfo.get("company");
-			cardNumber = (String) cardInfo.get("number"); // 카드 마지막 4자리
 
-			UserCard newOrUpdatedCard = UserCard.builder()
+			newCard = UserCard.builder()
 					.userId(userId)
 					.billingKey(billingKey)
-					.cardCompany(cardCompany)
-					.cardNumber(cardNumber)
+					.cardCompany((String) cardInfo.get("company"))
+					.cardNumber((String) cardInfo.get("number")) // 카드 마지막 4자리
 					.regDate(LocalDateTime.now())
 					.build();
-
-			if (existingUserCard.isPresent()) {
-				userCardDao.updateUserCard(newOrUpdatedCard); // 기존 카드 정보 업데이트
-				log.info("사용자 {}의 카드 정보 업데이트 완료 (billingKey: {})", userId, billingKey);
-			} else {
-				userCardDao.insertUserCard(newOrUpdatedCard); // 새 카드 정보 삽입
-				log.info("사용자 {}의 카드 정보 등록 완료 (billingKey: {})", userId, billingKey);
-			}
-			userCard = newOrUpdatedCard;
-
-		} else if (paymentRequest.isUseExistingCard()) {
+		} else {
 			// Case B: 기존 카드 사용
-			userCard = existingUserCard.orElseThrow(() -> new BusinessException(ErrorCode.BILLING_KEY_NOT_FOUND, "저장된 카드 정보가 없습니다."));
+			UserCard userCard = userCardDao.findByUserId(userId)
+					.orElseThrow(() -> new BusinessException(ErrorCode.BILLING_KEY_NOT_FOUND, "저장된 카드 정보가 없습니다."));
 			billingKey = userCard.getBillingKey();
 			log.info("사용자 {}의 기존 카드 정보 사용 (billingKey: {})", userId, billingKey);
-		} else {
-			// 유효하지 않은 요청 (authKey도 없고 기존 카드 사용 플래그도 없음)
-			throw new BusinessException(ErrorCode.INVALID_PAYMENT_REQUEST, "유효한 결제 요청 정보가 없습니다.");
 		}
 
-		// 3. 빌링키로 첫 결제 실행 (보증금 + 월회비)
 		int fee = party.getMonthlyFee();
 		int depositAmount = fee; // 보증금은 월회비와 동일
 		int initialSubscriptionFee = fee; // 첫 달 월회비
-		int totalAmount = depositAmount + initialSubscriptionFee;
 
 		String orderId = "PARTY_JOIN_" + party.getPartyId() + "_" + userId + "_" + System.currentTimeMillis();
-		String paymentKey;
-		try {
-			paymentKey = tossPaymentService.payWithBillingKey(
-					billingKey,
-					orderId,
-					totalAmount,
-					"MOA 파티 가입 (보증금 + 첫 달 구독료)",
-					userId // customerKey
-			);
-			log.info("Toss 빌링키 결제 성공: paymentKey={}, orderId={}", paymentKey, orderId);
-		} catch (Exception e) {
-			// 결제 실패 시, 트랜잭션 롤백 (partyMember 생성, currentMembers 증가 등 모두 롤백)
-			log.error("Toss 빌링키 결제 실패: partyId={}, userId={}, error={}", partyId, userId, e.getMessage());
-			throw e;
+		String paymentKey = tossPaymentService.payWithBillingKey(
+				billingKey,
+				orderId,
+				depositAmount + initialSubscriptionFee,
+				"MOA 파티 가입 (보증금 + 첫 달 구독료)",
+				userId // customerKey
+		);
+		log.info("Toss 빌링키 결제 성공: paymentKey={}, orderId={}", paymentKey, orderId);
+
+		return new JoinCharge(newCard, orderId, paymentKey, depositAmount, initialSubscriptionFee);
+	}
+
+	/**
+	 * @return 이번 확정으로 정원이 차서 파티가 진행중이 되었으면 true
+	 */
+	private boolean confirmSeat(Party party, PartyMember partyMember, JoinCharge charge) {
+		Integer partyId = party.getPartyId();
+		String userId = partyMember.getUserId();
+
+		// 리퍼/반납과 같은 순서(PARTY → PARTY_MEMBER)로 잠근다
+		partyDao.lockById(partyId);
+		if (partyMemberDao.confirmJoinHold(partyMember.getPartyMemberId()) == 0) {
+			throw new BusinessException(ErrorCode.PARTY_JOIN_HOLD_EXPIRED);
+		}
+		partyMember.setMemberStatus(MemberStatus.ACTIVE);
+
+		UserCard newCard = charge.newCard();
+		if (newCard != null) {
+			if (userCardDao.findByUserId(userId).isPresent()) {
+				userCardDao.updateUserCard(newCard); // 기존 카드 정보 업데이트
+				log.info("사용자 {}의 카드 정보 업데이트 완료 (billingKey: {})", userId, newCard.getBillingKey());
+			} else {
+				userCardDao.insertUserCard(newCard); // 새 카드 정보 삽입
+				log.info("사용자 {}의 카드 정보 등록 완료 (billingKey: {})", userId, newCard.getBillingKey());
+			}
 		}
 
-		// 4. DEPOSIT 및 PAYMENT 기록 (두 가지 타입으로 분리)
 		String targetMonth = party.getStartDate().format(DateTimeFormatter.ofPattern("yyyy-MM"));
 
 		// 보증금 기록
@@ -355,46 +492,63 @@ public class PartyServiceImpl implements PartyService {
 				partyId,
 				partyMember.getPartyMemberId(),
 				userId,
-				depositAmount,
-				paymentKey, // paymentKey 전달
-				orderId,
+				charge.depositAmount(),
+				charge.paymentKey(), // paymentKey 전달
+				charge.orderId(),
 				"CARD" // 결제 수단
 		);
-		log.info("보증금 기록 완료: partyId={}, userId={}, amount={}", partyId, userId, depositAmount);
+		log.info("보증금 기록 완료: partyId={}, userId={}, amount={}", partyId, userId, charge.depositAmount());
 
 		// 첫 달 월회비 기록
 		paymentService.createInitialSubscriptionPayment(
 				partyId,
 				partyMember.getPartyMemberId(),
 				userId,
-				initialSubscriptionFee,
+				charge.subscriptionFee(),
 				targetMonth,
-				paymentKey, // paymentKey 전달
-				orderId,
+				charge.paymentKey(), // paymentKey 전달
+				charge.orderId(),
 				"CARD" // 결제 수단
 		);
-		log.info("첫 달 월회비 기록 완료: partyId={}, userId={}, amount={}", partyId, userId, initialSubscriptionFee);
+		log.info("첫 달 월회비 기록 완료: partyId={}, userId={}, amount={}", partyId, userId, charge.subscriptionFee());
 
-		// 5. 파티 멤버 최종 활성화 및 푸시 알림
-		partyMember.setMemberStatus(MemberStatus.ACTIVE);
-		partyMemberDao.updatePartyMember(partyMember);
-		log.info("파티 멤버 {} 활성화 완료: partyId={}", userId, partyId);
+		// 파티 정원 확인 및 상태 변경 (선점 중인 좌석은 제외하고 결제 확정 멤버 수로 판단)
+		boolean activated = partyDao.activateIfFull(partyId, partyMemberDao.countActiveByPartyId(partyId)) > 0;
+		partyListIndex.refresh(partyId);
+		return activated;
+	}
 
-		// 파티 정원 확인 및 상태 변경
-		Party updatedParty = partyDao.findById(partyId)
-				.orElseThrow(() -> new BusinessException(ErrorCode.PARTY_NOT_FOUND));
+	private void releaseSeat(PartyMember partyMember) {
+		try {
+			transactionTemplate.execute(status -> deleteHold(partyMember, false));
+		} catch (Exception e) {
+			// 만료 후 리퍼가 다시 반납한다
+			log.error("가입 선점 반납 실패: partyMemberId={}, error={}", partyMember.getPartyMemberId(), e.getMessage());
+		}
+	}
 
-		if (updatedParty.getCurrentMembers() >= updatedParty.getMaxMembers()) {
-			partyDao.updatePartyStatus(partyId, PartyStatus.ACTIVE);
-			safeSendPush(() -> sendPartyStartPushToAllMembers(partyId, updatedParty));
-			log.info("파티 {} 활성화 완료 (정원 충족)", partyId);
+	private boolean deleteHold(PartyMember hold, boolean expiredOnly) {
+		partyDao.lockById(hold.getPartyId());
+		if (partyMemberDao.deleteJoinHold(hold.getPartyMemberId(), expiredOnly) == 0) {
+			return false;
 		}
+		partyDao.decrementCurrentMembers(hold.getPartyId());
+		partyListIndex.refresh(hold.getPartyId());
+		return true;
+	}
 
-		safeSendPush(() -> sendPartyJoinPush(userId, getUserNickname(userId), party));
-		safeSendPush(() -> sendPartyMemberJoinPushToLeader(userId, party));
+	private void cancelJoinCharge(JoinCharge charge) {
+		try {
+			tossPaymentService.cancelPayment(charge.paymentKey(), "파티 가입 처리 실패",
+					charge.depositAmount() + charge.subscriptionFee());
+		} catch (Exception e) {
+			log.error("파티 가입 결제 취소 실패, 수동 환불 필요: paymentKey={}, orderId={}, error={}", charge.paymentKey(),
+					charge.orderId(), e.getMessage());
+		}
+	}
 
-		return partyMemberDao.findByPartyMemberId(partyMember.getPartyMemberId())
-				.orElseThrow(() -> new BusinessException(ErrorCode.PARTY_MEMBER_NOT_FOUND));
+	private record JoinCharge(UserCard newCard, String orderId, String paymentKey, int depositAmount,
+			int subscriptionFee) {
 	}
 
 	@Override
@@ -427,6 +581,7 @@ public class PartyServiceImpl implements PartyService {
 		if (updatedRows == 0) {
 			throw new BusinessException(ErrorCode.PARTY_NOT_FOUND);
 		}
+		partyListIndex.refresh(partyId);
 
 		Deposit memberDeposit = depositService.findByPartyIdAndUserId(partyId, userId);
 		if (memberDeposit != null) {
@@ -450,6 +605,7 @@ public class PartyServiceImpl implements PartyService {
 		if (updatedParty.getPartyStatus() == PartyStatus.ACTIVE
 				&& updatedParty.getCurrentMembers() < updatedParty.getMaxMembers()) {
 			partyDao.updatePartyStatus(partyId, PartyStatus.RECRUITING);
+			partyListIndex.refresh(partyId);
 		}
 
 		safeSendPush(() -> sendPartyWithdrawPush(userId, party));
@@ -516,25 +672,12 @@ public class PartyServiceImpl implements PartyService {
 		}
 	}
 
-	private String getProductName(Integer productId) {
-		if (productId == null)
-			return "OTT 서비스";
-
-		try {
-			Product product = productDao.getProduct(productId);
-			return (product != null && product.getProductName() != null) ? product.getProductName() : "OTT 서비스";
-		} catch (Exception e) {
-			log.warn("상품 조회 실패: productId={}", productId);
-			return "OTT 서비스";
-		}
-	}
-
 	// ========== 파티 가입 푸시 ==========
 
 	private void sendPartyJoinPush(String userId, String nickname, Party party) {
 		TemplatePushRequest pushRequest = TemplatePushRequest.builder().receiverId(userId)
 				.pushCode(PushCodeType.PARTY_JOIN.getCode())
-				.params(Map.of("nickname", nickname, "productName", getProductName(party.getProductId()),
+				.params(Map.of("nickname", nickname, "productName", productCatalog.getProductName(party.getProductId()),
 						"currentCount", String.valueOf(party.getCurrentMembers()), "maxCount",
 						String.valueOf(party.getMaxMembers())))
 				.moduleId(String.valueOf(party.getPartyId())).moduleType(PushCodeType.PARTY_JOIN.getModuleType())
@@ -546,7 +689,7 @@ public class PartyServiceImpl implements PartyService {
 
 	private void sendPartyMemberJoinPushToLeader(String newMemberUserId, Party party) {
 		String nickname = getUserNickname(newMemberUserId);
-		String productName = getProductName(party.getProductId());
+		String productName = productCatalog.getProductName(party.getProductId());
 
 		TemplatePushRequest pushRequest = TemplatePushRequest.builder().receiverId(party.getPartyLeaderId())
 				.pushCode(PushCodeType.PARTY_MEMBER_JOIN.getCode())
@@ -563,7 +706,7 @@ public class PartyServiceImpl implements PartyService {
 
 	private void sendPartyStartPushToAllMembers(Integer partyId, Party party) {
 		List<PartyMemberResponse> members = partyMemberDao.findMembersByPartyId(partyId);
-		String productName = getProductName(party.getProductId());
+		String productName = productCatalog.getProductName(party.getProductId());
 
 		for (PartyMemberResponse member : members) {
 			TemplatePushRequest pushRequest = TemplatePushRequest.builder().receiverId(member.getUserId())
@@ -579,7 +722,7 @@ public class PartyServiceImpl implements PartyService {
 
 	private void sendPartyWithdrawPush(String userId, Party party) {
 		String nickname = getUserNickname(userId);
-		String productName = getProductName(party.getProductId());
+		String productName = productCatalog.getProductName(party.getProductId());
 
 		TemplatePushRequest pushRequest = TemplatePushRequest.builder().receiverId(userId)
 				.pushCode(PushCodeType.PARTY_WITHDRAW.getCode())
@@ -593,7 +736,7 @@ public class PartyServiceImpl implements PartyService {
 
 	private void sendPartyMemberWithdrawPushToLeader(String withdrawUserId, Party party) {
 		String nickname = getUserNickname(withdrawUserId);
-		String productName = getProductName(party.getProductId());
+		String productName = productCatalog.getProductName(party.getProductId());
 
 		TemplatePushRequest pushRequest = TemplatePushRequest.builder().receiverId(party.getPartyLeaderId())
 				.pushCode(PushCodeType.PARTY_MEMBER_WITHDRAW.getCode())
@@ -611,6 +754,7 @@ public class PartyServiceImpl implements PartyService {
 	public void closeParty(Integer partyId, String reason) {
 		log.info("파티 종료 처리 (Scheduler) - partyId: {}, reason: {}", partyId, reason);
 		partyDao.updatePartyStatus(partyId, PartyStatus.CLOSED);
+		partyListIndex.refresh(partyId);
 
 	}
 
@@ -619,6 +763,7 @@ public class PartyServiceImpl implements PartyService {
 		log.info("만료된 파티 취소 처리 (Scheduler) - partyId: {}, reason: {}", partyId, reason);
 
 		partyDao.updatePartyStatus(partyId, PartyStatus.CLOSED);
+		partyListIndex.refresh(partyId);
 
 	}
 }
\ No newline at end of file
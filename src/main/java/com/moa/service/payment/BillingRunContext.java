@@ -0,0 +1,44 @@
+package com.moa.service.payment;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.moa.domain.Party;
+import com.moa.domain.PartyMember;
+import com.moa.domain.UserCard;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 정기결제 실행 단위 선조회 컨텍스트
+ *
+ * 실행 시작 시 파티/멤버/카드/당월 결제/상품을 일괄 조회해 두고,
+ * 멤버별 처리에서는 메모리 조회만 하도록 한다.
+ */
+@Getter
+@Builder
+public class BillingRunContext {
+
+	private final String targetMonth;
+	private final List<Party> parties;
+	private final Map<Integer, List<PartyMember>> membersByParty;
+	private final Map<String, UserCard> cardsByUser;
+	private final Set<Integer> paidMemberIds;
+	private final Map<Integer, String> productNames;
+
+	public List<PartyMember> membersOf(Integer partyId) {
+		return membersByParty.getOrDefault(partyId, Collections.emptyList());
+	}
+
+	public boolean isAlreadyPaid(Integer partyMemberId) {
+		return paidMemberIds.contains(partyMemberId);
+	}
+
+	public BillingTarget targetOf(Party party, PartyMember member) {
+		return BillingTarget.builder().party(party).member(member).userCard(cardsByUser.get(member.getUserId()))
+				.productName(productNames.getOrDefault(party.getProductId(), "OTT 서비스")).build();
+	}
+}
@@ -0,0 +1,32 @@
+package com.moa.service.payment;
+
+import java.util.List;
+
+import com.moa.domain.Party;
+import com.moa.dto.payment.response.BillingRunSummary;
+
+/**
+ * 월 정기결제 실행 서비스
+ *
+ * 파티 단위로 작업을 나눠 워커 풀에서 병렬 처리한다.
+ * - 같은 파티의 멤버는 한 워커에서 순서대로 결제
+ * - Toss 동시 호출 수는 billing.run.max-concurrent-charges 로 제한
+ */
+public interface BillingRunService {
+
+	/**
+	 * 정기결제 실행
+	 *
+	 * @param parties     결제일이 도래한 파티 목록
+	 * @param targetMonth 대상 월 (YYYY-MM)
+	 * @return 실행 결과 요약 (성공/실패/생략 건수, 소요 시간)
+	 */
+	BillingRunSummary runMonthlyBilling(List<Party> parties, String targetMonth);
+
+	/**
+	 * 마지막 실행 결과 조회
+	 *
+	 * @return 마지막 실행 요약 (실행 이력이 없으면 null)
+	 */
+	BillingRunSummary getLastRunSummary();
+}
@@ -0,0 +1,23 @@
+package com.moa.service.payment;
+
+import com.moa.domain.Party;
+import com.moa.domain.PartyMember;
+import com.moa.domain.UserCard;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 정기결제 1건에 필요한 선조회 데이터 (파티, 멤버, 카드, 상품명)
+ *
+ * userCard 가 null 이면 결제 시점에 카드를 다시 조회한다.
+ */
+@Getter
+@Builder
+public class BillingTarget {
+
+	private final Party party;
+	private final PartyMember member;
+	private final UserCard userCard;
+	private final String productName;
+}
@@ -1,6 +1,5 @@
 package com.moa.service.payment;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -14,9 +13,11 @@ import com.moa.domain.PaymentRetryHistory;
  *
  * Retry Strategy:
  * - Attempt 1: Initial payment attempt (immediate)
- * - Attempt 2: +24 hours after first failure
- * - Attempt 3: +48 hours after second failure
- * - Attempt 4: +72 hours after third failure (final attempt)
+ * - Attempt 2: ~24 hours after first failure
+ * - Attempt 3: ~48 hours after second failure
+ * - Attempt 4: ~72 hours after third failure (final attempt)
+ * - Each due time is jittered (billing.retry.jitter-minutes) so retries spread across the day
+ *   instead of landing on the daily billing run
  *
  * @author MOA Team
  * @since 2025-12-04
@@ -63,20 +64,37 @@ public interface PaymentRetryService {
             BusinessException exception);
 
     /**
-     * Find all payments that need retry today
-     * Queries retry history for FAILED status with NEXT_RETRY_DATE = today
+     * Record a charge that was never sent to Toss (circuit open at the billing run deadline)
+     * Creates FAILED record with attempt 0 so the retry poller makes attempt 1 once Toss is back
      *
-     * @param today Today's date
-     * @return List of retry history records pending retry
+     * @param payment PENDING payment to charge later
      */
-    List<PaymentRetryHistory> findPendingRetries(LocalDate today);
+    void recordDeferred(Payment payment);
+
+    /**
+     * Find retries whose due time has passed
+     * Queries retry history for FAILED status with NEXT_RETRY_DATE at or before now (oldest first)
+     *
+     * @param limit Maximum number of records
+     * @return List of retry history records due for retry
+     */
+    List<PaymentRetryHistory> findDueRetries(int limit);
 
     /**
      * Retry a failed payment
-     * Loads payment, verifies status, and calls PaymentService to attempt again
+     * Claims the retry record, loads payment, verifies status, and calls PaymentService to attempt again
      *
      * @param retry Retry history record
      * @param targetMonth Target month for payment (YYYY-MM format)
+     * @return true if a payment attempt was made (false if already claimed or nothing to do)
+     */
+    boolean retryPayment(PaymentRetryHistory retry, String targetMonth);
+
+    /**
+     * Calculate the jittered due time for the next attempt
+     *
+     * @param attemptNumber Attempt number that just failed
+     * @return When to retry next
      */
-    void retryPayment(PaymentRetryHistory retry, String targetMonth);
+    LocalDateTime calculateNextRetryDate(int attemptNumber);
 }
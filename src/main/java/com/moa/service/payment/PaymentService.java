@@ -3,6 +3,7 @@ package com.moa.service.payment;
 import java.util.List;
 
 import com.moa.domain.Payment;
+import com.moa.domain.enums.BillingOutcome;
 import com.moa.dto.payment.request.PaymentRequest;
 import com.moa.dto.payment.response.PaymentDetailResponse;
 import com.moa.dto.payment.response.PaymentResponse;
@@ -72,21 +73,14 @@ public interface PaymentService {
 
         /**
          * Process monthly payment with retry logic
-         * Called by PaymentScheduler for automatic monthly payments
+         * Called by the billing run with data prefetched for the whole run
          * Creates PENDING payment and attempts execution
          *
-         * @param partyId       Party ID
-         * @param partyMemberId Party Member ID
-         * @param userId        User ID
-         * @param amount        Payment amount
-         * @param targetMonth   Target month (YYYY-MM format)
+         * @param target      Prefetched party, member, card and product name
+         * @param targetMonth Target month (YYYY-MM format)
+         * @return CHARGED / FAILED, or SKIPPED if already paid for the month
          */
-        void processMonthlyPayment(
-                        Integer partyId,
-                        Integer partyMemberId,
-                        String userId,
-                        Integer amount,
-                        String targetMonth);
+        BillingOutcome processMonthlyPayment(BillingTarget target, String targetMonth);
 
         /**
          * Attempt payment execution with billing key
@@ -95,8 +89,20 @@ public interface PaymentService {
          *
          * @param payment       Payment to attempt
          * @param attemptNumber Attempt number (1-4)
+         * @return true if the charge succeeded
+         */
+        boolean attemptPaymentExecution(Payment payment, int attemptNumber);
+
+        /**
+         * Queue the monthly charge for the retry poller without calling Toss
+         * Used when the Toss circuit is still open at the billing run deadline:
+         * creates the PENDING payment and a due retry that does not consume an attempt
+         *
+         * @param target      Prefetched party, member, card and product name
+         * @param targetMonth Target month (YYYY-MM format)
+         * @return false if a payment for the month already exists
          */
-        void attemptPaymentExecution(Payment payment, int attemptNumber);
+        boolean deferMonthlyPayment(BillingTarget target, String targetMonth);
 
         /**
          * 결제 환불 (파티 탈퇴 시)
@@ -0,0 +1,145 @@
+package com.moa.service.payment;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import com.moa.dto.payment.response.TossApiLatencyResponse;
+
+/**
+ * 토스 API 엔드포인트별 지연 시간 히스토그램
+ *
+ * RestTemplate 인터셉터로 등록되어 confirm / cancel / billing-key-issue / billing-charge 호출만 기록한다.
+ * 버킷 상한(ms)은 고정이며, 백분위수는 해당 버킷의 상한으로 근사한다.
+ */
+@Component
+public class TossApiMetrics implements ClientHttpRequestInterceptor {
+
+	public static final String CONFIRM = "confirm";
+	public static final String CANCEL = "cancel";
+	public static final String BILLING_KEY_ISSUE = "billing-key-issue";
+	public static final String BILLING_CHARGE = "billing-charge";
+
+	private static final long[] BUCKET_BOUNDS_MS = { 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+	private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+
+	public TossApiMetrics() {
+		for (String endpoint : List.of(CONFIRM, CANCEL, BILLING_KEY_ISSUE, BILLING_CHARGE)) {
+			histograms.put(endpoint, new Histogram());
+		}
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		String endpoint = resolveEndpoint(request.getURI().getPath());
+		if (endpoint == null) {
+			return execution.execute(request, body);
+		}
+
+		long startedAt = System.nanoTime();
+		boolean error = true;
+		try {
+			ClientHttpResponse response = execution.execute(request, body);
+			error = !response.getStatusCode().is2xxSuccessful();
+			return response;
+		} finally {
+			histograms.get(endpoint).record((System.nanoTime() - startedAt) / 1_000_000, error);
+		}
+	}
+
+	public List<TossApiLatencyResponse> snapshot() {
+		List<TossApiLatencyResponse> result = new ArrayList<>(histograms.size());
+		histograms.forEach((endpoint, histogram) -> result.add(histogram.snapshot(endpoint)));
+		return result;
+	}
+
+	static String resolveEndpoint(String path) {
+		if (path == null) {
+			return null;
+		}
+		if (path.endsWith("/v1/payments/confirm")) {
+			return CONFIRM;
+		}
+		if (path.contains("/v1/payments/") && path.endsWith("/cancel")) {
+			return CANCEL;
+		}
+		if (path.endsWith("/v1/billing/authorizations/issue")) {
+			return BILLING_KEY_ISSUE;
+		}
+		if (path.contains("/v1/billing/")) {
+			return BILLING_CHARGE;
+		}
+		return null;
+	}
+
+	private static final class Histogram {
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+		private final LongAdder count = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder totalMs = new LongAdder();
+		private final AtomicLong maxMs = new AtomicLong();
+
+		void record(long elapsedMs, boolean error) {
+			int index = 0;
+			while (index < BUCKET_BOUNDS_MS.length && elapsedMs > BUCKET_BOUNDS_MS[index]) {
+				index++;
+			}
+			buckets.incrementAndGet(index);
+			count.increment();
+			totalMs.add(elapsedMs);
+			maxMs.accumulateAndGet(elapsedMs, Math::max);
+			if (error) {
+				errors.increment();
+			}
+		}
+
+		TossApiLatencyResponse snapshot(String endpoint) {
+			long[] counts = new long[buckets.length()];
+			long total = 0;
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] = buckets.get(i);
+				total += counts[i];
+			}
+
+			Map<String, Long> bucketView = new LinkedHashMap<>();
+			for (int i = 0; i < counts.length; i++) {
+				bucketView.put(i < BUCKET_BOUNDS_MS.length ? "le" + BUCKET_BOUNDS_MS[i] : "inf", counts[i]);
+			}
+
+			long calls = count.sum();
+			return TossApiLatencyResponse.builder().endpoint(endpoint).count(calls).errorCount(errors.sum())
+					.avgMs(calls > 0 ? totalMs.sum() / calls : 0).p50Ms(percentile(counts, total, 0.50))
+					.p95Ms(percentile(counts, total, 0.95)).p99Ms(percentile(counts, total, 0.99)).maxMs(maxMs.get())
+					.buckets(bucketView).build();
+		}
+
+		private long percentile(long[] counts, long total, double quantile) {
+			if (total == 0) {
+				return 0;
+			}
+			long rank = (long) Math.ceil(total * quantile);
+			long seen = 0;
+			for (int i = 0; i < counts.length; i++) {
+				seen += counts[i];
+				if (seen >= rank) {
+					return i < BUCKET_BOUNDS_MS.length ? BUCKET_BOUNDS_MS[i] : maxMs.get();
+				}
+			}
+			return maxMs.get();
+		}
+	}
+}
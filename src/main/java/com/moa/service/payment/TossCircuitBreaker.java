@@ -0,0 +1,191 @@
+package com.moa.service.payment;
+
+import java.util.Arrays;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.moa.common.exception.TossPaymentException;
+import com.moa.common.exception.TossUnavailableException;
+import com.moa.config.TossPaymentConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토스 API 서킷 브레이커 + bulkhead
+ *
+ * - CLOSED: 최근 N건의 결과를 링버퍼로 유지하고 실패율이 임계치를 넘으면 OPEN
+ * - OPEN: open-duration 동안 호출하지 않고 TossUnavailableException 으로 즉시 실패
+ * - HALF_OPEN: half-open-probes 건만 시험 호출, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ *
+ * 토스가 응답한 결제 거절(TossPaymentException)은 토스가 정상 동작한 것이므로 성공으로 집계하고,
+ * 타임아웃/5xx/응답 오류만 실패로 집계한다.
+ */
+@Component
+@Slf4j
+public class TossCircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final TossPaymentConfig config;
+	private final Semaphore bulkhead;
+
+	private final boolean[] window;
+	private int windowCount;
+	private int windowIndex;
+	private int windowFailures;
+
+	private State state = State.CLOSED;
+	private long openUntilMillis;
+	private int probesIssued;
+	private int probeSuccesses;
+	/** 상태 전이마다 증가, 이전 상태에서 시작된 호출의 결과는 무시한다 */
+	private long generation;
+
+	public TossCircuitBreaker(TossPaymentConfig config) {
+		this.config = config;
+		this.bulkhead = new Semaphore(Math.max(1, config.getBulkheadMaxConcurrent()), true);
+		this.window = new boolean[Math.max(1, config.getCircuitSlidingWindowSize())];
+	}
+
+	public <T> T execute(String endpoint, Supplier<T> call) {
+		acquireBulkhead(endpoint);
+		try {
+			long callGeneration = acquirePermission(endpoint);
+			try {
+				T result = call.get();
+				onResult(callGeneration, true);
+				return result;
+			} catch (TossPaymentException e) {
+				onResult(callGeneration, true);
+				throw e;
+			} catch (RuntimeException e) {
+				onResult(callGeneration, false);
+				throw e;
+			}
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	public void execute(String endpoint, Runnable call) {
+		execute(endpoint, () -> {
+			call.run();
+			return null;
+		});
+	}
+
+	/**
+	 * 지금 호출하면 서킷에서 거절되지 않는지 (상태는 바꾸지 않는다)
+	 */
+	public synchronized boolean isCallPermitted() {
+		return switch (state) {
+		case CLOSED -> true;
+		case OPEN -> System.currentTimeMillis() >= openUntilMillis;
+		case HALF_OPEN -> probesIssued < config.getCircuitHalfOpenProbes();
+		};
+	}
+
+	/**
+	 * 호출이 가능해질 때까지 최대 maxWaitMillis 동안 대기한다.
+	 *
+	 * @return 대기 중 호출 가능 상태가 되면 true, 시간 초과면 false
+	 */
+	public synchronized boolean awaitCallPermitted(long maxWaitMillis) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + maxWaitMillis;
+		while (!isCallPermitted()) {
+			long now = System.currentTimeMillis();
+			if (now >= deadline) {
+				return false;
+			}
+			long wakeAt = state == State.OPEN ? Math.min(openUntilMillis, deadline) : deadline;
+			wait(Math.max(1, wakeAt - now));
+		}
+		return true;
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	private void acquireBulkhead(String endpoint) {
+		try {
+			if (!bulkhead.tryAcquire(config.getBulkheadMaxWaitMs(), TimeUnit.MILLISECONDS)) {
+				log.warn("토스 API 동시 호출 한도 초과: endpoint={}, maxConcurrent={}", endpoint,
+						config.getBulkheadMaxConcurrent());
+				throw new TossUnavailableException("결제 요청이 많아 잠시 후 다시 시도해주세요.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TossUnavailableException("결제 요청 대기 중 중단되었습니다.");
+		}
+	}
+
+	private synchronized long acquirePermission(String endpoint) {
+		if (state == State.OPEN && System.currentTimeMillis() >= openUntilMillis) {
+			transitionTo(State.HALF_OPEN);
+		}
+
+		if (state == State.OPEN || (state == State.HALF_OPEN && probesIssued >= config.getCircuitHalfOpenProbes())) {
+			log.debug("토스 API 서킷 {} 상태, 호출 거절: endpoint={}", state, endpoint);
+			throw new TossUnavailableException("결제 시스템 점검 중입니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		if (state == State.HALF_OPEN) {
+			probesIssued++;
+		}
+		return generation;
+	}
+
+	private synchronized void onResult(long callGeneration, boolean success) {
+		if (callGeneration != generation) {
+			return;
+		}
+
+		if (state == State.HALF_OPEN) {
+			if (!success) {
+				transitionTo(State.OPEN);
+			} else if (++probeSuccesses >= config.getCircuitHalfOpenProbes()) {
+				transitionTo(State.CLOSED);
+			}
+			return;
+		}
+
+		if (windowCount == window.length && window[windowIndex]) {
+			windowFailures--;
+		}
+		window[windowIndex] = !success;
+		if (!success) {
+			windowFailures++;
+		}
+		windowIndex = (windowIndex + 1) % window.length;
+		windowCount = Math.min(windowCount + 1, window.length);
+
+		if (windowCount >= config.getCircuitMinimumCalls()
+				&& windowFailures * 100 >= config.getCircuitFailureRateThreshold() * windowCount) {
+			transitionTo(State.OPEN);
+		}
+	}
+
+	private void transitionTo(State next) {
+		log.warn("토스 API 서킷 상태 변경: {} -> {} (최근 실패 {}/{})", state, next, windowFailures, windowCount);
+		state = next;
+		generation++;
+		probesIssued = 0;
+		probeSuccesses = 0;
+
+		if (next == State.OPEN) {
+			openUntilMillis = System.currentTimeMillis() + config.getCircuitOpenDurationMs();
+		} else {
+			windowCount = 0;
+			windowIndex = 0;
+			windowFailures = 0;
+			Arrays.fill(window, false);
+		}
+		notifyAll();
+	}
+}
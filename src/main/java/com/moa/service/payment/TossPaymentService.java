@@ -5,6 +5,7 @@ import java.util.Base64;
 import java.util.Collections;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -20,20 +21,32 @@ import com.moa.common.exception.ErrorCode;
 import com.moa.common.exception.TossPaymentException;
 import com.moa.config.TossPaymentConfig;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TossPaymentService {
 
     private final TossPaymentConfig tossPaymentConfig;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final TossCircuitBreaker tossCircuitBreaker;
+
+    public TossPaymentService(TossPaymentConfig tossPaymentConfig,
+            @Qualifier("tossRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper,
+            TossCircuitBreaker tossCircuitBreaker) {
+        this.tossPaymentConfig = tossPaymentConfig;
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.tossCircuitBreaker = tossCircuitBreaker;
+    }
 
     public void confirmPayment(String paymentKey, String orderId, Integer amount) {
-        String url = "https://api.tosspayments.com/v1/payments/confirm";
+        tossCircuitBreaker.execute(TossApiMetrics.CONFIRM, () -> requestConfirm(paymentKey, orderId, amount));
+    }
+
+    private void requestConfirm(String paymentKey, String orderId, Integer amount) {
+        String url = tossPaymentConfig.getApiBaseUrl() + "/v1/payments/confirm";
 
         // 1. 헤더 설정 (Basic Auth)
         HttpHeaders headers = createHeaders();
@@ -73,7 +86,11 @@ public class TossPaymentService {
      * @param cancelAmount 취소 금액 (전액 취소 시 null 가능하지만, 명시적으로 넣는 것 권장)
      */
     public void cancelPayment(String paymentKey, String cancelReason, Integer cancelAmount) {
-        String url = "https://api.tosspayments.com/v1/payments/" + paymentKey + "/cancel";
+        tossCircuitBreaker.execute(TossApiMetrics.CANCEL, () -> requestCancel(paymentKey, cancelReason, cancelAmount));
+    }
+
+    private void requestCancel(String paymentKey, String cancelReason, Integer cancelAmount) {
+        String url = tossPaymentConfig.getApiBaseUrl() + "/v1/payments/" + paymentKey + "/cancel";
 
         // 1. 헤더 설정 (Basic Auth)
         HttpHeaders headers = createHeaders();
@@ -111,7 +128,12 @@ public class TossPaymentService {
      * @return 빌링키 발급 응답 (billingKey, card 정보 포함)
      */
     public Map<String, Object> issueBillingKey(String authKey, String customerKey) {
-        String url = "https://api.tosspayments.com/v1/billing/authorizations/issue";
+        return tossCircuitBreaker.execute(TossApiMetrics.BILLING_KEY_ISSUE,
+                () -> requestIssueBillingKey(authKey, customerKey));
+    }
+
+    private Map<String, Object> requestIssueBillingKey(String authKey, String customerKey) {
+        String url = tossPaymentConfig.getApiBaseUrl() + "/v1/billing/authorizations/issue";
 
         // 1. 헤더 설정 (Basic Auth)
         HttpHeaders headers = createHeaders();
@@ -166,7 +188,13 @@ public class TossPaymentService {
      */
     public String payWithBillingKey(String billingKey, String orderId, Integer amount, String orderName,
             String customerKey) {
-        String url = "https://api.tosspayments.com/v1/billing/" + billingKey;
+        return tossCircuitBreaker.execute(TossApiMetrics.BILLING_CHARGE,
+                () -> requestBillingCharge(billingKey, orderId, amount, orderName, customerKey));
+    }
+
+    private String requestBillingCharge(String billingKey, String orderId, Integer amount, String orderName,
+            String customerKey) {
+        String url = tossPaymentConfig.getApiBaseUrl() + "/v1/billing/" + billingKey;
 
         // 1. 헤더 설정 (Basic Auth)
         HttpHeaders headers = createHeaders();
@@ -0,0 +1,287 @@
+package com.moa.service.payment.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.moa.common.exception.TossUnavailableException;
+import com.moa.config.BillingConfig;
+import com.moa.dao.partymember.PartyMemberDao;
+import com.moa.dao.payment.PaymentDao;
+import com.moa.dao.user.UserCardDao;
+import com.moa.domain.Party;
+import com.moa.domain.PartyMember;
+import com.moa.domain.UserCard;
+import com.moa.domain.enums.BillingOutcome;
+import com.moa.dto.payment.response.BillingRunSummary;
+import com.moa.service.payment.BillingRunContext;
+import com.moa.service.payment.BillingRunService;
+import com.moa.service.payment.BillingTarget;
+import com.moa.service.payment.PaymentService;
+import com.moa.service.payment.TossCircuitBreaker;
+import com.moa.service.product.ProductCatalog;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class BillingRunServiceImpl implements BillingRunService {
+
+	private static final int PREFETCH_CHUNK_SIZE = 1000;
+
+	private final PartyMemberDao partyMemberDao;
+	private final PaymentDao paymentDao;
+	private final UserCardDao userCardDao;
+	private final ProductCatalog productCatalog;
+	private final PaymentService paymentService;
+	private final ThreadPoolTaskExecutor billingExecutor;
+	private final BillingConfig billingConfig;
+	private final TossCircuitBreaker tossCircuitBreaker;
+	private final Semaphore chargePermits;
+
+	private volatile BillingRunSummary lastRunSummary;
+
+	public BillingRunServiceImpl(PartyMemberDao partyMemberDao, PaymentDao paymentDao, UserCardDao userCardDao,
+			ProductCatalog productCatalog, PaymentService paymentService,
+			@Qualifier("billingExecutor") ThreadPoolTaskExecutor billingExecutor, BillingConfig billingConfig,
+			TossCircuitBreaker tossCircuitBreaker) {
+		this.partyMemberDao = partyMemberDao;
+		this.paymentDao = paymentDao;
+		this.userCardDao = userCardDao;
+		this.productCatalog = productCatalog;
+		this.paymentService = paymentService;
+		this.billingExecutor = billingExecutor;
+		this.billingConfig = billingConfig;
+		this.tossCircuitBreaker = tossCircuitBreaker;
+		this.chargePermits = new Semaphore(Math.max(1, billingConfig.getMaxConcurrentCharges()), true);
+	}
+
+	@Override
+	public BillingRunSummary runMonthlyBilling(List<Party> parties, String targetMonth) {
+		LocalDateTime startedAt = LocalDateTime.now();
+		long startNanos = System.nanoTime();
+		RunCounters counters = new RunCounters(
+				startNanos + TimeUnit.MINUTES.toNanos(billingConfig.getAwaitTimeoutMinutes()));
+
+		List<Party> eligibleParties = new ArrayList<>();
+		for (Party party : parties) {
+			if (isPartyPaymentEligible(party)) {
+				eligibleParties.add(party);
+			} else {
+				log.warn("결제 불가능한 파티 상태, 스킵: partyId={}, status={}", party.getPartyId(), party.getPartyStatus());
+				counters.skippedParties.incrementAndGet();
+			}
+		}
+
+		BillingRunContext context = loadContext(eligibleParties, targetMonth);
+
+		List<CompletableFuture<Void>> futures = eligibleParties.stream()
+				.map(party -> CompletableFuture.runAsync(() -> processParty(party, context, counters),
+						billingExecutor))
+				.toList();
+
+		boolean timedOut = false;
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(billingConfig.getAwaitTimeoutMinutes(),
+					TimeUnit.MINUTES);
+		} catch (TimeoutException e) {
+			timedOut = true;
+			log.error("정기결제 실행 시간 초과: targetMonth={}, timeout={}분", targetMonth,
+					billingConfig.getAwaitTimeoutMinutes());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.error("정기결제 실행 중단: targetMonth={}", targetMonth);
+		} catch (ExecutionException e) {
+			log.error("정기결제 실행 중 오류: targetMonth={}", targetMonth, e.getCause());
+		}
+
+		BillingRunSummary summary = BillingRunSummary.builder().targetMonth(targetMonth).partyCount(parties.size())
+				.skippedParties(counters.skippedParties.get()).charged(counters.charged.get())
+				.failed(counters.failed.get()).skipped(counters.skipped.get()).deferred(counters.deferred.get())
+				.pauses(counters.pauses.get()).startedAt(startedAt)
+				.elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)).timedOut(timedOut)
+				.build();
+
+		lastRunSummary = summary;
+		log.info("정기결제 실행 완료: targetMonth={}, parties={}, skippedParties={}, charged={}, failed={}, skipped={}, deferred={}, pauses={}, elapsed={}ms",
+				targetMonth, summary.getPartyCount(), summary.getSkippedParties(), summary.getCharged(),
+				summary.getFailed(), summary.getSkipped(), summary.getDeferred(), summary.getPauses(),
+				summary.getElapsedMillis());
+
+		return summary;
+	}
+
+	@Override
+	public BillingRunSummary getLastRunSummary() {
+		return lastRunSummary;
+	}
+
+	private BillingRunContext loadContext(List<Party> parties, String targetMonth) {
+		List<Integer> partyIds = parties.stream().map(Party::getPartyId).toList();
+
+		List<PartyMember> members = new ArrayList<>();
+		Set<Integer> paidMemberIds = new HashSet<>();
+		for (List<Integer> chunk : chunk(partyIds)) {
+			members.addAll(partyMemberDao.findActiveMembersExcludingLeaderByPartyIds(chunk));
+			paidMemberIds.addAll(paymentDao.findPaidPartyMemberIds(chunk, targetMonth));
+		}
+
+		Map<Integer, List<PartyMember>> membersByParty = members.stream()
+				.collect(Collectors.groupingBy(PartyMember::getPartyId, LinkedHashMap::new, Collectors.toList()));
+
+		List<String> userIds = members.stream().map(PartyMember::getUserId).distinct().toList();
+		Map<String, UserCard> cardsByUser = new HashMap<>();
+		for (List<String> chunk : chunk(userIds)) {
+			userCardDao.findByUserIds(chunk).forEach(card -> cardsByUser.put(card.getUserId(), card));
+		}
+
+		Map<Integer, String> productNames = new HashMap<>();
+		try {
+			productCatalog.getProductList().forEach(product -> productNames.put(product.getProductId(),
+					product.getProductName() != null ? product.getProductName() : "OTT 서비스"));
+		} catch (Exception e) {
+			log.warn("상품 목록 선조회 실패, 기본 상품명 사용: {}", e.getMessage());
+		}
+
+		log.info("정기결제 선조회 완료: parties={}, members={}, cards={}, alreadyPaid={}", partyIds.size(), members.size(),
+				cardsByUser.size(), paidMemberIds.size());
+
+		return BillingRunContext.builder().targetMonth(targetMonth).parties(parties).membersByParty(membersByParty)
+				.cardsByUser(cardsByUser).paidMemberIds(paidMemberIds).productNames(productNames).build();
+	}
+
+	private void processParty(Party party, BillingRunContext context, RunCounters counters) {
+		try {
+			List<PartyMember> members = context.membersOf(party.getPartyId());
+			log.info("Processing {} active members for partyId: {}", members.size(), party.getPartyId());
+
+			for (PartyMember member : members) {
+				if (context.isAlreadyPaid(member.getPartyMemberId())) {
+					counters.skipped.incrementAndGet();
+					continue;
+				}
+				chargeMember(context.targetOf(party, member), context.getTargetMonth(), counters);
+			}
+		} catch (Exception e) {
+			log.error("Failed to process payments for partyId: {}", party.getPartyId(), e);
+		}
+	}
+
+	/**
+	 * 토스 서킷이 열려 있으면 실패로 기록하지 않고 서킷이 다시 호출을 허용할 때까지 기다렸다가 같은 회원부터 이어서 결제한다.
+	 * 실행 제한 시간 안에 서킷이 닫히지 않으면 PENDING 결제와 재시도 예약을 남겨 재시도 폴러에 넘기고 deferred 로 집계한다.
+	 * (다음 날 실행은 그날 결제일인 파티만 조회하므로 여기서 남기지 않으면 이 회원은 당월 결제에서 빠진다)
+	 */
+	private void chargeMember(BillingTarget target, String targetMonth, RunCounters counters) {
+		boolean acquired = false;
+		try {
+			chargePermits.acquire();
+			acquired = true;
+
+			while (true) {
+				if (!tossCircuitBreaker.isCallPermitted() && !awaitToss(target, counters)) {
+					if (paymentService.deferMonthlyPayment(target, targetMonth)) {
+						counters.deferred.incrementAndGet();
+					} else {
+						counters.skipped.incrementAndGet();
+					}
+					return;
+				}
+				try {
+					BillingOutcome outcome = paymentService.processMonthlyPayment(target, targetMonth);
+					counters.record(outcome);
+					return;
+				} catch (TossUnavailableException e) {
+					log.debug("토스 호출 불가, 재대기: partyMemberId={}", target.getMember().getPartyMemberId());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			counters.skipped.incrementAndGet();
+		} catch (Exception e) {
+			log.error("Failed to process payment for partyMemberId: {}", target.getMember().getPartyMemberId(), e);
+			counters.failed.incrementAndGet();
+		} finally {
+			if (acquired) {
+				chargePermits.release();
+			}
+		}
+	}
+
+	private boolean awaitToss(BillingTarget target, RunCounters counters) throws InterruptedException {
+		long remainingMillis = TimeUnit.NANOSECONDS.toMillis(counters.deadlineNanos - System.nanoTime());
+		if (remainingMillis <= 0) {
+			return false;
+		}
+
+		counters.pauses.incrementAndGet();
+		log.warn("토스 서킷 {} 상태, 정기결제 일시 중지: partyMemberId={}", tossCircuitBreaker.getState(),
+				target.getMember().getPartyMemberId());
+		boolean resumed = tossCircuitBreaker.awaitCallPermitted(remainingMillis);
+		if (resumed) {
+			log.info("토스 호출 재개, 정기결제 이어서 진행: partyMemberId={}", target.getMember().getPartyMemberId());
+		}
+		return resumed;
+	}
+
+	private static <T> List<List<T>> chunk(List<T> source) {
+		List<List<T>> chunks = new ArrayList<>();
+		for (int i = 0; i < source.size(); i += PREFETCH_CHUNK_SIZE) {
+			chunks.add(source.subList(i, Math.min(i + PREFETCH_CHUNK_SIZE, source.size())));
+		}
+		return chunks;
+	}
+
+	private boolean isPartyPaymentEligible(Party party) {
+		if (party == null) {
+			return false;
+		}
+
+		return switch (party.getPartyStatus()) {
+		case ACTIVE -> true;
+		case RECRUITING -> false;
+		case PENDING_PAYMENT -> false;
+		case SUSPENDED -> false;
+		case DISBANDED -> false;
+		case CLOSED -> false;
+		};
+	}
+
+	private static class RunCounters {
+		private final AtomicInteger charged = new AtomicInteger();
+		private final AtomicInteger failed = new AtomicInteger();
+		private final AtomicInteger skipped = new AtomicInteger();
+		private final AtomicInteger skippedParties = new AtomicInteger();
+		private final AtomicInteger deferred = new AtomicInteger();
+		private final AtomicInteger pauses = new AtomicInteger();
+		private final long deadlineNanos;
+
+		private RunCounters(long deadlineNanos) {
+			this.deadlineNanos = deadlineNanos;
+		}
+
+		private void record(BillingOutcome outcome) {
+			switch (outcome) {
+			case CHARGED -> charged.incrementAndGet();
+			case FAILED -> failed.incrementAndGet();
+			case SKIPPED -> skipped.incrementAndGet();
+			}
+		}
+	}
+}
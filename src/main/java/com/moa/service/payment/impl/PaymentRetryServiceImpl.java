@@ -1,15 +1,16 @@
 package com.moa.service.payment.impl;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.moa.common.exception.BusinessException;
-import com.moa.common.exception.ErrorCode;
+import com.moa.common.exception.TossUnavailableException;
+import com.moa.config.BillingConfig;
 import com.moa.dao.party.PartyDao;
 import com.moa.dao.partymember.PartyMemberDao;
 import com.moa.dao.payment.PaymentDao;
@@ -35,15 +36,17 @@ public class PaymentRetryServiceImpl implements PaymentRetryService {
 	private final PushService pushService;
 	private final PartyDao partyDao;
 	private final PartyMemberDao partyMemberDao;
+	private final BillingConfig billingConfig;
 
 	public PaymentRetryServiceImpl(PaymentRetryDao retryDao, PaymentDao paymentDao, @Lazy PaymentService paymentService,
-			PushService pushService, PartyDao partyDao, PartyMemberDao partyMemberDao) {
+			PushService pushService, PartyDao partyDao, PartyMemberDao partyMemberDao, BillingConfig billingConfig) {
 		this.retryDao = retryDao;
 		this.paymentDao = paymentDao;
 		this.paymentService = paymentService;
 		this.pushService = pushService;
 		this.partyDao = partyDao;
 		this.partyMemberDao = partyMemberDao;
+		this.billingConfig = billingConfig;
 	}
 
 	@Override
@@ -92,31 +95,71 @@ public class PaymentRetryServiceImpl implements PaymentRetryService {
 	}
 
 	@Override
-	@Transactional(readOnly = true)
-	public List<PaymentRetryHistory> findPendingRetries(LocalDate today) {
-		log.info("Finding pending retries for date: {}", today);
+	public void recordDeferred(Payment payment) {
+		LocalDateTime nextRetryDate = LocalDateTime.now().plusMinutes(billingConfig.getRetryDeferredDelayMinutes());
+
+		PaymentRetryHistory history = PaymentRetryHistory.builder().paymentId(payment.getPaymentId())
+				.partyId(payment.getPartyId()).partyMemberId(payment.getPartyMemberId()).attemptNumber(0)
+				.attemptDate(LocalDateTime.now()).retryStatus("FAILED").retryReason("Toss unavailable")
+				.nextRetryDate(nextRetryDate).build();
 
-		List<PaymentRetryHistory> retries = retryDao.findByNextRetryDate(today);
-		log.info("Found {} pending retries", retries.size());
+		retryDao.insert(history);
+		log.info("Payment deferred to retry poller: paymentId={}, nextRetry={}", payment.getPaymentId(),
+				nextRetryDate);
+	}
 
-		return retries;
+	@Override
+	@Transactional(readOnly = true)
+	public List<PaymentRetryHistory> findDueRetries(int limit) {
+		return retryDao.findDueRetries(limit);
 	}
 
 	@Override
-	public void retryPayment(PaymentRetryHistory retry, String targetMonth) {
+	public boolean retryPayment(PaymentRetryHistory retry, String targetMonth) {
+		if (retryDao.claimRetry(retry.getRetryId()) == 0) {
+			log.debug("Retry already claimed: retryId={}", retry.getRetryId());
+			return false;
+		}
+
 		log.info("Retrying payment: paymentId={}, attemptNumber={}", retry.getPaymentId(), retry.getAttemptNumber());
 
-		Payment payment = paymentDao.findById(retry.getPaymentId())
-				.orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
+		Payment payment = paymentDao.findById(retry.getPaymentId()).orElse(null);
+		if (payment == null) {
+			log.warn("Payment not found, dropping retry: paymentId={}", retry.getPaymentId());
+			return false;
+		}
 
 		if (payment.getPaymentStatus() == PaymentStatus.COMPLETED) {
 			log.warn("Payment already completed, skipping retry: paymentId={}", payment.getPaymentId());
-			return;
+			return false;
 		}
 
 		int nextAttempt = retry.getAttemptNumber() + 1;
 		log.info("Attempting payment execution: paymentId={}, attempt={}", payment.getPaymentId(), nextAttempt);
 
-		paymentService.attemptPaymentExecution(payment, nextAttempt);
+		try {
+			paymentService.attemptPaymentExecution(payment, nextAttempt);
+		} catch (TossUnavailableException e) {
+			// 서킷이 열려 있으면 회차를 소모하지 않고 바로 다시 대기열에 넣는다
+			retryDao.rescheduleRetry(retry.getRetryId(), LocalDateTime.now());
+			log.warn("Toss unavailable, retry deferred: paymentId={}", payment.getPaymentId());
+		} catch (RuntimeException e) {
+			// 결제 시도 자체가 예외로 끝나면 이력이 남지 않으므로 같은 회차를 다시 예약한다
+			LocalDateTime nextRetryDate = calculateNextRetryDate(retry.getAttemptNumber());
+			retryDao.rescheduleRetry(retry.getRetryId(), nextRetryDate);
+			log.error("Payment retry aborted, rescheduled: paymentId={}, nextRetry={}", payment.getPaymentId(),
+					nextRetryDate, e);
+		}
+		return true;
+	}
+
+	@Override
+	public LocalDateTime calculateNextRetryDate(int attemptNumber) {
+		long delayMinutes = billingConfig.getRetryBaseDelayHours() * 60 * Math.max(attemptNumber, 1);
+		long jitter = billingConfig.getRetryJitterMinutes();
+		if (jitter > 0) {
+			delayMinutes += ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+		}
+		return LocalDateTime.now().plusMinutes(Math.max(delayMinutes, billingConfig.getRetryMinDelayMinutes()));
 	}
 }
\ No newline at end of file
@@ -5,25 +5,28 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moa.common.event.InitialPaymentCompletedEvent;
 import com.moa.common.event.MonthlyPaymentCompletedEvent;
 import com.moa.common.event.MonthlyPaymentFailedEvent;
 import com.moa.common.exception.BusinessException;
 import com.moa.common.exception.ErrorCode;
+import com.moa.common.exception.TossUnavailableException;
 import com.moa.dao.party.PartyDao;
 import com.moa.dao.partymember.PartyMemberDao;
 import com.moa.dao.payment.PaymentDao;
-import com.moa.dao.product.ProductDao;
 import com.moa.dao.user.UserCardDao;
 import com.moa.dao.user.UserDao;
 import com.moa.domain.Party;
+import com.moa.domain.PartyMember;
 import com.moa.domain.Payment;
-import com.moa.domain.Product;
 import com.moa.domain.User;
 import com.moa.domain.UserCard;
+import com.moa.domain.enums.BillingOutcome;
 import com.moa.domain.enums.PartyStatus;
 import com.moa.domain.enums.PaymentStatus;
 import com.moa.domain.enums.PushCodeType;
@@ -31,9 +34,12 @@ import com.moa.dto.payment.request.PaymentRequest;
 import com.moa.dto.payment.response.PaymentDetailResponse;
 import com.moa.dto.payment.response.PaymentResponse;
 import com.moa.dto.push.request.TemplatePushRequest;
+import com.moa.service.party.PartyListIndex;
+import com.moa.service.payment.BillingTarget;
 import com.moa.service.payment.PaymentRetryService;
 import com.moa.service.payment.PaymentService;
 import com.moa.service.payment.TossPaymentService;
+import com.moa.service.product.ProductCatalog;
 import com.moa.service.push.PushService;
 
 import lombok.RequiredArgsConstructor;
@@ -47,6 +53,7 @@ public class PaymentServiceImpl implements PaymentService {
 
 	private final PaymentDao paymentDao;
 	private final PartyDao partyDao;
+	private final PartyListIndex partyListIndex;
 	private final PartyMemberDao partyMemberDao;
 	private final TossPaymentService tossPaymentService;
 	private final UserCardDao userCardDao;
@@ -54,7 +61,7 @@ public class PaymentServiceImpl implements PaymentService {
 	private final ApplicationEventPublisher eventPublisher;
 
 	private final PushService pushService;
-	private final ProductDao productDao;
+	private final ProductCatalog productCatalog;
 	private final UserDao userDao;
 
 	private static final int MAX_RETRY_ATTEMPTS = 4;
@@ -74,10 +81,6 @@ public class PaymentServiceImpl implements PaymentService {
 			String orderId,
 			String paymentMethod) {
 
-		if (isDuplicatePayment(partyMemberId, targetMonth)) {
-			throw new BusinessException(ErrorCode.DUPLICATE_PAYMENT);
-		}
-
 		if (amount <= 0) {
 			throw new BusinessException(ErrorCode.INVALID_PAYMENT_AMOUNT);
 		}
@@ -94,11 +97,18 @@ public class PaymentServiceImpl implements PaymentService {
 				.tossPaymentKey(paymentKey)
 				.orderId(orderId)
 				.targetMonth(targetMonth)
+				.idempotencyKey(Payment.idempotencyKeyOf("INITIAL_FEE", partyMemberId, targetMonth))
 				.cardNumber("UNAVAILABLE") // Toss Payment API 응답에서 카드 정보 추출 필요 (현재는 UNAVAILABLE)
 				.cardCompany("TOSS")       // Toss Payment API 응답에서 카드 정보 추출 필요 (현재는 TOSS)
 				.build();
 
-		paymentDao.insertPayment(payment);
+		try {
+			paymentDao.insertPayment(payment);
+		} catch (DuplicateKeyException e) {
+			throw new BusinessException(ErrorCode.DUPLICATE_PAYMENT);
+		}
+		eventPublisher.publishEvent(new InitialPaymentCompletedEvent(partyId, partyMemberId, userId, amount,
+				payment.getPaymentDate()));
 
 		return payment;
 	}
@@ -134,28 +144,60 @@ public class PaymentServiceImpl implements PaymentService {
 
 	@Override
 	@Transactional
-	public void processMonthlyPayment(Integer partyId, Integer partyMemberId, String userId, Integer amount,
-			String targetMonth) {
+	public BillingOutcome processMonthlyPayment(BillingTarget target, String targetMonth) {
+		Party party = target.getParty();
+		PartyMember member = target.getMember();
+
+		// 같은 회원/월에는 항상 같은 키가 나오므로 여러 워커/노드가 동시에 돌아도 유니크 인덱스가 한 건만 선점(claim)시킨다.
+		// 키를 토스 orderId 로도 사용해 토스 쪽에서도 같은 주문의 이중 승인을 거절한다.
+		Payment payment = newMonthlyPayment(party, member, targetMonth);
+
+		try {
+			paymentDao.insertPayment(payment);
+		} catch (DuplicateKeyException e) {
+			log.info("이미 당월 결제 레코드 존재, 스킵: partyMemberId={}, targetMonth={}", member.getPartyMemberId(),
+					targetMonth);
+			return BillingOutcome.SKIPPED;
+		}
+
+		return executeCharge(payment, 1, target) ? BillingOutcome.CHARGED : BillingOutcome.FAILED;
+	}
+
+	@Override
+	@Transactional
+	public boolean deferMonthlyPayment(BillingTarget target, String targetMonth) {
+		Payment payment = newMonthlyPayment(target.getParty(), target.getMember(), targetMonth);
 
-		if (isDuplicatePayment(partyMemberId, targetMonth)) {
-			return;
+		try {
+			paymentDao.insertPayment(payment);
+		} catch (DuplicateKeyException e) {
+			return false;
 		}
 
-		Payment payment = Payment.builder().partyId(partyId).partyMemberId(partyMemberId).userId(userId)
-				.paymentType("MONTHLY").paymentAmount(amount).paymentStatus(PaymentStatus.PENDING).paymentMethod("CARD")
-				.paymentDate(LocalDateTime.now()).targetMonth(targetMonth)
-				.orderId("MONTHLY_" + partyId + "_" + partyMemberId + "_" + System.currentTimeMillis()).build();
+		// 토스를 호출하지 않았으므로 0회차로 재시도를 예약해 폴러가 1회차부터 결제하게 한다
+		retryService.recordDeferred(payment);
+		return true;
+	}
 
-		paymentDao.insertPayment(payment);
-		attemptPaymentExecution(payment, 1);
+	private Payment newMonthlyPayment(Party party, PartyMember member, String targetMonth) {
+		String idempotencyKey = Payment.idempotencyKeyOf("MONTHLY", member.getPartyMemberId(), targetMonth);
+		return Payment.builder().partyId(party.getPartyId()).partyMemberId(member.getPartyMemberId())
+				.userId(member.getUserId()).paymentType("MONTHLY").paymentAmount(party.getMonthlyFee())
+				.paymentStatus(PaymentStatus.PENDING).paymentMethod("CARD").paymentDate(LocalDateTime.now())
+				.targetMonth(targetMonth).orderId(idempotencyKey).idempotencyKey(idempotencyKey).build();
 	}
 
 	@Override
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public void attemptPaymentExecution(Payment payment, int attemptNumber) {
+	public boolean attemptPaymentExecution(Payment payment, int attemptNumber) {
+		return executeCharge(payment, attemptNumber, null);
+	}
+
+	private boolean executeCharge(Payment payment, int attemptNumber, BillingTarget target) {
 		try {
-			UserCard userCard = userCardDao.findByUserId(payment.getUserId())
-					.orElseThrow(() -> new BusinessException(ErrorCode.BILLING_KEY_NOT_FOUND));
+			UserCard userCard = (target != null && target.getUserCard() != null) ? target.getUserCard()
+					: userCardDao.findByUserId(payment.getUserId())
+							.orElseThrow(() -> new BusinessException(ErrorCode.BILLING_KEY_NOT_FOUND));
 			String paymentKey = tossPaymentService.payWithBillingKey(userCard.getBillingKey(), payment.getOrderId(),
 					payment.getPaymentAmount(), "MOA 월 구독료 (" + payment.getTargetMonth() + ")", payment.getUserId());
 			payment.setPaymentStatus(PaymentStatus.COMPLETED);
@@ -166,16 +208,22 @@ public class PaymentServiceImpl implements PaymentService {
 			retryService.recordSuccess(payment, attemptNumber);
 			eventPublisher
 					.publishEvent(new MonthlyPaymentCompletedEvent(payment.getPartyId(), payment.getPartyMemberId(),
-							payment.getUserId(), payment.getPaymentAmount(), payment.getTargetMonth()));
+							payment.getUserId(), payment.getPaymentAmount(), payment.getTargetMonth(),
+							payment.getPaymentDate()));
 
-			sendPaymentSuccessPush(payment, attemptNumber);
+			sendPaymentSuccessPush(payment, attemptNumber, target);
+			return true;
 
+		} catch (TossUnavailableException e) {
+			// 토스 호출 자체를 하지 않았으므로 실패 이력/재시도 횟수로 남기지 않고 호출자에게 넘긴다 (트랜잭션 롤백)
+			throw e;
 		} catch (BusinessException e) {
-			handlePaymentFailure(payment, attemptNumber, e);
+			handlePaymentFailure(payment, attemptNumber, e, target);
+			return false;
 		}
 	}
 
-	private void handlePaymentFailure(Payment payment, int attemptNumber, BusinessException e) {
+	private void handlePaymentFailure(Payment payment, int attemptNumber, BusinessException e, BillingTarget target) {
 		paymentDao.updatePaymentStatus(payment.getPaymentId(), "FAILED");
 		String errorCode = e.getErrorCode().getCode();
 		String errorMessage = e.getMessage();
@@ -187,16 +235,17 @@ public class PaymentServiceImpl implements PaymentService {
 		boolean shouldRetry = attemptNumber < MAX_RETRY_ATTEMPTS;
 
 		if (shouldRetry) {
-			LocalDateTime nextRetry = calculateNextRetryTime(attemptNumber);
+			LocalDateTime nextRetry = retryService.calculateNextRetryDate(attemptNumber);
 			retryService.recordFailureWithRetry(payment, attemptNumber, errorCode, errorMessage, nextRetry);
 
-			sendPaymentFailedRetryPush(payment, attemptNumber, e.getErrorCode().getCode(), e.getMessage(), nextRetry);
+			sendPaymentFailedRetryPush(payment, attemptNumber, e.getErrorCode().getCode(), e.getMessage(), nextRetry,
+					target);
 
 		} else {
 			retryService.recordPermanentFailure(payment, attemptNumber, e);
 			eventPublisher.publishEvent(new MonthlyPaymentFailedEvent(payment.getPartyId(), payment.getPartyMemberId(),
 					payment.getUserId(), payment.getTargetMonth(), e.getMessage()));
-			sendPaymentFinalFailedPush(payment, attemptNumber, e.getMessage());
+			sendPaymentFinalFailedPush(payment, attemptNumber, e.getMessage(), target);
 			suspendPartyOnPaymentFailure(payment);
 		}
 	}
@@ -215,6 +264,7 @@ public class PaymentServiceImpl implements PaymentService {
 			}
 
 			partyDao.updatePartyStatus(payment.getPartyId(), PartyStatus.SUSPENDED);
+			partyListIndex.refresh(payment.getPartyId());
 			log.warn("파티 일시정지: partyId={}, 사유=4회 결제 실패", payment.getPartyId());
 
 			sendPartySuspendedPushToLeader(party, payment);
@@ -227,7 +277,7 @@ public class PaymentServiceImpl implements PaymentService {
 
 	private void sendPartySuspendedPushToLeader(Party party, Payment payment) {
 		try {
-			String productName = getProductName(party.getProductId());
+			String productName = productCatalog.getProductName(party.getProductId());
 			String memberNickname = getUserNickname(payment.getUserId());
 
 			Map<String, String> params = Map.of("productName", productName, "memberNickname", memberNickname, "reason",
@@ -247,7 +297,7 @@ public class PaymentServiceImpl implements PaymentService {
 
 	private void sendPartySuspendedPushToMember(Party party, Payment payment) {
 		try {
-			String productName = getProductName(party.getProductId());
+			String productName = productCatalog.getProductName(party.getProductId());
 
 			Map<String, String> params = Map.of("productName", productName, "reason",
 					"결제 4회 연속 실패로 파티가 일시정지되었습니다. 결제 수단을 확인해주세요.");
@@ -285,22 +335,18 @@ public class PaymentServiceImpl implements PaymentService {
 		}
 	}
 
-	private LocalDateTime calculateNextRetryTime(int attemptNumber) {
-		int hoursToAdd = 24 * attemptNumber;
-		return LocalDateTime.now().plusHours(hoursToAdd);
+	private Party resolveParty(Payment payment, BillingTarget target) {
+		if (target != null && target.getParty() != null) {
+			return target.getParty();
+		}
+		return partyDao.findById(payment.getPartyId()).orElse(null);
 	}
 
-	private String getProductName(Integer productId) {
-		if (productId == null)
-			return "OTT 서비스";
-
-		try {
-			Product product = productDao.getProduct(productId);
-			return (product != null && product.getProductName() != null) ? product.getProductName() : "OTT 서비스";
-		} catch (Exception e) {
-			log.warn("상품 조회 실패: productId={}", productId);
-			return "OTT 서비스";
+	private String resolveProductName(Party party, BillingTarget target) {
+		if (target != null && target.getProductName() != null) {
+			return target.getProductName();
 		}
+		return productCatalog.getProductName(party.getProductId());
 	}
 
 	private String getUserNickname(String userId) {
@@ -315,13 +361,13 @@ public class PaymentServiceImpl implements PaymentService {
 		}
 	}
 
-	private void sendPaymentSuccessPush(Payment payment, int attemptNumber) {
+	private void sendPaymentSuccessPush(Payment payment, int attemptNumber, BillingTarget target) {
 		try {
-			Party party = partyDao.findById(payment.getPartyId()).orElse(null);
+			Party party = resolveParty(payment, target);
 			if (party == null)
 				return;
 
-			String productName = getProductName(party.getProductId());
+			String productName = resolveProductName(party, target);
 			String pushCode;
 			Map<String, String> params;
 
@@ -348,13 +394,13 @@ public class PaymentServiceImpl implements PaymentService {
 	}
 
 	private void sendPaymentFailedRetryPush(Payment payment, int attemptNumber, String errorCode, String errorMessage,
-			LocalDateTime nextRetryDate) {
+			LocalDateTime nextRetryDate, BillingTarget target) {
 		try {
-			Party party = partyDao.findById(payment.getPartyId()).orElse(null);
+			Party party = resolveParty(payment, target);
 			if (party == null)
 				return;
 
-			String productName = getProductName(party.getProductId());
+			String productName = resolveProductName(party, target);
 
 			String pushCode = determinePushCodeByError(errorCode);
 
@@ -375,13 +421,14 @@ public class PaymentServiceImpl implements PaymentService {
 		}
 	}
 
-	private void sendPaymentFinalFailedPush(Payment payment, int attemptNumber, String errorMessage) {
+	private void sendPaymentFinalFailedPush(Payment payment, int attemptNumber, String errorMessage,
+			BillingTarget target) {
 		try {
-			Party party = partyDao.findById(payment.getPartyId()).orElse(null);
+			Party party = resolveParty(payment, target);
 			if (party == null)
 				return;
 
-			String productName = getProductName(party.getProductId());
+			String productName = resolveProductName(party, target);
 
 			Map<String, String> memberParams = Map.of("productName", productName, "attemptNumber",
 					String.valueOf(attemptNumber), "errorMessage",
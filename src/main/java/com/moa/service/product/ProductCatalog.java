@@ -0,0 +1,205 @@
+package com.moa.service.product;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moa.config.ProductConfig;
+import com.moa.dao.product.ProductDao;
+import com.moa.domain.Product;
+import com.moa.dto.admin.response.ProductCatalogStatsResponse;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품/카테고리 카탈로그 캐시
+ *
+ * - 처음 조회할 때(또는 product.catalog.ttl-seconds 경과 후) 상품 목록과 카테고리 목록을 한 번에 읽어 둔다
+ * - 상품 추가/수정/삭제 후 invalidate() 를 호출하면 다음 조회 때 다시 읽는다
+ * - 목록에 없는 상품 ID 는 단건 조회로 채운다 (다른 노드에서 막 추가된 상품)
+ *
+ * 돌려주는 Product 는 캐시가 가진 인스턴스이므로 호출자는 수정하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCatalog {
+
+	public static final String DEFAULT_PRODUCT_NAME = "OTT 서비스";
+
+	private final ProductDao productDao;
+	private final ProductConfig productConfig;
+
+	private volatile Catalog catalog;
+	/** invalidate 마다 증가, 적재 도중 무효화되면 읽은 결과를 캐시에 올리지 않는다 */
+	private final AtomicLong version = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder loads = new LongAdder();
+
+	@PostConstruct
+	public void init() {
+		try {
+			load();
+		} catch (Exception e) {
+			log.warn("상품 카탈로그 초기 로딩 실패, 첫 조회 시 재시도: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 상품 단건 조회 (없으면 null)
+	 */
+	public Product getProduct(int productId) throws Exception {
+		Catalog current = catalog;
+		boolean fresh = isFresh(current);
+		if (!fresh) {
+			current = load();
+		}
+
+		Product product = current.products.get(productId);
+		if (fresh && product != null) {
+			hits.increment();
+			return product;
+		}
+
+		misses.increment();
+		if (product == null) {
+			product = productDao.getProduct(productId);
+			if (product != null) {
+				current.products.put(productId, product);
+			}
+		}
+		return product;
+	}
+
+	/**
+	 * 푸시/결제 문구용 상품명 (조회 실패나 상품이 없으면 기본값)
+	 */
+	public String getProductName(Integer productId) {
+		if (productId == null) {
+			return DEFAULT_PRODUCT_NAME;
+		}
+
+		try {
+			Product product = getProduct(productId);
+			return (product != null && product.getProductName() != null) ? product.getProductName()
+					: DEFAULT_PRODUCT_NAME;
+		} catch (Exception e) {
+			log.warn("상품 조회 실패: productId={}", productId);
+			return DEFAULT_PRODUCT_NAME;
+		}
+	}
+
+	/**
+	 * 전체 상품 목록 (ProductMapper.getProductList 정렬 그대로)
+	 */
+	public List<Product> getProductList() throws Exception {
+		return read().productList;
+	}
+
+	public List<Product> getCategoryList() throws Exception {
+		return read().categoryList;
+	}
+
+	/**
+	 * 상품 변경 반영 (트랜잭션 중이면 커밋 후 반영)
+	 */
+	public void invalidate() {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict();
+				}
+			});
+		} else {
+			evict();
+		}
+	}
+
+	public ProductCatalogStatsResponse getStats() {
+		Catalog current = catalog;
+		long hitCount = hits.sum();
+		long missCount = misses.sum();
+		long total = hitCount + missCount;
+
+		return ProductCatalogStatsResponse.builder().hits(hitCount).misses(missCount)
+				.hitRate(total == 0 ? 0 : (double) hitCount / total).loads(loads.sum())
+				.productCount(current != null ? current.productList.size() : 0)
+				.categoryCount(current != null ? current.categoryList.size() : 0)
+				.loadedAt(current != null ? current.loadedAt : null)
+				.ttlSeconds(productConfig.getCatalogTtlSeconds()).build();
+	}
+
+	private Catalog read() throws Exception {
+		Catalog current = catalog;
+		if (isFresh(current)) {
+			hits.increment();
+			return current;
+		}
+		misses.increment();
+		return load();
+	}
+
+	private void evict() {
+		version.incrementAndGet();
+		catalog = null;
+	}
+
+	private boolean isFresh(Catalog current) {
+		return current != null && current.loadedAt
+				.plusSeconds(productConfig.getCatalogTtlSeconds()).isAfter(LocalDateTime.now());
+	}
+
+	private synchronized Catalog load() throws Exception {
+		Catalog current = catalog;
+		if (isFresh(current)) {
+			return current;
+		}
+
+		long loadVersion = version.get();
+		Catalog fresh;
+		try {
+			fresh = new Catalog(productDao.getProductList(), productDao.getCategoryList());
+		} catch (Exception e) {
+			if (current == null) {
+				throw e;
+			}
+			// DB 장애 중에는 만료된 캐시라도 계속 사용하고 다음 조회 때 다시 시도한다
+			log.warn("상품 카탈로그 재적재 실패, 기존 캐시 사용: {}", e.getMessage());
+			return current;
+		}
+
+		loads.increment();
+		if (version.get() == loadVersion) {
+			catalog = fresh;
+		}
+		log.debug("상품 카탈로그 적재: products={}, categories={}", fresh.productList.size(),
+				fresh.categoryList.size());
+		return fresh;
+	}
+
+	private static class Catalog {
+
+		private final List<Product> productList;
+		private final List<Product> categoryList;
+		private final Map<Integer, Product> products = new ConcurrentHashMap<>();
+		private final LocalDateTime loadedAt = LocalDateTime.now();
+
+		private Catalog(List<Product> productList, List<Product> categoryList) {
+			this.productList = List.copyOf(productList);
+			this.categoryList = List.copyOf(categoryList);
+			productList.forEach(product -> products.put(product.getProductId(), product));
+		}
+	}
+}
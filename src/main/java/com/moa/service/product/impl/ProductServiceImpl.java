@@ -3,6 +3,7 @@ package com.moa.service.product.impl;
 import com.moa.dao.product.ProductDao;
 import com.moa.domain.Product;
 import com.moa.dto.product.ProductDTO;
+import com.moa.service.product.ProductCatalog;
 import com.moa.service.product.ProductService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -15,20 +16,24 @@ public class ProductServiceImpl implements ProductService {
     @Autowired
     private ProductDao productDao;
 
+    @Autowired
+    private ProductCatalog productCatalog;
+
     @Override
     public void addProduct(ProductDTO productDTO) throws Exception {
         productDao.addProduct(productDTO.toEntity());
+        productCatalog.invalidate();
     }
 
     @Override
     public ProductDTO getProduct(int productId) throws Exception {
-        Product product = productDao.getProduct(productId);
+        Product product = productCatalog.getProduct(productId);
         return ProductDTO.fromEntity(product);
     }
 
     @Override
     public List<ProductDTO> getProductList() throws Exception {
-        List<Product> productList = productDao.getProductList();
+        List<Product> productList = productCatalog.getProductList();
         return productList.stream()
                 .map(ProductDTO::fromEntity)
                 .collect(Collectors.toList());
@@ -37,16 +42,18 @@ public class ProductServiceImpl implements ProductService {
     @Override
     public void updateProduct(ProductDTO productDTO) throws Exception {
         productDao.updateProduct(productDTO.toEntity());
+        productCatalog.invalidate();
     }
 
     @Override
     public void deleteProduct(int productId) throws Exception {
         productDao.deleteProduct(productId);
+        productCatalog.invalidate();
     }
 
     @Override
     public List<ProductDTO> getCategoryList() throws Exception {
-        List<Product> categories = productDao.getCategoryList();
+        List<Product> categories = productCatalog.getCategoryList();
         return categories.stream()
                 .map(this::convertToCategoryDTO)
                 .collect(Collectors.toList());
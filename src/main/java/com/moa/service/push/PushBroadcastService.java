@@ -0,0 +1,23 @@
+package com.moa.service.push;
+
+import com.moa.domain.Push;
+import com.moa.dto.push.response.PushBroadcastStatusResponse;
+
+/**
+ * 전체 사용자 푸시 발송 작업
+ *
+ * 요청 스레드는 작업만 등록하고 바로 반환하며, 백그라운드에서
+ * USER_ID 커서로 chunk 단위 조회 → PUSH 다건 INSERT → 접속자 SSE 알림을 반복한다.
+ */
+public interface PushBroadcastService {
+
+	/**
+	 * 발송 작업 등록 (receiverId 를 제외한 나머지 값은 template 을 그대로 복사)
+	 */
+	PushBroadcastStatusResponse start(Push template);
+
+	/**
+	 * 작업 진행 상태 조회 (없으면 null)
+	 */
+	PushBroadcastStatusResponse getStatus(String jobId);
+}
@@ -0,0 +1,49 @@
+package com.moa.service.push;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * SSE 발송용 클러스터 버스
+ *
+ * SSE 연결은 연결을 받은 노드의 메모리에만 있으므로, 어느 노드에서 푸시가 생성되든
+ * 해당 사용자의 emitter 를 가진 노드가 발송할 수 있도록 중계한다.
+ * push.cluster.mode=local(기본) 은 단일 노드용 메모리 구현, db 는 DB 폴링 구현을 사용한다.
+ */
+public interface PushClusterBus {
+
+	/**
+	 * 이 노드의 emitter 로 실제 발송하는 함수와 로컬 연결 여부 판별 함수를 등록
+	 */
+	void bind(Consumer<PushDelivery> localDelivery, Predicate<String> localPresence);
+
+	/**
+	 * 발송 요청 (연결된 노드에서 발송됨)
+	 */
+	void publish(PushDelivery delivery);
+
+	/**
+	 * 클러스터 내 어느 노드에든 연결되어 있는지
+	 */
+	boolean isConnected(String receiverId);
+
+	/**
+	 * 이 노드에 사용자 연결이 생김
+	 */
+	void connected(String receiverId);
+
+	/**
+	 * 이 노드에서 사용자의 마지막 연결이 끊김
+	 */
+	void disconnected(String receiverId);
+
+	/**
+	 * 다른 노드에서 미읽음 수가 바뀐 사용자를 받을 함수 등록 (그 노드의 캐시된 미읽음 수 무효화용)
+	 */
+	void bindUnreadInvalidation(Consumer<String> unreadInvalidation);
+
+	/**
+	 * 이 노드에서 사용자의 미읽음 수가 바뀜 (커밋 후 호출, 다른 노드에 알림)
+	 */
+	void unreadChanged(String receiverId);
+}
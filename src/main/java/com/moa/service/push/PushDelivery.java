@@ -0,0 +1,11 @@
+package com.moa.service.push;
+
+import java.util.List;
+
+import com.moa.dto.push.response.PushResponse;
+
+/**
+ * 노드 간에 전달되는 SSE 발송 단위 (unreadCount 가 null 이면 미읽음 수 이벤트는 보내지 않음)
+ */
+public record PushDelivery(String receiverId, List<PushResponse> pushes, Integer unreadCount) {
+}
@@ -0,0 +1,22 @@
+package com.moa.service.push;
+
+import com.moa.domain.Push;
+import com.moa.dto.push.response.PushOutboxStatsResponse;
+
+/**
+ * 푸시 발송 대기열 (outbox)
+ *
+ * 호출 스레드는 큐에 넣기만 하고, 백그라운드 writer 가
+ * PUSH 다건 INSERT 와 SSE 알림을 묶어서 처리한다.
+ */
+public interface PushOutboxService {
+
+	/**
+	 * 푸시 적재 (트랜잭션 중이면 커밋 후 적재)
+	 *
+	 * 큐가 가득 차 offer-timeout 안에 들어가지 못하면 호출 스레드에서 직접 저장한다.
+	 */
+	void enqueue(Push push);
+
+	PushOutboxStatsResponse getStats();
+}
@@ -6,7 +6,9 @@ import com.moa.dto.push.request.MultiPushRequest;
 import com.moa.dto.push.request.PushCodeRequest;
 import com.moa.dto.push.request.PushRequest;
 import com.moa.dto.push.request.TemplatePushRequest;
+import com.moa.dto.push.response.PushBroadcastStatusResponse;
 import com.moa.dto.push.response.PushCodeResponse;
+import com.moa.dto.push.response.PushOutboxStatsResponse;
 import com.moa.dto.push.response.PushResponse;
 
 import java.util.List;
@@ -50,7 +52,11 @@ public interface PushService {
 
     int sendAdminPush(AdminPushRequest request);
 
+    PushOutboxStatsResponse getOutboxStats();
+
     List<Map<String, String>> searchUsersForPush(String keyword);
 
-    int sendPushToAllUsers(AdminPushRequest request);
+    PushBroadcastStatusResponse sendPushToAllUsers(AdminPushRequest request);
+
+    PushBroadcastStatusResponse getBroadcastStatus(String jobId);
 }
\ No newline at end of file
@@ -1,11 +1,23 @@
 package com.moa.service.push;
 
+import java.util.List;
+
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.moa.dto.push.response.PushResponse;
+import com.moa.dto.push.response.PushSseStatsResponse;
 
 public interface PushSseService {
-	SseEmitter subscribe(String receiverId, int initialUnreadCount);
+	/**
+	 * SSE 구독 (lastEventId 가 있으면 그 이후 push 를 먼저 재전송, 값은 이 서비스가 보낸 SSE id 그대로)
+	 */
+	SseEmitter subscribe(String receiverId, int initialUnreadCount, String lastEventId);
 
 	void sendToUser(String receiverId, PushResponse push, int unreadCount);
+
+	void sendPushes(String receiverId, List<PushResponse> pushes, Integer unreadCount);
+
+	boolean isConnected(String receiverId);
+
+	PushSseStatsResponse getStats();
 }
@@ -0,0 +1,96 @@
+package com.moa.service.push;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.moa.domain.PushCode;
+
+import lombok.Getter;
+
+/**
+ * 미리 파싱된 푸시 템플릿
+ *
+ * "{productName}님 결제 완료" 같은 템플릿을 리터럴/파라미터 조각 목록으로 한 번만 나눠 두고,
+ * 발송 시에는 StringBuilder 한 번 순회로 치환한다.
+ * 값이 없는 파라미터는 기존 String.replace 방식과 같이 "{이름}" 그대로 남긴다.
+ */
+@Getter
+public class PushTemplate {
+
+	private final String codeName;
+	private final List<Segment> titleSegments;
+	private final List<Segment> contentSegments;
+
+	private PushTemplate(String codeName, List<Segment> titleSegments, List<Segment> contentSegments) {
+		this.codeName = codeName;
+		this.titleSegments = titleSegments;
+		this.contentSegments = contentSegments;
+	}
+
+	public static PushTemplate compile(PushCode pushCode) {
+		return new PushTemplate(pushCode.getCodeName(), parse(pushCode.getTitleTemplate()),
+				parse(pushCode.getContentTemplate()));
+	}
+
+	public String renderTitle(Map<String, String> params) {
+		return render(titleSegments, params);
+	}
+
+	public String renderContent(Map<String, String> params) {
+		return render(contentSegments, params);
+	}
+
+	private static String render(List<Segment> segments, Map<String, String> params) {
+		if (segments == null) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder(64);
+		for (Segment segment : segments) {
+			if (!segment.param()) {
+				sb.append(segment.text());
+				continue;
+			}
+			String value = params != null ? params.get(segment.text()) : null;
+			if (value != null) {
+				sb.append(value);
+			} else {
+				sb.append('{').append(segment.text()).append('}');
+			}
+		}
+		return sb.toString();
+	}
+
+	private static List<Segment> parse(String template) {
+		if (template == null) {
+			return null;
+		}
+
+		List<Segment> segments = new ArrayList<>();
+		int pos = 0;
+		while (pos < template.length()) {
+			int open = template.indexOf('{', pos);
+			int close = open < 0 ? -1 : template.indexOf('}', open + 1);
+			if (open < 0 || close < 0) {
+				segments.add(new Segment(template.substring(pos), false));
+				break;
+			}
+
+			int nestedOpen = template.lastIndexOf('{', close);
+			if (nestedOpen > open) {
+				segments.add(new Segment(template.substring(pos, nestedOpen), false));
+				open = nestedOpen;
+			} else if (open > pos) {
+				segments.add(new Segment(template.substring(pos, open), false));
+			}
+
+			segments.add(new Segment(template.substring(open + 1, close), true));
+			pos = close + 1;
+		}
+		return Collections.unmodifiableList(segments);
+	}
+
+	public record Segment(String text, boolean param) {
+	}
+}
@@ -0,0 +1,90 @@
+package com.moa.service.push;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moa.dao.push.PushDao;
+import com.moa.domain.PushCode;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 푸시 템플릿 레지스트리
+ *
+ * 기동 시 PUSH_CODE 전체를 읽어 PushTemplate 으로 컴파일해 두고,
+ * 관리자 템플릿 추가/수정/삭제 커밋 후 invalidate() 로 다시 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PushTemplateRegistry {
+
+	private final PushDao pushDao;
+
+	private volatile Map<String, PushTemplate> templates;
+
+	@PostConstruct
+	public void init() {
+		try {
+			reload();
+		} catch (Exception e) {
+			log.warn("푸시 템플릿 초기 로딩 실패, 첫 발송 시 재시도: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 코드명으로 템플릿 조회 (없으면 null)
+	 */
+	public PushTemplate get(String codeName) {
+		Map<String, PushTemplate> current = templates;
+		if (current == null) {
+			current = reload();
+		}
+
+		PushTemplate template = current.get(codeName);
+		if (template == null && codeName != null) {
+			PushCode pushCode = pushDao.getPushCodeByName(codeName);
+			if (pushCode != null) {
+				template = PushTemplate.compile(pushCode);
+				current.put(codeName, template);
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * 템플릿 변경 반영 (트랜잭션 중이면 커밋 후 반영)
+	 */
+	public void invalidate() {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					templates = null;
+				}
+			});
+		} else {
+			templates = null;
+		}
+	}
+
+	private synchronized Map<String, PushTemplate> reload() {
+		if (templates != null) {
+			return templates;
+		}
+
+		Map<String, PushTemplate> loaded = new ConcurrentHashMap<>();
+		for (PushCode pushCode : pushDao.getPushCodeList()) {
+			loaded.put(pushCode.getCodeName(), PushTemplate.compile(pushCode));
+		}
+		templates = loaded;
+		log.info("푸시 템플릿 {}개 로딩 완료", loaded.size());
+		return loaded;
+	}
+}
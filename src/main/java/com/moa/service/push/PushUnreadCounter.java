@@ -0,0 +1,184 @@
+package com.moa.service.push;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moa.config.PushConfig;
+import com.moa.dao.push.PushDao;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 미읽음 푸시 수 카운터
+ *
+ * 처음 조회할 때 DB COUNT 로 채우고, 이후에는 저장/읽음/삭제 시점에 증감만 한다.
+ * 캐시에 없는 사용자는 증감을 건너뛰며, 다음 조회 때 DB 값으로 채워진다.
+ * 다른 노드에서 바뀐 사용자는 클러스터 버스 알림을 받는 대로 캐시에서 지워 다음 조회 때 DB 값으로 다시 채운다.
+ * 동시성으로 어긋난 값은 주기적인 reconcile() 로 DB 기준으로 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PushUnreadCounter {
+
+	private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+	private final PushDao pushDao;
+	private final PushConfig pushConfig;
+	private final PushClusterBus pushClusterBus;
+
+	private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		pushClusterBus.bindUnreadInvalidation(this::invalidate);
+	}
+
+	/**
+	 * 미읽음 수 조회 (캐시에 없으면 DB 에서 로딩)
+	 */
+	public int get(String receiverId) {
+		Integer cached = counts.get(receiverId);
+		if (cached != null) {
+			return cached;
+		}
+		int loaded = pushDao.getUnreadCount(receiverId);
+		Integer existing = counts.putIfAbsent(receiverId, loaded);
+		return existing != null ? existing : loaded;
+	}
+
+	/**
+	 * 여러 사용자 미읽음 수 조회 (캐시에 없는 사용자만 한 번에 DB 조회)
+	 */
+	public Map<String, Integer> getAll(Collection<String> receiverIds) {
+		Map<String, Integer> result = new HashMap<>();
+		List<String> missing = new ArrayList<>();
+		for (String receiverId : receiverIds) {
+			Integer cached = counts.get(receiverId);
+			if (cached != null) {
+				result.put(receiverId, cached);
+			} else {
+				missing.add(receiverId);
+			}
+		}
+		if (missing.isEmpty()) {
+			return result;
+		}
+
+		Map<String, Integer> loaded = loadCounts(missing);
+		for (String receiverId : missing) {
+			Integer existing = counts.putIfAbsent(receiverId, loaded.getOrDefault(receiverId, 0));
+			result.put(receiverId, existing != null ? existing : loaded.getOrDefault(receiverId, 0));
+		}
+		return result;
+	}
+
+	/**
+	 * 새 푸시 저장 반영 (트랜잭션 중이면 커밋 후 반영)
+	 */
+	public void increment(String receiverId) {
+		afterCommit(receiverId, () -> counts.computeIfPresent(receiverId, (k, v) -> v + 1));
+	}
+
+	/**
+	 * 단건 읽음/삭제 반영 (트랜잭션 중이면 커밋 후 반영)
+	 */
+	public void decrement(String receiverId) {
+		afterCommit(receiverId, () -> counts.computeIfPresent(receiverId, (k, v) -> Math.max(0, v - 1)));
+	}
+
+	/**
+	 * 전체 읽음/전체 삭제 반영 (트랜잭션 중이면 커밋 후 반영)
+	 */
+	public void reset(String receiverId) {
+		afterCommit(receiverId, () -> counts.computeIfPresent(receiverId, (k, v) -> 0));
+	}
+
+	/**
+	 * 다른 노드에서 바뀐 사용자의 캐시 값 제거 (다음 조회 때 DB 에서 로딩)
+	 */
+	public void invalidate(String receiverId) {
+		counts.remove(receiverId);
+	}
+
+	/**
+	 * 캐시된 사용자 수
+	 */
+	public int size() {
+		return counts.size();
+	}
+
+	/**
+	 * 캐시된 값을 DB 기준으로 다시 맞춤 (최대 보관 수를 넘으면 비우고 다시 로딩되게 함)
+	 */
+	@Scheduled(fixedDelayString = "${push.unread.reconcile-interval-ms:60000}")
+	public void reconcile() {
+		if (counts.isEmpty()) {
+			return;
+		}
+		if (counts.size() > pushConfig.getUnreadMaxEntries()) {
+			log.info("미읽음 카운터 보관 수 초과, 초기화: size={}", counts.size());
+			counts.clear();
+			return;
+		}
+
+		List<String> receiverIds = new ArrayList<>(counts.keySet());
+		int corrected = 0;
+		try {
+			for (int from = 0; from < receiverIds.size(); from += RECONCILE_CHUNK_SIZE) {
+				List<String> chunk = receiverIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, receiverIds.size()));
+				Map<String, Integer> loaded = loadCounts(chunk);
+				for (String receiverId : chunk) {
+					int actual = loaded.getOrDefault(receiverId, 0);
+					Integer previous = counts.replace(receiverId, actual);
+					if (previous != null && previous != actual) {
+						corrected++;
+					}
+				}
+			}
+		} catch (Exception e) {
+			log.warn("미읽음 카운터 보정 실패: {}", e.getMessage());
+			return;
+		}
+
+		if (corrected > 0) {
+			log.info("미읽음 카운터 보정: size={}, corrected={}", receiverIds.size(), corrected);
+		}
+	}
+
+	private Map<String, Integer> loadCounts(List<String> receiverIds) {
+		Map<String, Integer> loaded = new HashMap<>();
+		for (Map<String, Object> row : pushDao.getUnreadCounts(receiverIds)) {
+			loaded.put((String) row.get("receiverId"), ((Number) row.get("unreadCount")).intValue());
+		}
+		return loaded;
+	}
+
+	private void afterCommit(String receiverId, Runnable action) {
+		Runnable applyAndNotify = () -> {
+			action.run();
+			pushClusterBus.unreadChanged(receiverId);
+		};
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					applyAndNotify.run();
+				}
+			});
+		} else {
+			applyAndNotify.run();
+		}
+	}
+}
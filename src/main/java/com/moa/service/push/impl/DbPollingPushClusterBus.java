@@ -0,0 +1,290 @@
+package com.moa.service.push.impl;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moa.config.PushConfig;
+import com.moa.dao.push.PushClusterDao;
+import com.moa.domain.PushBusEvent;
+import com.moa.service.push.PushClusterBus;
+import com.moa.service.push.PushDelivery;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 폴링 기반 다중 노드 버스 (외부 브로커 없이 동작)
+ *
+ * - 각 노드는 자기 SSE 연결 사용자를 PUSH_SSE_PRESENCE 에 기록하고 주기적으로 heartbeat 를 갱신한다.
+ * - 발행 시 로컬 연결이 있으면 바로 보내고, 다른 노드에 연결이 있을 때만 PUSH_BUS_EVENT 에 적재한다.
+ * - 각 노드는 다른 노드가 적재한 이벤트를 EVENT_ID 순으로 폴링해 자기 emitter 로 전달한다.
+ *   EVENT_ID 는 커밋 순서와 다를 수 있으므로, 빈 번호 없이 이어진 곳까지만 lastEventId 를 올리고
+ *   그 뒤의 이미 전달한 이벤트는 seenAhead 로 중복 전달을 막는다. 빈 번호는 gap-timeout 이 지나면 건너뛴다.
+ * 다른 노드의 연결 현황은 presence 주기마다 갱신되므로, 막 연결된 사용자는 그 사이 발송을 놓칠 수 있다.
+ * - 미읽음 수 변경은 폴링 주기마다 사용자 ID 묶음(UNREAD 이벤트)으로 알려, 다른 노드가 캐시된 미읽음 수를 버리게 한다.
+ * 폴링과 presence 갱신은 전용 스레드에서 돈다 (@Scheduled 기본 스케줄러는 오래 걸리는 배치와 공유되므로).
+ */
+@Component
+@ConditionalOnProperty(name = "push.cluster.mode", havingValue = "db")
+@Slf4j
+public class DbPollingPushClusterBus implements PushClusterBus {
+
+	/** UNREAD 이벤트 하나에 담는 사용자 수 (PAYLOAD TEXT 크기 제한) */
+	private static final int UNREAD_CHUNK_SIZE = 500;
+	private static final TypeReference<List<String>> RECEIVER_IDS = new TypeReference<>() {
+	};
+
+	private final PushClusterDao pushClusterDao;
+	private final PushConfig pushConfig;
+	private final ObjectMapper objectMapper;
+	private final String nodeId;
+
+	private volatile Consumer<PushDelivery> localDelivery = delivery -> {
+	};
+	private volatile Predicate<String> localPresence = receiverId -> false;
+	private volatile Consumer<String> unreadInvalidation = receiverId -> {
+	};
+	private final Set<String> pendingUnreadChanges = ConcurrentHashMap.newKeySet();
+	private volatile Set<String> remotePresence = Set.of();
+	/** 이 번호까지는 빈 번호 없이 모두 처리했다 */
+	private volatile long lastEventId;
+	/** lastEventId 이후에 이미 처리한 EVENT_ID (poll 스레드만 접근) */
+	private final NavigableSet<Long> seenAhead = new TreeSet<>();
+	/** 현재 기다리는 빈 번호 직전의 EVENT_ID 와 기다리기 시작한 시각 */
+	private long gapAfterEventId = -1;
+	private long gapSinceMillis;
+	private ScheduledExecutorService ticker;
+
+	public DbPollingPushClusterBus(PushClusterDao pushClusterDao, PushConfig pushConfig, ObjectMapper objectMapper) {
+		this.pushClusterDao = pushClusterDao;
+		this.pushConfig = pushConfig;
+		this.objectMapper = objectMapper;
+		this.nodeId = resolveNodeId(pushConfig.getClusterNodeId());
+	}
+
+	@PostConstruct
+	public void init() {
+		lastEventId = pushClusterDao.getLastEventId();
+		refreshPresence();
+
+		AtomicInteger threadSeq = new AtomicInteger();
+		ticker = Executors.newScheduledThreadPool(2, runnable -> {
+			Thread thread = new Thread(runnable, "push-cluster-bus-" + threadSeq.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		long pollInterval = Math.max(1, pushConfig.getClusterPollIntervalMs());
+		long presenceInterval = Math.max(1, pushConfig.getClusterPresenceIntervalMs());
+		ticker.scheduleWithFixedDelay(this::poll, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+		ticker.scheduleWithFixedDelay(this::refreshPresence, presenceInterval, presenceInterval,
+				TimeUnit.MILLISECONDS);
+		log.info("푸시 클러스터 버스 시작: nodeId={}, lastEventId={}", nodeId, lastEventId);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (ticker != null) {
+			ticker.shutdownNow();
+		}
+	}
+
+	@Override
+	public void bind(Consumer<PushDelivery> localDelivery, Predicate<String> localPresence) {
+		this.localDelivery = localDelivery;
+		this.localPresence = localPresence;
+	}
+
+	@Override
+	public void publish(PushDelivery delivery) {
+		if (localPresence.test(delivery.receiverId())) {
+			localDelivery.accept(delivery);
+		}
+		if (!remotePresence.contains(delivery.receiverId())) {
+			return;
+		}
+
+		try {
+			PushBusEvent event = PushBusEvent.builder().eventType(PushBusEvent.TYPE_PUSH).originNode(nodeId)
+					.receiverId(delivery.receiverId())
+					.payload(objectMapper.writeValueAsString(delivery)).build();
+			pushClusterDao.addEvent(event);
+		} catch (Exception e) {
+			log.warn("푸시 클러스터 이벤트 발행 실패: receiverId={}, error={}", delivery.receiverId(), e.getMessage());
+		}
+	}
+
+	@Override
+	public boolean isConnected(String receiverId) {
+		return localPresence.test(receiverId) || remotePresence.contains(receiverId);
+	}
+
+	@Override
+	public void connected(String receiverId) {
+		try {
+			pushClusterDao.upsertPresence(receiverId, nodeId);
+		} catch (Exception e) {
+			log.warn("SSE 연결 현황 등록 실패: receiverId={}, error={}", receiverId, e.getMessage());
+		}
+	}
+
+	@Override
+	public void disconnected(String receiverId) {
+		try {
+			pushClusterDao.deletePresence(receiverId, nodeId);
+		} catch (Exception e) {
+			log.warn("SSE 연결 현황 삭제 실패: receiverId={}, error={}", receiverId, e.getMessage());
+		}
+	}
+
+	@Override
+	public void bindUnreadInvalidation(Consumer<String> unreadInvalidation) {
+		this.unreadInvalidation = unreadInvalidation;
+	}
+
+	@Override
+	public void unreadChanged(String receiverId) {
+		pendingUnreadChanges.add(receiverId);
+	}
+
+	/**
+	 * 다른 노드가 발행한 이벤트 수신 (먼저 이 노드의 미읽음 수 변경을 발행)
+	 */
+	public void poll() {
+		flushUnreadChanges();
+		try {
+			long cursor = lastEventId;
+			List<PushBusEvent> events;
+			do {
+				events = pushClusterDao.getEventsAfter(cursor, nodeId, pushConfig.getClusterPollBatchSize());
+				for (PushBusEvent event : events) {
+					cursor = event.getEventId();
+					if (!seenAhead.add(event.getEventId())) {
+						continue;
+					}
+					if (nodeId.equals(event.getOriginNode())) {
+						continue;
+					}
+					if (PushBusEvent.TYPE_UNREAD.equals(event.getEventType())) {
+						invalidateUnread(event);
+					} else if (localPresence.test(event.getReceiverId())) {
+						deliver(event);
+					}
+				}
+			} while (events.size() >= pushConfig.getClusterPollBatchSize());
+			advanceLastEventId();
+		} catch (Exception e) {
+			log.warn("푸시 클러스터 이벤트 폴링 실패: lastEventId={}, error={}", lastEventId, e.getMessage());
+		}
+	}
+
+	private void deliver(PushBusEvent event) {
+		try {
+			localDelivery.accept(objectMapper.readValue(event.getPayload(), PushDelivery.class));
+		} catch (Exception e) {
+			log.warn("푸시 클러스터 이벤트 전달 실패: eventId={}, error={}", event.getEventId(), e.getMessage());
+		}
+	}
+
+	private void invalidateUnread(PushBusEvent event) {
+		try {
+			objectMapper.readValue(event.getPayload(), RECEIVER_IDS).forEach(unreadInvalidation);
+		} catch (Exception e) {
+			log.warn("미읽음 수 변경 이벤트 처리 실패: eventId={}, error={}", event.getEventId(), e.getMessage());
+		}
+	}
+
+	private void flushUnreadChanges() {
+		if (pendingUnreadChanges.isEmpty()) {
+			return;
+		}
+		List<String> receiverIds = new ArrayList<>(pendingUnreadChanges);
+		pendingUnreadChanges.removeAll(receiverIds);
+
+		for (int from = 0; from < receiverIds.size(); from += UNREAD_CHUNK_SIZE) {
+			List<String> chunk = receiverIds.subList(from, Math.min(from + UNREAD_CHUNK_SIZE, receiverIds.size()));
+			try {
+				pushClusterDao.addEvent(PushBusEvent.builder().eventType(PushBusEvent.TYPE_UNREAD).originNode(nodeId)
+						.receiverId(chunk.size() == 1 ? chunk.get(0) : "*")
+						.payload(objectMapper.writeValueAsString(chunk)).build());
+			} catch (Exception e) {
+				// 다음 폴링 때 다시 알린다
+				pendingUnreadChanges.addAll(chunk);
+				log.warn("미읽음 수 변경 이벤트 발행 실패: {}명, error={}", chunk.size(), e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 빈 번호 없이 이어진 곳까지 lastEventId 를 올린다.
+	 * 빈 번호가 gap-timeout 동안 채워지지 않으면 (롤백 등) 다음 처리한 번호 앞까지 건너뛴다.
+	 */
+	private void advanceLastEventId() {
+		long watermark = lastEventId;
+		while (seenAhead.remove(watermark + 1)) {
+			watermark++;
+		}
+
+		long now = System.currentTimeMillis();
+		if (!seenAhead.isEmpty() && watermark == gapAfterEventId
+				&& now - gapSinceMillis >= pushConfig.getClusterGapTimeoutMs()) {
+			log.debug("푸시 클러스터 이벤트 빈 번호 건너뜀: {} ~ {}", watermark + 1, seenAhead.first() - 1);
+			watermark = seenAhead.first() - 1;
+			while (seenAhead.remove(watermark + 1)) {
+				watermark++;
+			}
+		}
+		if (!seenAhead.isEmpty() && watermark != gapAfterEventId) {
+			// 새 빈 번호부터 다시 기다린다
+			gapAfterEventId = watermark;
+			gapSinceMillis = now;
+		}
+		lastEventId = watermark;
+	}
+
+	/**
+	 * heartbeat 갱신, 다른 노드 연결 현황 재조회, 오래된 이벤트/연결 정리
+	 */
+	public void refreshPresence() {
+		try {
+			pushClusterDao.touchPresence(nodeId);
+			remotePresence = new HashSet<>(
+					pushClusterDao.getRemoteReceiverIds(nodeId, pushConfig.getClusterPresenceStaleSeconds()));
+			pushClusterDao.deleteStalePresence(pushConfig.getClusterPresenceStaleSeconds());
+			pushClusterDao.deleteEventsBefore(pushConfig.getClusterEventRetentionSeconds());
+		} catch (Exception e) {
+			log.warn("푸시 클러스터 연결 현황 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	private static String resolveNodeId(String configured) {
+		if (configured != null && !configured.isBlank()) {
+			return configured;
+		}
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (Exception e) {
+			host = "node";
+		}
+		return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+}
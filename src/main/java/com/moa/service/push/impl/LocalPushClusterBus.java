@@ -0,0 +1,54 @@
+package com.moa.service.push.impl;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.moa.service.push.PushClusterBus;
+import com.moa.service.push.PushDelivery;
+
+/**
+ * 단일 노드용 버스 (바로 로컬 emitter 로 전달)
+ */
+@Component
+@ConditionalOnProperty(name = "push.cluster.mode", havingValue = "local", matchIfMissing = true)
+public class LocalPushClusterBus implements PushClusterBus {
+
+	private volatile Consumer<PushDelivery> localDelivery = delivery -> {
+	};
+	private volatile Predicate<String> localPresence = receiverId -> false;
+
+	@Override
+	public void bind(Consumer<PushDelivery> localDelivery, Predicate<String> localPresence) {
+		this.localDelivery = localDelivery;
+		this.localPresence = localPresence;
+	}
+
+	@Override
+	public void publish(PushDelivery delivery) {
+		localDelivery.accept(delivery);
+	}
+
+	@Override
+	public boolean isConnected(String receiverId) {
+		return localPresence.test(receiverId);
+	}
+
+	@Override
+	public void connected(String receiverId) {
+	}
+
+	@Override
+	public void disconnected(String receiverId) {
+	}
+
+	@Override
+	public void bindUnreadInvalidation(Consumer<String> unreadInvalidation) {
+	}
+
+	@Override
+	public void unreadChanged(String receiverId) {
+	}
+}
@@ -0,0 +1,186 @@
+package com.moa.service.push.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moa.config.PushConfig;
+import com.moa.dao.push.PushDao;
+import com.moa.domain.Push;
+import com.moa.dto.push.response.PushBroadcastStatusResponse;
+import com.moa.dto.push.response.PushResponse;
+import com.moa.service.push.PushBroadcastService;
+import com.moa.service.push.PushSseService;
+import com.moa.service.push.PushUnreadCounter;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class PushBroadcastServiceImpl implements PushBroadcastService {
+
+	private static final String STATUS_QUEUED = "QUEUED";
+	private static final String STATUS_RUNNING = "RUNNING";
+	private static final String STATUS_COMPLETED = "COMPLETED";
+	private static final String STATUS_FAILED = "FAILED";
+
+	private final PushDao pushDao;
+	private final PushSseService pushSseService;
+	private final PushConfig pushConfig;
+	private final PushUnreadCounter pushUnreadCounter;
+	private final Executor pushBroadcastExecutor;
+	private final TransactionTemplate chunkTemplate;
+
+	private final Map<String, BroadcastJob> jobs = new ConcurrentHashMap<>();
+	private final ConcurrentLinkedDeque<String> jobOrder = new ConcurrentLinkedDeque<>();
+
+	public PushBroadcastServiceImpl(PushDao pushDao, PushSseService pushSseService, PushConfig pushConfig,
+			PushUnreadCounter pushUnreadCounter, @Qualifier("pushBroadcastExecutor") Executor pushBroadcastExecutor,
+			PlatformTransactionManager transactionManager) {
+		this.pushDao = pushDao;
+		this.pushSseService = pushSseService;
+		this.pushConfig = pushConfig;
+		this.pushUnreadCounter = pushUnreadCounter;
+		this.pushBroadcastExecutor = pushBroadcastExecutor;
+		this.chunkTemplate = new TransactionTemplate(transactionManager);
+		this.chunkTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@Override
+	public PushBroadcastStatusResponse start(Push template) {
+		BroadcastJob job = new BroadcastJob(UUID.randomUUID().toString(), template);
+		jobs.put(job.jobId, job);
+		jobOrder.addLast(job.jobId);
+		evictOldJobs();
+
+		pushBroadcastExecutor.execute(() -> run(job));
+		log.info("전체 푸시 발송 작업 등록: jobId={}, pushCode={}", job.jobId, template.getPushCode());
+		return job.toResponse();
+	}
+
+	@Override
+	public PushBroadcastStatusResponse getStatus(String jobId) {
+		BroadcastJob job = jobs.get(jobId);
+		return job != null ? job.toResponse() : null;
+	}
+
+	private void run(BroadcastJob job) {
+		job.status = STATUS_RUNNING;
+		job.startedAt = LocalDateTime.now();
+		int chunkSize = pushConfig.getBroadcastChunkSize();
+
+		try {
+			String lastUserId = null;
+			while (true) {
+				List<String> userIds = pushDao.getUserIdsExceptAdminAfter(lastUserId, chunkSize);
+				if (userIds.isEmpty()) {
+					break;
+				}
+
+				List<Push> pushes = new ArrayList<>(userIds.size());
+				for (String userId : userIds) {
+					pushes.add(copyFor(job.template, userId));
+				}
+				chunkTemplate.executeWithoutResult(status -> pushDao.addPushBatch(pushes));
+				notifyConnected(pushes);
+
+				job.sent += pushes.size();
+				job.chunks++;
+				lastUserId = userIds.get(userIds.size() - 1);
+
+				if (userIds.size() < chunkSize) {
+					break;
+				}
+			}
+			job.status = STATUS_COMPLETED;
+			log.info("전체 푸시 발송 완료: jobId={}, sent={}, chunks={}", job.jobId, job.sent, job.chunks);
+		} catch (Exception e) {
+			job.status = STATUS_FAILED;
+			job.errorMessage = e.getMessage();
+			log.error("전체 푸시 발송 실패: jobId={}, sent={}", job.jobId, job.sent, e);
+		} finally {
+			job.finishedAt = LocalDateTime.now();
+		}
+	}
+
+	private Push copyFor(Push template, String receiverId) {
+		return Push.builder().receiverId(receiverId).pushCode(template.getPushCode()).title(template.getTitle())
+				.content(template.getContent()).moduleId(template.getModuleId()).moduleType(template.getModuleType())
+				.isRead("N").isDeleted("N").build();
+	}
+
+	private void notifyConnected(List<Push> pushes) {
+		List<Push> connected = new ArrayList<>();
+		for (Push push : pushes) {
+			pushUnreadCounter.increment(push.getReceiverId());
+			if (pushSseService.isConnected(push.getReceiverId())) {
+				connected.add(push);
+			}
+		}
+		if (connected.isEmpty()) {
+			return;
+		}
+
+		Map<String, Integer> unreadCounts;
+		try {
+			unreadCounts = pushUnreadCounter.getAll(connected.stream().map(Push::getReceiverId).toList());
+		} catch (Exception e) {
+			unreadCounts = null;
+			log.warn("전체 발송 미읽음 수 조회 실패: {}", e.getMessage());
+		}
+
+		for (Push push : connected) {
+			Integer unread = unreadCounts != null ? unreadCounts.getOrDefault(push.getReceiverId(), 0) : null;
+			pushSseService.sendPushes(push.getReceiverId(), List.of(PushResponse.fromEntity(push)), unread);
+		}
+	}
+
+	private void evictOldJobs() {
+		while (jobOrder.size() > pushConfig.getBroadcastRetainedJobs()) {
+			String oldest = jobOrder.peekFirst();
+			BroadcastJob job = oldest != null ? jobs.get(oldest) : null;
+			if (job != null && (STATUS_QUEUED.equals(job.status) || STATUS_RUNNING.equals(job.status))) {
+				break;
+			}
+			jobOrder.pollFirst();
+			if (oldest != null) {
+				jobs.remove(oldest);
+			}
+		}
+	}
+
+	private static class BroadcastJob {
+
+		private final String jobId;
+		private final Push template;
+
+		private volatile String status = STATUS_QUEUED;
+		private volatile long sent;
+		private volatile int chunks;
+		private volatile String errorMessage;
+		private volatile LocalDateTime startedAt;
+		private volatile LocalDateTime finishedAt;
+
+		private BroadcastJob(String jobId, Push template) {
+			this.jobId = jobId;
+			this.template = template;
+		}
+
+		private PushBroadcastStatusResponse toResponse() {
+			return PushBroadcastStatusResponse.builder().jobId(jobId).status(status).pushCode(template.getPushCode())
+					.sent(sent).chunks(chunks).errorMessage(errorMessage).startedAt(startedAt).finishedAt(finishedAt)
+					.build();
+		}
+	}
+}
@@ -0,0 +1,218 @@
+package com.moa.service.push.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moa.config.PushConfig;
+import com.moa.dao.push.PushDao;
+import com.moa.domain.Push;
+import com.moa.dto.push.response.PushOutboxStatsResponse;
+import com.moa.dto.push.response.PushResponse;
+import com.moa.service.push.PushOutboxService;
+import com.moa.service.push.PushSseService;
+import com.moa.service.push.PushUnreadCounter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class PushOutboxServiceImpl implements PushOutboxService {
+
+	private final PushDao pushDao;
+	private final PushSseService pushSseService;
+	private final PushConfig pushConfig;
+	private final PushUnreadCounter pushUnreadCounter;
+	private final TransactionTemplate writeTemplate;
+	private final BlockingQueue<OutboxEntry> queue;
+
+	private final AtomicLong enqueued = new AtomicLong();
+	private final AtomicLong written = new AtomicLong();
+	private final AtomicLong batches = new AtomicLong();
+	private final AtomicLong backpressure = new AtomicLong();
+	private final AtomicLong retried = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+
+	private volatile boolean running;
+	private Thread writer;
+
+	public PushOutboxServiceImpl(PushDao pushDao, PushSseService pushSseService, PushConfig pushConfig,
+			PushUnreadCounter pushUnreadCounter, PlatformTransactionManager transactionManager) {
+		this.pushDao = pushDao;
+		this.pushSseService = pushSseService;
+		this.pushConfig = pushConfig;
+		this.pushUnreadCounter = pushUnreadCounter;
+		this.writeTemplate = new TransactionTemplate(transactionManager);
+		this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.queue = new ArrayBlockingQueue<>(pushConfig.getOutboxCapacity());
+	}
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		writer = new Thread(this::drainLoop, "push-outbox-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		writer.interrupt();
+		try {
+			writer.join(TimeUnit.SECONDS.toMillis(10));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		List<OutboxEntry> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		if (!remaining.isEmpty()) {
+			log.info("푸시 outbox 종료 전 잔여 {}건 저장", remaining.size());
+			flush(remaining);
+		}
+	}
+
+	@Override
+	public void enqueue(Push push) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					offer(new OutboxEntry(push, 0));
+				}
+			});
+		} else {
+			offer(new OutboxEntry(push, 0));
+		}
+	}
+
+	@Override
+	public PushOutboxStatsResponse getStats() {
+		return PushOutboxStatsResponse.builder().queueDepth(queue.size()).capacity(pushConfig.getOutboxCapacity())
+				.enqueued(enqueued.get()).written(written.get()).batches(batches.get())
+				.backpressure(backpressure.get()).retried(retried.get()).dropped(dropped.get()).build();
+	}
+
+	private void offer(OutboxEntry entry) {
+		try {
+			if (queue.offer(entry, pushConfig.getOutboxOfferTimeoutMs(), TimeUnit.MILLISECONDS)) {
+				enqueued.incrementAndGet();
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		backpressure.incrementAndGet();
+		log.warn("푸시 outbox 가득 참, 호출 스레드에서 직접 저장: receiverId={}", entry.push().getReceiverId());
+		flush(List.of(entry));
+	}
+
+	private void drainLoop() {
+		List<OutboxEntry> batch = new ArrayList<>(pushConfig.getOutboxBatchSize());
+		while (running) {
+			try {
+				OutboxEntry first = queue.poll(pushConfig.getOutboxFlushIntervalMs(), TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, pushConfig.getOutboxBatchSize() - 1);
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (Exception e) {
+				log.error("푸시 outbox 처리 실패", e);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<OutboxEntry> entries) {
+		List<Push> saved = new ArrayList<>(entries.size());
+		try {
+			List<Push> pushes = entries.stream().map(OutboxEntry::push).toList();
+			writeTemplate.executeWithoutResult(status -> pushDao.addPushBatch(pushes));
+			saved.addAll(pushes);
+			batches.incrementAndGet();
+		} catch (Exception e) {
+			log.warn("푸시 다건 저장 실패, 단건 저장으로 전환: size={}, error={}", entries.size(), e.getMessage());
+			for (OutboxEntry entry : entries) {
+				if (saveOne(entry)) {
+					saved.add(entry.push());
+				}
+			}
+		}
+
+		written.addAndGet(saved.size());
+		notifySubscribers(saved);
+	}
+
+	private boolean saveOne(OutboxEntry entry) {
+		try {
+			writeTemplate.executeWithoutResult(status -> pushDao.addPush(entry.push()));
+			return true;
+		} catch (Exception e) {
+			int attempts = entry.attempts() + 1;
+			if (attempts < pushConfig.getOutboxMaxAttempts() && queue.offer(new OutboxEntry(entry.push(), attempts))) {
+				retried.incrementAndGet();
+			} else {
+				dropped.incrementAndGet();
+				log.error("푸시 저장 최종 실패, 폐기: receiverId={}, pushCode={}, error={}", entry.push().getReceiverId(),
+						entry.push().getPushCode(), e.getMessage());
+			}
+			return false;
+		}
+	}
+
+	private void notifySubscribers(List<Push> saved) {
+		Map<String, List<PushResponse>> byReceiver = new LinkedHashMap<>();
+		for (Push push : saved) {
+			String receiverId = push.getReceiverId();
+			if (receiverId == null || receiverId.isBlank()) {
+				continue;
+			}
+			pushUnreadCounter.increment(receiverId);
+			if (!pushSseService.isConnected(receiverId)) {
+				continue;
+			}
+			byReceiver.computeIfAbsent(receiverId, k -> new ArrayList<>()).add(PushResponse.fromEntity(push));
+		}
+		if (byReceiver.isEmpty()) {
+			return;
+		}
+
+		Map<String, Integer> unreadCounts;
+		try {
+			unreadCounts = pushUnreadCounter.getAll(byReceiver.keySet());
+		} catch (Exception e) {
+			unreadCounts = null;
+			log.warn("미읽음 수 일괄 조회 실패: {}", e.getMessage());
+		}
+
+		for (Map.Entry<String, List<PushResponse>> entry : byReceiver.entrySet()) {
+			Integer unread = unreadCounts != null ? unreadCounts.getOrDefault(entry.getKey(), 0) : null;
+			pushSseService.sendPushes(entry.getKey(), entry.getValue(), unread);
+		}
+	}
+
+	private record OutboxEntry(Push push, int attempts) {
+	}
+}
@@ -18,10 +18,17 @@ import com.moa.dto.push.request.MultiPushRequest;
 import com.moa.dto.push.request.PushCodeRequest;
 import com.moa.dto.push.request.PushRequest;
 import com.moa.dto.push.request.TemplatePushRequest;
+import com.moa.dto.push.response.PushBroadcastStatusResponse;
 import com.moa.dto.push.response.PushCodeResponse;
+import com.moa.dto.push.response.PushOutboxStatsResponse;
 import com.moa.dto.push.response.PushResponse;
+import com.moa.service.push.PushBroadcastService;
+import com.moa.service.push.PushOutboxService;
 import com.moa.service.push.PushService;
 import com.moa.service.push.PushSseService;
+import com.moa.service.push.PushTemplate;
+import com.moa.service.push.PushTemplateRegistry;
+import com.moa.service.push.PushUnreadCounter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,6 +39,10 @@ public class PushServiceImpl implements PushService {
 
 	private final PushDao pushDao;
 	private final PushSseService pushSseService;
+	private final PushOutboxService pushOutboxService;
+	private final PushTemplateRegistry pushTemplateRegistry;
+	private final PushBroadcastService pushBroadcastService;
+	private final PushUnreadCounter pushUnreadCounter;
 
 	@Override
 	@Transactional
@@ -54,19 +65,20 @@ public class PushServiceImpl implements PushService {
 	@Override
 	@Transactional
 	public void addTemplatePush(TemplatePushRequest request) {
-		PushCode pushCode = pushDao.getPushCodeByName(request.getPushCode());
+		PushTemplate template = pushTemplateRegistry.get(request.getPushCode());
 
-		if (pushCode == null) {
+		if (template == null) {
 			throw new IllegalArgumentException("Invalid push code: " + request.getPushCode());
 		}
 
-		String title = replaceTemplateParams(pushCode.getTitleTemplate(), request.getParams());
-		String content = replaceTemplateParams(pushCode.getContentTemplate(), request.getParams());
+		String title = template.renderTitle(request.getParams());
+		String content = template.renderContent(request.getParams());
 
 		Push push = Push.builder().receiverId(request.getReceiverId()).pushCode(request.getPushCode()).title(title)
-				.content(content).moduleId(request.getModuleId()).moduleType(request.getModuleType()).build();
+				.content(content).moduleId(request.getModuleId()).moduleType(request.getModuleType()).isRead("N")
+				.isDeleted("N").build();
 
-		persistAndNotify(push);
+		pushOutboxService.enqueue(push);
 	}
 
 	@Override
@@ -99,31 +111,45 @@ public class PushServiceImpl implements PushService {
 
 	@Override
 	public int getUnreadCount(String receiverId) {
-		return pushDao.getUnreadCount(receiverId);
+		return pushUnreadCounter.get(receiverId);
 	}
 
 	@Override
 	@Transactional
 	public void updateRead(Integer pushId) {
+		Push push = pushDao.getPush(pushId);
 		pushDao.updateRead(pushId);
+		if (isUnread(push)) {
+			pushUnreadCounter.decrement(push.getReceiverId());
+		}
 	}
 
 	@Override
 	@Transactional
 	public void updateAllRead(String receiverId) {
 		pushDao.updateAllRead(receiverId);
+		pushUnreadCounter.reset(receiverId);
 	}
 
 	@Override
 	@Transactional
 	public void deletePush(Integer pushId) {
+		Push push = pushDao.getPush(pushId);
 		pushDao.deletePush(pushId);
+		if (isUnread(push)) {
+			pushUnreadCounter.decrement(push.getReceiverId());
+		}
 	}
 
 	@Override
 	@Transactional
 	public void deleteAllPushs(String receiverId) {
 		pushDao.deleteAllPushs(receiverId);
+		pushUnreadCounter.reset(receiverId);
+	}
+
+	private boolean isUnread(Push push) {
+		return push != null && "N".equals(push.getIsRead()) && !"Y".equals(push.getIsDeleted());
 	}
 
 	@Override
@@ -151,6 +177,7 @@ public class PushServiceImpl implements PushService {
 
 		PushCode pushCode = request.toEntity();
 		pushDao.addPushCode(pushCode);
+		pushTemplateRegistry.invalidate();
 	}
 
 	@Override
@@ -163,6 +190,7 @@ public class PushServiceImpl implements PushService {
 
 		pushDao.updatePushCode(pushCodeId, request.getCodeName(), request.getTitleTemplate(),
 				request.getContentTemplate());
+		pushTemplateRegistry.invalidate();
 	}
 
 	@Override
@@ -174,6 +202,7 @@ public class PushServiceImpl implements PushService {
 		}
 
 		pushDao.deletePushCode(pushCodeId);
+		pushTemplateRegistry.invalidate();
 	}
 
 	@Override
@@ -199,13 +228,13 @@ public class PushServiceImpl implements PushService {
 			String pushCodeName;
 
 			if ("TEMPLATE".equals(request.getSendType())) {
-				PushCode pushCode = pushDao.getPushCodeByName(request.getPushCode());
-				if (pushCode == null) {
+				PushTemplate template = pushTemplateRegistry.get(request.getPushCode());
+				if (template == null) {
 					throw new IllegalArgumentException("존재하지 않는 푸시 코드입니다: " + request.getPushCode());
 				}
 
-				title = replaceTemplateParams(pushCode.getTitleTemplate(), request.getParams());
-				content = replaceTemplateParams(pushCode.getContentTemplate(), request.getParams());
+				title = template.renderTitle(request.getParams());
+				content = template.renderContent(request.getParams());
 				pushCodeName = request.getPushCode();
 			} else {
 				title = request.getTitle();
@@ -223,32 +252,30 @@ public class PushServiceImpl implements PushService {
 		return count;
 	}
 
+	@Override
+	public PushOutboxStatsResponse getOutboxStats() {
+		return pushOutboxService.getStats();
+	}
+
 	@Override
 	public List<Map<String, String>> searchUsersForPush(String keyword) {
 		return pushDao.searchUsersForPush(keyword);
 	}
 
 	@Override
-	@Transactional
-	public int sendPushToAllUsers(AdminPushRequest request) {
-		List<String> allUserIds = pushDao.getAllUserIdsExceptAdmin();
-
-		if (allUserIds.isEmpty()) {
-			return 0;
-		}
-
+	public PushBroadcastStatusResponse sendPushToAllUsers(AdminPushRequest request) {
 		String title;
 		String content;
 		String pushCodeName;
 
 		if ("TEMPLATE".equals(request.getSendType())) {
-			PushCode pushCode = pushDao.getPushCodeByName(request.getPushCode());
-			if (pushCode == null) {
+			PushTemplate template = pushTemplateRegistry.get(request.getPushCode());
+			if (template == null) {
 				throw new IllegalArgumentException("존재하지 않는 푸시 코드입니다: " + request.getPushCode());
 			}
 
-			title = replaceTemplateParams(pushCode.getTitleTemplate(), request.getParams());
-			content = replaceTemplateParams(pushCode.getContentTemplate(), request.getParams());
+			title = template.renderTitle(request.getParams());
+			content = template.renderContent(request.getParams());
 			pushCodeName = request.getPushCode();
 		} else {
 			title = request.getTitle();
@@ -256,16 +283,19 @@ public class PushServiceImpl implements PushService {
 			pushCodeName = "ADMIN_CUSTOM";
 		}
 
-		int count = 0;
-		for (String userId : allUserIds) {
-			Push push = Push.builder().receiverId(userId).pushCode(pushCodeName).title(title).content(content)
-					.moduleId(request.getModuleId()).moduleType(request.getModuleType()).build();
+		Push template = Push.builder().pushCode(pushCodeName).title(title).content(content)
+				.moduleId(request.getModuleId()).moduleType(request.getModuleType()).build();
 
-			persistAndNotify(push);
-			count++;
-		}
+		return pushBroadcastService.start(template);
+	}
 
-		return count;
+	@Override
+	public PushBroadcastStatusResponse getBroadcastStatus(String jobId) {
+		PushBroadcastStatusResponse status = pushBroadcastService.getStatus(jobId);
+		if (status == null) {
+			throw new IllegalArgumentException("존재하지 않는 발송 작업입니다: " + jobId);
+		}
+		return status;
 	}
 
 	private void persistAndNotify(Push push) {
@@ -280,8 +310,10 @@ public class PushServiceImpl implements PushService {
 		if (receiverId == null || receiverId.isBlank())
 			return;
 
+		pushUnreadCounter.increment(receiverId);
+
 		Runnable notifier = () -> {
-			int unread = pushDao.getUnreadCount(receiverId);
+			int unread = pushUnreadCounter.get(receiverId);
 			PushResponse payload = PushResponse.fromEntity(push);
 			pushSseService.sendToUser(receiverId, payload, unread);
 		};
@@ -297,15 +329,4 @@ public class PushServiceImpl implements PushService {
 			notifier.run();
 		}
 	}
-
-	private String replaceTemplateParams(String template, Map<String, String> params) {
-		if (template == null || params == null) {
-			return template;
-		}
-		String result = template;
-		for (Map.Entry<String, String> entry : params.entrySet()) {
-			result = result.replace("{" + entry.getKey() + "}", entry.getValue());
-		}
-		return result;
-	}
 }
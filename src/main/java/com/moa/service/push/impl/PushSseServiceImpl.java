@@ -2,36 +2,145 @@ package com.moa.service.push.impl;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.moa.common.exception.BusinessException;
+import com.moa.common.exception.ErrorCode;
+import com.moa.config.PushConfig;
+import com.moa.dao.push.PushDao;
 import com.moa.dto.push.response.PushResponse;
+import com.moa.dto.push.response.PushSseStatsResponse;
+import com.moa.service.push.PushClusterBus;
+import com.moa.service.push.PushDelivery;
 import com.moa.service.push.PushSseService;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
 @Service
+@Slf4j
 public class PushSseServiceImpl implements PushSseService {
 
-	private final ConcurrentHashMap<String, CopyOnWriteArrayList<SseEmitter>> emitters = new ConcurrentHashMap<>();
+	private final PushClusterBus pushClusterBus;
+	private final PushConfig pushConfig;
+	private final PushDao pushDao;
+	private final Executor pushSseSenderExecutor;
+
+	private final ConcurrentHashMap<String, CopyOnWriteArrayList<SseConnection>> connections = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, SseReplayBuffer> replayBuffers = new ConcurrentHashMap<>();
+
+	private final AtomicInteger openConnections = new AtomicInteger();
+	private final AtomicLong opened = new AtomicLong();
+	private final AtomicLong evictedDead = new AtomicLong();
+	private final AtomicLong evictedOverUserCap = new AtomicLong();
+	private final AtomicLong evictedSlow = new AtomicLong();
+	private final AtomicLong coalescedUnread = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+	private final AtomicLong replayedFromMemory = new AtomicLong();
+	private final AtomicLong replayedFromDb = new AtomicLong();
+
+	private ScheduledExecutorService heartbeatScheduler;
+
+	public PushSseServiceImpl(PushClusterBus pushClusterBus, PushConfig pushConfig, PushDao pushDao,
+			@Qualifier("pushSseSenderExecutor") Executor pushSseSenderExecutor) {
+		this.pushClusterBus = pushClusterBus;
+		this.pushConfig = pushConfig;
+		this.pushDao = pushDao;
+		this.pushSseSenderExecutor = pushSseSenderExecutor;
+	}
+
+	/**
+	 * 클러스터 버스 연결 후 heartbeat 시작
+	 * (heartbeat 는 전용 스레드에서 돈다, @Scheduled 기본 스케줄러는 오래 걸리는 배치와 공유되므로)
+	 */
+	@PostConstruct
+	public void init() {
+		pushClusterBus.bind(this::deliverLocal, this::isLocallyConnected);
+
+		long interval = Math.max(1, pushConfig.getSseHeartbeatIntervalMs());
+		heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "push-sse-heartbeat");
+			thread.setDaemon(true);
+			return thread;
+		});
+		heartbeatScheduler.scheduleWithFixedDelay(() -> {
+			try {
+				heartbeat();
+			} catch (Exception e) {
+				log.warn("SSE heartbeat 실패: {}", e.getMessage());
+			}
+		}, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (heartbeatScheduler != null) {
+			heartbeatScheduler.shutdownNow();
+		}
+	}
 
 	@Override
-	public SseEmitter subscribe(String receiverId, int initialUnreadCount) {
-		SseEmitter emitter = new SseEmitter(0L);
+	public SseEmitter subscribe(String receiverId, int initialUnreadCount, String lastEventId) {
+		if (openConnections.incrementAndGet() > pushConfig.getSseMaxConnections()) {
+			openConnections.decrementAndGet();
+			rejected.incrementAndGet();
+			log.warn("SSE 전체 연결 수 초과로 구독 거절: receiverId={}, max={}", receiverId, pushConfig.getSseMaxConnections());
+			throw new BusinessException(ErrorCode.SSE_CONNECTION_LIMIT);
+		}
+		opened.incrementAndGet();
 
-		emitters.computeIfAbsent(receiverId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+		SseEmitter emitter = new SseEmitter(pushConfig.getSseTimeoutMs());
+		SseConnection connection = new SseConnection(receiverId, emitter, pushConfig.getSseOutboundQueueCapacity());
 
-		emitter.onCompletion(() -> remove(receiverId, emitter));
-		emitter.onTimeout(() -> remove(receiverId, emitter));
-		emitter.onError((e) -> remove(receiverId, emitter));
+		CopyOnWriteArrayList<SseConnection> list = connections.computeIfAbsent(receiverId,
+				k -> new CopyOnWriteArrayList<>());
+		list.add(connection);
+		SseReplayBuffer replayBuffer = replayBuffers.computeIfAbsent(receiverId,
+				k -> new SseReplayBuffer(pushConfig.getSseReplayBufferSize()));
+		replayBuffer.touch();
+		pushClusterBus.connected(receiverId);
 
-		try {
-			emitter.send(SseEmitter.event().name("connected").data(Map.of("ok", true)));
-			emitter.send(SseEmitter.event().name("unread-count").data(Map.of("count", initialUnreadCount)));
-		} catch (IOException e) {
-			remove(receiverId, emitter);
+		// 사용자별 최대 연결 수를 넘으면 가장 오래된 연결부터 닫는다
+		while (list.size() > pushConfig.getSseMaxConnectionsPerUser()) {
+			SseConnection oldest = list.get(0);
+			if (oldest == connection) {
+				break;
+			}
+			if (remove(receiverId, oldest)) {
+				evictedOverUserCap.incrementAndGet();
+			}
+			oldest.close();
+		}
+
+		emitter.onCompletion(() -> remove(receiverId, connection));
+		emitter.onTimeout(() -> remove(receiverId, connection));
+		emitter.onError((e) -> remove(receiverId, connection));
+
+		// 재전송이 끝나기 전에 새 push 가 이 연결 대기열에 먼저 들어가지 않도록 버퍼 lock 안에서 보낸다
+		synchronized (replayBuffer) {
+			try {
+				emitter.send(SseEmitter.event().name("connected").data(Map.of("ok", true)));
+				for (SseReplayBuffer.Entry push : findMissed(receiverId, replayBuffer, lastEventId)) {
+					emitter.send(SseConnection.pushEvent(push));
+				}
+				emitter.send(SseEmitter.event().name("unread-count").data(Map.of("count", initialUnreadCount)));
+			} catch (IOException e) {
+				remove(receiverId, connection);
+			}
 		}
 
 		return emitter;
@@ -39,28 +148,168 @@ public class PushSseServiceImpl implements PushSseService {
 
 	@Override
 	public void sendToUser(String receiverId, PushResponse push, int unreadCount) {
-		CopyOnWriteArrayList<SseEmitter> list = emitters.get(receiverId);
-		if (list == null || list.isEmpty())
-			return;
+		pushClusterBus.publish(new PushDelivery(receiverId, List.of(push), unreadCount));
+	}
+
+	@Override
+	public void sendPushes(String receiverId, List<PushResponse> pushes, Integer unreadCount) {
+		pushClusterBus.publish(new PushDelivery(receiverId, pushes, unreadCount));
+	}
+
+	@Override
+	public boolean isConnected(String receiverId) {
+		return pushClusterBus.isConnected(receiverId);
+	}
+
+	@Override
+	public PushSseStatsResponse getStats() {
+		return PushSseStatsResponse.builder().connectedUsers(connections.size())
+				.openConnections(openConnections.get()).maxConnections(pushConfig.getSseMaxConnections())
+				.maxConnectionsPerUser(pushConfig.getSseMaxConnectionsPerUser()).opened(opened.get())
+				.evictedDead(evictedDead.get()).evictedOverUserCap(evictedOverUserCap.get())
+				.evictedSlow(evictedSlow.get()).coalescedUnread(coalescedUnread.get()).rejected(rejected.get())
+				.replayBuffers(replayBuffers.size()).replayedFromMemory(replayedFromMemory.get())
+				.replayedFromDb(replayedFromDb.get()).build();
+	}
 
-		Iterator<SseEmitter> it = list.iterator();
+	/**
+	 * 모든 연결에 주석 ping 을 예약해 끊긴 연결을 정리한다 (프록시 idle 타임아웃 방지 겸용)
+	 */
+	public void heartbeat() {
+		for (CopyOnWriteArrayList<SseConnection> list : connections.values()) {
+			for (SseConnection connection : list) {
+				connection.offerPing();
+				connection.schedule(pushSseSenderExecutor, this::onSendFailure);
+			}
+		}
+		evictIdleReplayBuffers();
+	}
+
+	/**
+	 * 연결이 있거나, 끊긴 지 얼마 안 되어 재연결 대비 버퍼를 유지 중인 사용자
+	 */
+	private boolean isLocallyConnected(String receiverId) {
+		CopyOnWriteArrayList<SseConnection> list = connections.get(receiverId);
+		return (list != null && !list.isEmpty()) || replayBuffers.containsKey(receiverId);
+	}
+
+	/**
+	 * 재연결 누락분: 이 버퍼가 발급한 ID 면 메모리에서, 아니면 DB 에서 (DB 재전송분은 버퍼에 새 순번으로 적재)
+	 *
+	 * DB 는 PUSH_ID 기준이라 늦게 커밋된 push 를 놓치지 않도록 replay-db-rewind-seconds 만큼 되감아 조회한다.
+	 * 그래서 이미 받은 push 가 다시 갈 수 있다 (클라이언트는 pushId 로 중복을 거른다).
+	 */
+	private List<SseReplayBuffer.Entry> findMissed(String receiverId, SseReplayBuffer replayBuffer,
+			String lastEventId) {
+		SseReplayBuffer.Cursor cursor = SseReplayBuffer.Cursor.parse(lastEventId);
+		if (cursor == null) {
+			return List.of();
+		}
+
+		List<SseReplayBuffer.Entry> missed = replayBuffer.since(cursor);
+		if (missed != null) {
+			replayedFromMemory.addAndGet(missed.size());
+			return missed;
+		}
+
+		try {
+			missed = pushDao
+					.getPushesAfter(receiverId, cursor.maxPushId(), pushConfig.getSseReplayDbRewindSeconds(),
+							pushConfig.getSseReplayMaxEvents())
+					.stream().map(PushResponse::fromEntity).map(replayBuffer::add).toList();
+			replayedFromDb.addAndGet(missed.size());
+			return missed;
+		} catch (Exception e) {
+			log.warn("SSE 재연결 누락분 조회 실패: receiverId={}, lastEventId={}, error={}", receiverId, lastEventId,
+					e.getMessage());
+			return List.of();
+		}
+	}
+
+	private void evictIdleReplayBuffers() {
+		long expiredBefore = System.currentTimeMillis() - pushConfig.getSseReplayRetentionMs();
+		Iterator<Map.Entry<String, SseReplayBuffer>> it = replayBuffers.entrySet().iterator();
 		while (it.hasNext()) {
-			SseEmitter emitter = it.next();
-			try {
-				emitter.send(SseEmitter.event().name("push").data(push));
-				emitter.send(SseEmitter.event().name("unread-count").data(Map.of("count", unreadCount)));
-			} catch (Exception e) {
-				remove(receiverId, emitter);
+			Map.Entry<String, SseReplayBuffer> entry = it.next();
+			if (connections.containsKey(entry.getKey()) || entry.getValue().lastActiveAt() >= expiredBefore) {
+				continue;
 			}
+			it.remove();
+			pushClusterBus.disconnected(entry.getKey());
 		}
 	}
 
-	private void remove(String receiverId, SseEmitter emitter) {
-		CopyOnWriteArrayList<SseEmitter> list = emitters.get(receiverId);
-		if (list == null)
+	/**
+	 * 이 노드의 연결 대기열에 적재만 하고 바로 반환 (네트워크 I/O 는 sender executor 에서)
+	 */
+	private void deliverLocal(PushDelivery delivery) {
+		String receiverId = delivery.receiverId();
+		SseReplayBuffer replayBuffer = replayBuffers.get(receiverId);
+		if (replayBuffer == null) {
+			CopyOnWriteArrayList<SseConnection> list = connections.get(receiverId);
+			if (list == null || list.isEmpty())
+				return;
+			replayBuffer = replayBuffers.computeIfAbsent(receiverId,
+					k -> new SseReplayBuffer(pushConfig.getSseReplayBufferSize()));
+		}
+
+		// 버퍼 순번과 연결 대기열 적재 순서를 맞춘다 (적재만 하므로 lock 은 짧다)
+		synchronized (replayBuffer) {
+			List<SseReplayBuffer.Entry> entries = delivery.pushes().stream().map(replayBuffer::add).toList();
+			offerLocal(receiverId, entries, delivery.unreadCount());
+		}
+	}
+
+	private void offerLocal(String receiverId, List<SseReplayBuffer.Entry> entries, Integer unreadCount) {
+		CopyOnWriteArrayList<SseConnection> list = connections.get(receiverId);
+		if (list == null || list.isEmpty())
 			return;
-		list.remove(emitter);
-		if (list.isEmpty())
-			emitters.remove(receiverId);
+
+		for (SseConnection connection : list) {
+			boolean accepted = true;
+			for (SseReplayBuffer.Entry push : entries) {
+				if (!connection.offerPush(push)) {
+					accepted = false;
+					break;
+				}
+			}
+			if (!accepted) {
+				if (remove(receiverId, connection)) {
+					evictedSlow.incrementAndGet();
+					log.info("SSE 발송 대기열 초과로 연결 종료: receiverId={}", receiverId);
+				}
+				connection.close();
+				continue;
+			}
+
+			if (unreadCount != null && connection.offerUnread(unreadCount)) {
+				coalescedUnread.incrementAndGet();
+			}
+			connection.schedule(pushSseSenderExecutor, this::onSendFailure);
+		}
+	}
+
+	private void onSendFailure(SseConnection connection) {
+		if (remove(connection.receiverId(), connection)) {
+			evictedDead.incrementAndGet();
+		}
+		connection.close();
+	}
+
+	private boolean remove(String receiverId, SseConnection connection) {
+		CopyOnWriteArrayList<SseConnection> list = connections.get(receiverId);
+		if (list == null || !list.remove(connection))
+			return false;
+		openConnections.decrementAndGet();
+		if (list.isEmpty() && connections.remove(receiverId, list)) {
+			// 클러스터 연결 현황은 재연결 대비 버퍼가 만료될 때 해제한다
+			SseReplayBuffer replayBuffer = replayBuffers.get(receiverId);
+			if (replayBuffer != null) {
+				replayBuffer.touch();
+			} else {
+				pushClusterBus.disconnected(receiverId);
+			}
+		}
+		return true;
 	}
 }
@@ -0,0 +1,109 @@
+package com.moa.service.push.impl;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+
+/**
+ * SSE 연결 하나와 그 연결의 발송 대기열
+ *
+ * 생산자는 큐에 넣기만 하고, 실제 emitter.send 는 sender executor 가 연결당 한 작업씩 수행한다.
+ * unread-count 는 큐에 쌓지 않고 마지막 값 하나만 보관해 합쳐 보낸다.
+ * push 큐가 가득 차면 느린 클라이언트로 보고 연결을 끊는다 (재접속 시 다시 받음).
+ */
+class SseConnection {
+
+	private final String receiverId;
+	private final SseEmitter emitter;
+	private final BlockingQueue<SseReplayBuffer.Entry> pushes;
+	private final AtomicReference<Integer> pendingUnread = new AtomicReference<>();
+	private final AtomicBoolean pendingPing = new AtomicBoolean();
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private volatile boolean closed;
+
+	SseConnection(String receiverId, SseEmitter emitter, int queueCapacity) {
+		this.receiverId = receiverId;
+		this.emitter = emitter;
+		this.pushes = new ArrayBlockingQueue<>(queueCapacity);
+	}
+
+	String receiverId() {
+		return receiverId;
+	}
+
+	/**
+	 * push 적재 (큐가 가득 차면 false)
+	 */
+	boolean offerPush(SseReplayBuffer.Entry push) {
+		return !closed && pushes.offer(push);
+	}
+
+	/**
+	 * unread-count 적재 (이전에 보내지 못한 값이 있었으면 true)
+	 */
+	boolean offerUnread(int unreadCount) {
+		return pendingUnread.getAndSet(unreadCount) != null;
+	}
+
+	void offerPing() {
+		pendingPing.set(true);
+	}
+
+	/**
+	 * 대기열 발송 예약 (이미 발송 중이면 그 작업이 이어서 처리)
+	 */
+	void schedule(Executor executor, Consumer<SseConnection> onFailure) {
+		if (!closed && draining.compareAndSet(false, true)) {
+			executor.execute(() -> drain(executor, onFailure));
+		}
+	}
+
+	void close() {
+		closed = true;
+		pushes.clear();
+		try {
+			emitter.complete();
+		} catch (Exception ignored) {
+			// 이미 종료된 연결
+		}
+	}
+
+	/**
+	 * push 이벤트 (재전송 버퍼의 이벤트 ID 를 SSE id 로 사용해 재연결 시 Last-Event-ID 로 돌아온다)
+	 */
+	static SseEmitter.SseEventBuilder pushEvent(SseReplayBuffer.Entry push) {
+		return SseEmitter.event().id(push.eventId()).name("push").data(push.push());
+	}
+
+	private void drain(Executor executor, Consumer<SseConnection> onFailure) {
+		try {
+			SseReplayBuffer.Entry push;
+			while (!closed && (push = pushes.poll()) != null) {
+				emitter.send(SseConnection.pushEvent(push));
+			}
+			Integer unread = pendingUnread.getAndSet(null);
+			if (!closed && unread != null) {
+				emitter.send(SseEmitter.event().name("unread-count").data(Map.of("count", unread)));
+			}
+			if (!closed && pendingPing.getAndSet(false)) {
+				emitter.send(SseEmitter.event().comment("ping"));
+			}
+		} catch (Exception e) {
+			onFailure.accept(this);
+			return;
+		} finally {
+			draining.set(false);
+		}
+
+		if (!pushes.isEmpty() || pendingUnread.get() != null || pendingPing.get()) {
+			schedule(executor, onFailure);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.moa.service.push.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+import com.moa.dto.push.response.PushResponse;
+
+/**
+ * 사용자별 최근 push 링 버퍼 (SSE 이벤트 ID = "{bufferId}-{seq}-{maxPushId}")
+ *
+ * push 는 PUSH_ID 순이 아니라 커밋/전달된 순서로 도착하므로, 이 노드가 전달한 순서대로 버퍼 안 순번(seq)을 매겨
+ * SSE 이벤트 ID 로 쓴다. 같은 버퍼가 발급한 ID 로 재연결하면 그 seq 이후를 메모리에서 그대로 재전송하고,
+ * 다른 노드/만료된 버퍼의 ID 이거나 이미 밀려난 seq 면 null 을 돌려 DB 조회(maxPushId 기준)로 넘긴다.
+ *
+ * 연결 대기열 적재 순서가 seq 순서와 같아야 하므로, 호출자는 add 와 대기열 적재를 이 버퍼 lock 안에서 한다.
+ */
+class SseReplayBuffer {
+
+	/**
+	 * 버퍼에 적재된 push 와 그 SSE 이벤트 ID
+	 */
+	record Entry(long seq, String eventId, PushResponse push) {
+	}
+
+	/**
+	 * 클라이언트가 보낸 Last-Event-ID (예전 형식인 PUSH_ID 숫자만 온 경우 bufferId 는 null)
+	 */
+	record Cursor(String bufferId, long seq, long maxPushId) {
+
+		static Cursor parse(String value) {
+			if (value == null || value.isBlank()) {
+				return null;
+			}
+			String[] parts = value.trim().split("-");
+			try {
+				if (parts.length == 1) {
+					return new Cursor(null, -1, Long.parseLong(parts[0]));
+				}
+				if (parts.length == 3) {
+					return new Cursor(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+				}
+			} catch (NumberFormatException e) {
+				// 형식이 맞지 않으면 재전송하지 않는다
+			}
+			return null;
+		}
+	}
+
+	private final String bufferId = UUID.randomUUID().toString().substring(0, 8);
+	private final int capacity;
+	private final Deque<Entry> entries;
+	private long lastSeq;
+	private long evictedUpToSeq;
+	private long maxPushId;
+	private volatile long lastActiveAt = System.currentTimeMillis();
+
+	SseReplayBuffer(int capacity) {
+		this.capacity = Math.max(1, capacity);
+		this.entries = new ArrayDeque<>(this.capacity);
+	}
+
+	synchronized Entry add(PushResponse push) {
+		if (push.getPushId() != null) {
+			maxPushId = Math.max(maxPushId, push.getPushId());
+		}
+		long seq = ++lastSeq;
+		Entry entry = new Entry(seq, bufferId + "-" + seq + "-" + maxPushId, push);
+
+		if (entries.size() >= capacity) {
+			evictedUpToSeq = entries.pollFirst().seq();
+		}
+		entries.addLast(entry);
+		return entry;
+	}
+
+	/**
+	 * cursor 이후 이벤트 (메모리로 보장할 수 없으면 null)
+	 */
+	synchronized List<Entry> since(Cursor cursor) {
+		if (!bufferId.equals(cursor.bufferId()) || cursor.seq() < evictedUpToSeq || cursor.seq() > lastSeq) {
+			return null;
+		}
+		List<Entry> missed = new ArrayList<>();
+		for (Entry entry : entries) {
+			if (entry.seq() > cursor.seq()) {
+				missed.add(entry);
+			}
+		}
+		return missed;
+	}
+
+	void touch() {
+		lastActiveAt = System.currentTimeMillis();
+	}
+
+	long lastActiveAt() {
+		return lastActiveAt;
+	}
+}
@@ -0,0 +1,24 @@
+package com.moa.service.scheduler;
+
+import java.util.List;
+
+import com.moa.dto.admin.response.SchedulerLockResponse;
+
+public interface SchedulerLockService {
+
+	/**
+	 * 리스가 만료된 경우에만 이 노드가 선점한다. 실행 중에는 주기적으로 연장된다.
+	 *
+	 * @return 선점하면 true (DB 오류 시에는 중복 실행을 막기 위해 false)
+	 */
+	boolean tryAcquire(String lockName);
+
+	/**
+	 * @param lockAtLeastSeconds 획득 후 최소 보유 시간, 음수면 기본값
+	 */
+	void release(String lockName, long lockAtLeastSeconds);
+
+	List<SchedulerLockResponse> getLocks();
+
+	String getNodeId();
+}
@@ -0,0 +1,156 @@
+package com.moa.service.scheduler.impl;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import com.moa.config.SchedulerConfig;
+import com.moa.dao.scheduler.SchedulerLockDao;
+import com.moa.dto.admin.response.SchedulerLockResponse;
+import com.moa.service.scheduler.SchedulerLockService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SCHEDULER_LOCK 테이블 기반 리스
+ *
+ * 기본 스케줄러 스레드는 하나라서 긴 작업이 도는 동안 @Scheduled 로는 연장할 수 없으므로,
+ * 연장은 전용 데몬 스레드가 renew-interval 마다 수행한다.
+ */
+@Service
+@Slf4j
+public class SchedulerLockServiceImpl implements SchedulerLockService {
+
+	private final SchedulerLockDao schedulerLockDao;
+	private final SchedulerConfig schedulerConfig;
+	private final String nodeId;
+
+	private final Set<String> knownLocks = ConcurrentHashMap.newKeySet();
+	private final Set<String> heldLocks = ConcurrentHashMap.newKeySet();
+	private ScheduledExecutorService renewer;
+
+	public SchedulerLockServiceImpl(SchedulerLockDao schedulerLockDao, SchedulerConfig schedulerConfig) {
+		this.schedulerLockDao = schedulerLockDao;
+		this.schedulerConfig = schedulerConfig;
+		this.nodeId = resolveNodeId(schedulerConfig.getNodeId());
+	}
+
+	@PostConstruct
+	public void init() {
+		if (!schedulerConfig.isLockEnabled()) {
+			log.warn("스케줄러 분산 락 비활성화: 모든 노드에서 스케줄러가 실행됩니다.");
+			return;
+		}
+
+		long interval = Math.max(1, schedulerConfig.getRenewIntervalSeconds());
+		renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "scheduler-lock-renewer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		renewer.scheduleWithFixedDelay(this::renewHeldLocks, interval, interval, TimeUnit.SECONDS);
+		log.info("스케줄러 분산 락 시작: nodeId={}, lease={}s, renewInterval={}s", nodeId,
+				schedulerConfig.getLeaseSeconds(), interval);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (renewer != null) {
+			renewer.shutdownNow();
+		}
+		// 종료하는 노드가 잡고 있던 리스는 바로 넘겨준다
+		for (String lockName : heldLocks) {
+			release(lockName, 0);
+		}
+	}
+
+	@Override
+	public boolean tryAcquire(String lockName) {
+		if (!schedulerConfig.isLockEnabled()) {
+			return true;
+		}
+
+		try {
+			if (knownLocks.add(lockName)) {
+				schedulerLockDao.insertIfAbsent(lockName);
+			}
+			if (schedulerLockDao.tryAcquire(lockName, nodeId, schedulerConfig.getLeaseSeconds()) == 0) {
+				return false;
+			}
+		} catch (Exception e) {
+			knownLocks.remove(lockName);
+			log.error("스케줄러 락 획득 실패, 실행 생략: lock={}, error={}", lockName, e.getMessage());
+			return false;
+		}
+
+		heldLocks.add(lockName);
+		log.info("스케줄러 락 획득: lock={}, nodeId={}", lockName, nodeId);
+		return true;
+	}
+
+	@Override
+	public void release(String lockName, long lockAtLeastSeconds) {
+		if (!schedulerConfig.isLockEnabled()) {
+			return;
+		}
+
+		heldLocks.remove(lockName);
+		long minHold = lockAtLeastSeconds >= 0 ? lockAtLeastSeconds : schedulerConfig.getMinHoldSeconds();
+		try {
+			schedulerLockDao.release(lockName, nodeId, minHold);
+		} catch (Exception e) {
+			// 반납에 실패해도 리스 만료 후에는 다른 노드가 가져갈 수 있다
+			log.error("스케줄러 락 반납 실패: lock={}, error={}", lockName, e.getMessage());
+		}
+	}
+
+	@Override
+	public List<SchedulerLockResponse> getLocks() {
+		return schedulerLockDao.findAll().stream()
+				.map(lock -> SchedulerLockResponse.builder().lockName(lock.getLockName())
+						.lockedBy(lock.getLockedBy()).lockedAt(lock.getLockedAt()).lockUntil(lock.getLockUntil())
+						.lastFinishedAt(lock.getLastFinishedAt()).held(Boolean.TRUE.equals(lock.getHeld()))
+						.heldByThisNode(heldLocks.contains(lock.getLockName())).build())
+				.toList();
+	}
+
+	@Override
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	private void renewHeldLocks() {
+		for (String lockName : heldLocks) {
+			try {
+				if (schedulerLockDao.renew(lockName, nodeId, schedulerConfig.getLeaseSeconds()) == 0) {
+					heldLocks.remove(lockName);
+					log.error("스케줄러 리스 상실 (만료 후 다른 노드가 가져갔을 수 있음): lock={}, nodeId={}", lockName, nodeId);
+				}
+			} catch (Exception e) {
+				log.error("스케줄러 리스 연장 실패: lock={}, error={}", lockName, e.getMessage());
+			}
+		}
+	}
+
+	private static String resolveNodeId(String configured) {
+		if (configured != null && !configured.isBlank()) {
+			return configured;
+		}
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (Exception e) {
+			host = "node";
+		}
+		return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+}
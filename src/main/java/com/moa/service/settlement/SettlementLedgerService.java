@@ -0,0 +1,41 @@
+package com.moa.service.settlement;
+
+import java.time.LocalDateTime;
+
+import com.moa.dto.settlement.response.SettlementExpectedResponse;
+
+/**
+ * 정산 누적 원장 서비스
+ *
+ * 결제 완료/보증금 몰수 시점에 파티별 정산 기간 합계를 누적해
+ * 월 정산 생성과 "이번 달 예상 정산액" 조회가 결제 내역을 다시 훑지 않도록 한다.
+ */
+public interface SettlementLedgerService {
+
+    /**
+     * 결제 완료 금액 누적
+     *
+     * @param partyId     파티 ID
+     * @param amount      결제 금액
+     * @param paymentDate 결제 일시 (정산 기간 판단 기준)
+     */
+    void recordPayment(Integer partyId, Integer amount, LocalDateTime paymentDate);
+
+    /**
+     * 보증금 몰수 금액 누적
+     *
+     * @param partyId     파티 ID
+     * @param amount      몰수 금액
+     * @param forfeitedAt 몰수 일시 (정산 기간 판단 기준)
+     */
+    void recordForfeited(Integer partyId, Integer amount, LocalDateTime forfeitedAt);
+
+    /**
+     * 진행 중인 정산 기간의 예상 정산액 (파티장 본인만)
+     *
+     * @param partyId 파티 ID
+     * @param userId  요청 사용자 ID
+     * @return 현재까지 누적된 예상 정산 정보
+     */
+    SettlementExpectedResponse getExpectedSettlement(Integer partyId, String userId);
+}
@@ -0,0 +1,56 @@
+package com.moa.service.settlement;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.moa.domain.Settlement;
+import com.moa.domain.SettlementRetryHistory;
+
+/**
+ * 정산 이체 재시도 큐
+ *
+ * 이체에 실패한 정산을 NEXT_RETRY_DATE 기준 큐에 올리고, 시도마다 지수 백오프로 다음 시각을 정한다.
+ * 최대 횟수에 도달하거나 성공하면 종료 상태(FAILED/SUCCESS)가 되어 재시도 조회에서 빠진다.
+ */
+public interface SettlementRetryService {
+
+    /**
+     * 이체 실패 정산을 재시도 큐에 등록 (1회차 실패 기준으로 다음 시각 계산)
+     *
+     * @param settlement   실패한 정산
+     * @param errorCode    오픈뱅킹 응답 코드
+     * @param errorMessage 오픈뱅킹 응답 메시지
+     */
+    void scheduleRetry(Settlement settlement, String errorCode, String errorMessage);
+
+    /**
+     * 지금 재시도할 건 조회
+     *
+     * @param limit 최대 건수
+     * @return 재시도 대상 (NEXT_RETRY_DATE 오름차순)
+     */
+    List<SettlementRetryHistory> findDueRetries(int limit);
+
+    /**
+     * 재시도 1건 처리 (선점 → 이체 → 결과 기록)
+     *
+     * @param retry 재시도 대상
+     * @return 이체 성공 여부
+     */
+    boolean retrySettlement(SettlementRetryHistory retry);
+
+    /**
+     * 처리 도중 중단된 선점 건 복구
+     *
+     * @return 복구 건수
+     */
+    int releaseStaleClaims();
+
+    /**
+     * 다음 재시도 시각 (base * 2^(attempt-1), max 로 제한)
+     *
+     * @param attemptNumber 방금 실패한 시도 회차
+     * @return 다음 재시도 시각
+     */
+    LocalDateTime calculateNextRetryDate(int attemptNumber);
+}
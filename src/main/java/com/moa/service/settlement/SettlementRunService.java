@@ -0,0 +1,30 @@
+package com.moa.service.settlement;
+
+import com.moa.dto.settlement.response.SettlementRunSummary;
+
+/**
+ * 월 정산 실행 서비스
+ *
+ * 파티 단위로 작업을 나눠 워커 풀에서 병렬 처리한다.
+ * - 파티마다 정산 생성/이체가 각자 트랜잭션으로 처리되어 한 파티 실패가 다른 파티에 영향 없음
+ * - 오픈뱅킹 동시 이체 수는 settlement.run.max-concurrent-transfers 로 제한
+ * - dryRun 이면 금액만 계산하고 저장/이체하지 않음
+ */
+public interface SettlementRunService {
+
+	/**
+	 * 월 정산 실행
+	 *
+	 * @param targetMonth 정산 대상 월 (YYYY-MM)
+	 * @param dryRun      true 면 미리보기 (저장/이체 없음, 실행 이력도 남기지 않음)
+	 * @return 실행 결과 요약
+	 */
+	SettlementRunSummary runMonthlySettlement(String targetMonth, boolean dryRun);
+
+	/**
+	 * 마지막 실제 실행 결과 조회
+	 *
+	 * @return 마지막 실행 요약 (실행 이력이 없으면 null)
+	 */
+	SettlementRunSummary getLastRunSummary();
+}
@@ -24,6 +24,15 @@ public interface SettlementService {
      */
     Settlement createMonthlySettlement(Integer partyId, String targetMonth);
 
+    /**
+     * 월별 정산 미리보기 (저장/결제 연결 없이 금액만 계산)
+     *
+     * @param partyId     파티 ID
+     * @param targetMonth 정산 대상 월 (YYYY-MM)
+     * @return 계산된 정산 정보 (정산할 내역이 없으면 null)
+     */
+    Settlement previewMonthlySettlement(Integer partyId, String targetMonth);
+
     /**
      * 정산 완료 처리 (이체 성공 후)
      *
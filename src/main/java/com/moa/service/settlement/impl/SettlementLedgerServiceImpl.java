@@ -0,0 +1,116 @@
+package com.moa.service.settlement.impl;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.moa.common.exception.BusinessException;
+import com.moa.common.exception.ErrorCode;
+import com.moa.dao.party.PartyDao;
+import com.moa.dao.settlement.SettlementLedgerDao;
+import com.moa.domain.Party;
+import com.moa.domain.SettlementLedger;
+import com.moa.dto.settlement.response.SettlementExpectedResponse;
+import com.moa.service.settlement.SettlementLedgerService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class SettlementLedgerServiceImpl implements SettlementLedgerService {
+
+	private final SettlementLedgerDao settlementLedgerDao;
+	private final PartyDao partyDao;
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void recordPayment(Integer partyId, Integer amount, LocalDateTime paymentDate) {
+		String periodMonth = resolvePeriodMonth(partyId, paymentDate);
+		if (periodMonth == null || amount == null) {
+			return;
+		}
+		settlementLedgerDao.addPayment(partyId, periodMonth, amount);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void recordForfeited(Integer partyId, Integer amount, LocalDateTime forfeitedAt) {
+		String periodMonth = resolvePeriodMonth(partyId, forfeitedAt);
+		if (periodMonth == null || amount == null) {
+			return;
+		}
+		settlementLedgerDao.addForfeited(partyId, periodMonth, amount);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public SettlementExpectedResponse getExpectedSettlement(Integer partyId, String userId) {
+		Party party = partyDao.findById(partyId).orElseThrow(() -> new BusinessException(ErrorCode.PARTY_NOT_FOUND));
+		if (!party.getPartyLeaderId().equals(userId)) {
+			throw new BusinessException(ErrorCode.NOT_PARTY_LEADER);
+		}
+		if (party.getStartDate() == null) {
+			throw new BusinessException(ErrorCode.START_DATE_REQUIRED);
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		String periodMonth = periodMonthOf(party.getStartDate(),
+				now.isBefore(party.getStartDate()) ? party.getStartDate() : now);
+		SettlementLedger ledger = settlementLedgerDao.findByPartyIdAndMonth(partyId, periodMonth)
+				.orElseGet(() -> SettlementLedger.builder().partyId(partyId).periodMonth(periodMonth).paymentCount(0)
+						.paymentTotal(0).forfeitedCount(0).forfeitedTotal(0).build());
+
+		LocalDateTime periodStart = periodStartOf(party.getStartDate(), periodMonth);
+		int commissionAmount = (int) (ledger.getPaymentTotal() * SettlementServiceImpl.COMMISSION_RATE);
+		int totalAmount = ledger.getPaymentTotal() + ledger.getForfeitedTotal();
+
+		return SettlementExpectedResponse.builder().partyId(partyId).settlementMonth(periodMonth)
+				.periodStart(periodStart.isBefore(party.getStartDate()) ? party.getStartDate() : periodStart)
+				.periodEnd(periodStart.plusMonths(1).minusDays(1).withHour(23).withMinute(59).withSecond(59))
+				.paymentCount(ledger.getPaymentCount()).paymentTotal(ledger.getPaymentTotal())
+				.forfeitedCount(ledger.getForfeitedCount()).forfeitedTotal(ledger.getForfeitedTotal())
+				.totalAmount(totalAmount).commissionAmount(commissionAmount)
+				.expectedNetAmount(totalAmount - commissionAmount).updatedAt(ledger.getUpdatedAt()).build();
+	}
+
+	/**
+	 * 발생 일시가 속한 정산 대상 월 (파티 시작 전 발생분은 정산 대상이 아니므로 null)
+	 */
+	private String resolvePeriodMonth(Integer partyId, LocalDateTime occurredAt) {
+		if (partyId == null || occurredAt == null) {
+			return null;
+		}
+		Party party = partyDao.findById(partyId).orElse(null);
+		if (party == null || party.getStartDate() == null) {
+			log.warn("정산 원장 기간 판단 불가 (파티/시작일 없음): partyId={}", partyId);
+			return null;
+		}
+		if (occurredAt.isBefore(party.getStartDate())) {
+			return null;
+		}
+		return periodMonthOf(party.getStartDate(), occurredAt);
+	}
+
+	/**
+	 * 정산 기간은 파티 시작일의 일자(결제일)부터 다음 달 결제일 전날까지이며, 시작 월로 이름 붙인다.
+	 * SettlementServiceImpl 의 정산 기간 계산과 같은 규칙이어야 한다.
+	 */
+	static String periodMonthOf(LocalDateTime partyStartDate, LocalDateTime occurredAt) {
+		YearMonth month = YearMonth.from(occurredAt);
+		if (occurredAt.getDayOfMonth() < partyStartDate.getDayOfMonth()) {
+			month = month.minusMonths(1);
+		}
+		return month.toString();
+	}
+
+	static LocalDateTime periodStartOf(LocalDateTime partyStartDate, String periodMonth) {
+		YearMonth month = YearMonth.parse(periodMonth);
+		return month.atDay(Math.min(partyStartDate.getDayOfMonth(), month.lengthOfMonth())).atStartOfDay();
+	}
+}
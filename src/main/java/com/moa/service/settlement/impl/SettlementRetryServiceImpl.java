@@ -0,0 +1,144 @@
+package com.moa.service.settlement.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.moa.common.event.SettlementCompletedEvent;
+import com.moa.config.SettlementConfig;
+import com.moa.dao.settlement.SettlementDao;
+import com.moa.dao.settlement.SettlementRetryHistoryDao;
+import com.moa.domain.Settlement;
+import com.moa.domain.SettlementRetryHistory;
+import com.moa.domain.enums.SettlementStatus;
+import com.moa.service.settlement.SettlementRetryService;
+import com.moa.service.settlement.SettlementService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재시도 처리는 트랜잭션 밖에서 진행한다.
+ * completeSettlement 는 실패 시 자체 트랜잭션을 롤백하므로, 큐 상태는 그와 별개로 커밋되어야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementRetryServiceImpl implements SettlementRetryService {
+
+	private final SettlementRetryHistoryDao retryDao;
+	private final SettlementDao settlementDao;
+	private final SettlementService settlementService;
+	private final SettlementConfig settlementConfig;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Override
+	public void scheduleRetry(Settlement settlement, String errorCode, String errorMessage) {
+		LocalDateTime nextRetryDate = calculateNextRetryDate(1);
+
+		SettlementRetryHistory retry = SettlementRetryHistory.builder().settlementId(settlement.getSettlementId())
+				.attemptNumber(1).attemptDate(LocalDateTime.now()).retryReason("이체 실패")
+				.retryStatus(SettlementRetryHistory.STATUS_PENDING).nextRetryDate(nextRetryDate)
+				.transferAmount(settlement.getNetAmount()).errorCode(errorCode).errorMessage(truncate(errorMessage))
+				.build();
+
+		retryDao.upsertRetry(retry);
+		log.info("정산 재시도 등록: settlementId={}, nextRetry={}", settlement.getSettlementId(), nextRetryDate);
+	}
+
+	@Override
+	public List<SettlementRetryHistory> findDueRetries(int limit) {
+		return retryDao.findDueRetries(limit);
+	}
+
+	@Override
+	public boolean retrySettlement(SettlementRetryHistory retry) {
+		if (retryDao.claimRetry(retry.getRetryId()) == 0) {
+			log.debug("이미 선점된 재시도: retryId={}", retry.getRetryId());
+			return false;
+		}
+
+		Settlement settlement = settlementDao.findById(retry.getSettlementId()).orElse(null);
+		if (settlement == null) {
+			close(retry, SettlementRetryHistory.STATUS_FAILED, "정산 정보 없음");
+			return false;
+		}
+		if (settlement.getSettlementStatus() == SettlementStatus.COMPLETED) {
+			retry.setBankTranId(settlement.getBankTranId());
+			close(retry, SettlementRetryHistory.STATUS_SUCCESS, null);
+			return false;
+		}
+		if (settlement.getBankTranId() != null && !settlement.getBankTranId().isEmpty()) {
+			log.warn("Settlement {} has bankTranId but status is FAILED. Manual intervention required.",
+					settlement.getSettlementId());
+			close(retry, SettlementRetryHistory.STATUS_FAILED, "거래고유번호 존재 - 수동 확인 필요");
+			return false;
+		}
+		if (settlement.getSettlementStatus() != SettlementStatus.FAILED) {
+			close(retry, SettlementRetryHistory.STATUS_FAILED,
+					"재시도 대상 상태가 아님: " + settlement.getSettlementStatus());
+			return false;
+		}
+
+		int attemptNumber = retry.getAttemptNumber() + 1;
+		retry.setAttemptNumber(attemptNumber);
+		retry.setAttemptDate(LocalDateTime.now());
+
+		try {
+			log.info("Retrying settlement {} (attempt {})", settlement.getSettlementId(), attemptNumber);
+			settlementService.completeSettlement(settlement.getSettlementId());
+
+			retry.setBankTranId(settlementDao.findById(settlement.getSettlementId()).map(Settlement::getBankTranId)
+					.orElse(null));
+			close(retry, SettlementRetryHistory.STATUS_SUCCESS, null);
+			eventPublisher.publishEvent(new SettlementCompletedEvent(settlement.getPartyId(),
+					settlement.getNetAmount(), settlement.getPartyLeaderId()));
+			return true;
+
+		} catch (Exception e) {
+			// completeSettlement 의 FAILED 기록은 롤백되므로 여기서 상태를 되돌린다
+			settlementDao.updateStatus(settlement.getSettlementId(), SettlementStatus.FAILED.name());
+
+			if (attemptNumber >= settlementConfig.getRetryMaxAttempts()) {
+				log.error("정산 재시도 한도 초과: settlementId={}, attempts={}", settlement.getSettlementId(),
+						attemptNumber);
+				retry.setErrorCode("MAX_RETRY");
+				close(retry, SettlementRetryHistory.STATUS_FAILED, e.getMessage());
+			} else {
+				retry.setRetryStatus(SettlementRetryHistory.STATUS_PENDING);
+				retry.setNextRetryDate(calculateNextRetryDate(attemptNumber));
+				retry.setErrorMessage(truncate(e.getMessage()));
+				retryDao.updateRetryStatus(retry);
+				log.warn("Failed to retry settlement {}: {} (next={})", settlement.getSettlementId(), e.getMessage(),
+						retry.getNextRetryDate());
+			}
+			return false;
+		}
+	}
+
+	@Override
+	public int releaseStaleClaims() {
+		return retryDao.releaseStaleClaims(settlementConfig.getRetryStaleClaimMinutes());
+	}
+
+	@Override
+	public LocalDateTime calculateNextRetryDate(int attemptNumber) {
+		long delay = settlementConfig.getRetryBaseDelayMinutes() << Math.min(Math.max(attemptNumber - 1, 0), 20);
+		return LocalDateTime.now().plusMinutes(Math.min(delay, settlementConfig.getRetryMaxDelayMinutes()));
+	}
+
+	private void close(SettlementRetryHistory retry, String status, String errorMessage) {
+		retry.setRetryStatus(status);
+		retry.setNextRetryDate(null);
+		if (errorMessage != null) {
+			retry.setErrorMessage(truncate(errorMessage));
+		}
+		retryDao.updateRetryStatus(retry);
+	}
+
+	private String truncate(String message) {
+		return message != null && message.length() > 500 ? message.substring(0, 500) : message;
+	}
+}
@@ -0,0 +1,228 @@
+package com.moa.service.settlement.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.moa.common.event.SettlementCompletedEvent;
+import com.moa.common.exception.BusinessException;
+import com.moa.config.SettlementConfig;
+import com.moa.dao.party.PartyDao;
+import com.moa.dao.settlement.SettlementRunDao;
+import com.moa.domain.Party;
+import com.moa.domain.Settlement;
+import com.moa.domain.SettlementRun;
+import com.moa.domain.enums.SettlementOutcome;
+import com.moa.domain.enums.SettlementStatus;
+import com.moa.dto.settlement.response.SettlementPreviewResponse;
+import com.moa.dto.settlement.response.SettlementRunSummary;
+import com.moa.service.settlement.SettlementRunService;
+import com.moa.service.settlement.SettlementService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class SettlementRunServiceImpl implements SettlementRunService {
+
+	private final PartyDao partyDao;
+	private final SettlementRunDao settlementRunDao;
+	private final SettlementService settlementService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ThreadPoolTaskExecutor settlementExecutor;
+	private final SettlementConfig settlementConfig;
+	private final Semaphore transferPermits;
+
+	public SettlementRunServiceImpl(PartyDao partyDao, SettlementRunDao settlementRunDao,
+			SettlementService settlementService, ApplicationEventPublisher eventPublisher,
+			@Qualifier("settlementExecutor") ThreadPoolTaskExecutor settlementExecutor,
+			SettlementConfig settlementConfig) {
+		this.partyDao = partyDao;
+		this.settlementRunDao = settlementRunDao;
+		this.settlementService = settlementService;
+		this.eventPublisher = eventPublisher;
+		this.settlementExecutor = settlementExecutor;
+		this.settlementConfig = settlementConfig;
+		this.transferPermits = new Semaphore(Math.max(1, settlementConfig.getMaxConcurrentTransfers()), true);
+	}
+
+	@Override
+	public SettlementRunSummary runMonthlySettlement(String targetMonth, boolean dryRun) {
+		LocalDateTime startedAt = LocalDateTime.now();
+		long startNanos = System.nanoTime();
+		RunCounters counters = new RunCounters();
+
+		List<Party> activeParties = partyDao.findActiveParties();
+
+		List<CompletableFuture<Void>> futures = activeParties.stream()
+				.map(party -> CompletableFuture.runAsync(() -> {
+					SettlementOutcome outcome = dryRun ? previewParty(party, targetMonth, counters)
+							: settleParty(party, targetMonth, counters);
+					counters.record(party, outcome);
+				}, settlementExecutor)).toList();
+
+		boolean timedOut = false;
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+					.get(settlementConfig.getAwaitTimeoutMinutes(), TimeUnit.MINUTES);
+		} catch (TimeoutException e) {
+			timedOut = true;
+			log.error("월 정산 실행 시간 초과: targetMonth={}, timeout={}분", targetMonth,
+					settlementConfig.getAwaitTimeoutMinutes());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.error("월 정산 실행 중단: targetMonth={}", targetMonth);
+		} catch (ExecutionException e) {
+			log.error("월 정산 실행 중 오류: targetMonth={}", targetMonth, e.getCause());
+		}
+
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		Integer runId = null;
+		if (!dryRun) {
+			runId = saveRun(targetMonth, activeParties.size(), counters, startedAt, elapsedMillis, timedOut);
+		}
+
+		SettlementRunSummary summary = SettlementRunSummary.builder().runId(runId).targetMonth(targetMonth)
+				.dryRun(dryRun).partyCount(activeParties.size()).settled(counters.settled.get())
+				.pendingAccount(counters.pendingAccount.get()).failed(counters.failed.get())
+				.skipped(counters.skipped.get()).totalNetAmount(counters.totalNetAmount.get())
+				.failedPartyIds(new ArrayList<>(counters.failedPartyIds))
+				.previews(dryRun ? new ArrayList<>(counters.previews) : Collections.emptyList()).startedAt(startedAt)
+				.elapsedMillis(elapsedMillis).timedOut(timedOut).build();
+
+		log.info("월 정산 실행 완료: targetMonth={}, dryRun={}, parties={}, settled={}, pendingAccount={}, failed={}, skipped={}, netAmount={}, elapsed={}ms",
+				targetMonth, dryRun, summary.getPartyCount(), summary.getSettled(), summary.getPendingAccount(),
+				summary.getFailed(), summary.getSkipped(), summary.getTotalNetAmount(), elapsedMillis);
+
+		return summary;
+	}
+
+	@Override
+	public SettlementRunSummary getLastRunSummary() {
+		return settlementRunDao.findLatest()
+				.map(run -> SettlementRunSummary.builder().runId(run.getRunId()).targetMonth(run.getTargetMonth())
+						.partyCount(run.getPartyCount()).settled(run.getSettled())
+						.pendingAccount(run.getPendingAccount()).failed(run.getFailed()).skipped(run.getSkipped())
+						.totalNetAmount(run.getTotalNetAmount()).failedPartyIds(Collections.emptyList())
+						.previews(Collections.emptyList()).startedAt(run.getStartedAt())
+						.elapsedMillis(run.getElapsedMillis()).timedOut(Boolean.TRUE.equals(run.getTimedOut()))
+						.build())
+				.orElse(null);
+	}
+
+	private SettlementOutcome settleParty(Party party, String targetMonth, RunCounters counters) {
+		Settlement settlement;
+		try {
+			settlement = settlementService.createMonthlySettlement(party.getPartyId(), targetMonth);
+		} catch (BusinessException e) {
+			log.info("정산 생성 생략: partyId={}, reason={}", party.getPartyId(), e.getMessage());
+			return SettlementOutcome.SKIPPED;
+		} catch (Exception e) {
+			log.error("Failed to create settlement for partyId: {}", party.getPartyId(), e);
+			return SettlementOutcome.FAILED;
+		}
+
+		if (settlement == null) {
+			log.info("No payments to settle for partyId: {} in month: {}", party.getPartyId(), targetMonth);
+			return SettlementOutcome.SKIPPED;
+		}
+		counters.totalNetAmount.addAndGet(settlement.getNetAmount());
+
+		if (settlement.getSettlementStatus() == SettlementStatus.PENDING_ACCOUNT) {
+			return SettlementOutcome.PENDING_ACCOUNT;
+		}
+
+		boolean acquired = false;
+		try {
+			transferPermits.acquire();
+			acquired = true;
+
+			settlementService.completeSettlement(settlement.getSettlementId());
+			eventPublisher.publishEvent(new SettlementCompletedEvent(party.getPartyId(), settlement.getNetAmount(),
+					party.getPartyLeaderId()));
+			return SettlementOutcome.SETTLED;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return SettlementOutcome.FAILED;
+		} catch (Exception e) {
+			log.error("Failed to complete settlement for partyId: {}, settlementId: {}", party.getPartyId(),
+					settlement.getSettlementId(), e);
+			return SettlementOutcome.FAILED;
+		} finally {
+			if (acquired) {
+				transferPermits.release();
+			}
+		}
+	}
+
+	private SettlementOutcome previewParty(Party party, String targetMonth, RunCounters counters) {
+		try {
+			Settlement settlement = settlementService.previewMonthlySettlement(party.getPartyId(), targetMonth);
+			if (settlement == null) {
+				return SettlementOutcome.SKIPPED;
+			}
+			counters.totalNetAmount.addAndGet(settlement.getNetAmount());
+			counters.previews.add(SettlementPreviewResponse.from(settlement));
+			return settlement.getSettlementStatus() == SettlementStatus.PENDING_ACCOUNT
+					? SettlementOutcome.PENDING_ACCOUNT
+					: SettlementOutcome.SETTLED;
+		} catch (BusinessException e) {
+			return SettlementOutcome.SKIPPED;
+		} catch (Exception e) {
+			log.error("Failed to preview settlement for partyId: {}", party.getPartyId(), e);
+			return SettlementOutcome.FAILED;
+		}
+	}
+
+	private Integer saveRun(String targetMonth, int partyCount, RunCounters counters, LocalDateTime startedAt,
+			long elapsedMillis, boolean timedOut) {
+		SettlementRun run = SettlementRun.builder().targetMonth(targetMonth).partyCount(partyCount)
+				.settled(counters.settled.get()).pendingAccount(counters.pendingAccount.get())
+				.failed(counters.failed.get()).skipped(counters.skipped.get())
+				.totalNetAmount(counters.totalNetAmount.get()).startedAt(startedAt).elapsedMillis(elapsedMillis)
+				.timedOut(timedOut).build();
+		try {
+			settlementRunDao.insertSettlementRun(run);
+			return run.getRunId();
+		} catch (Exception e) {
+			log.error("정산 실행 이력 저장 실패: targetMonth={}", targetMonth, e);
+			return null;
+		}
+	}
+
+	private static class RunCounters {
+		private final AtomicInteger settled = new AtomicInteger();
+		private final AtomicInteger pendingAccount = new AtomicInteger();
+		private final AtomicInteger failed = new AtomicInteger();
+		private final AtomicInteger skipped = new AtomicInteger();
+		private final AtomicLong totalNetAmount = new AtomicLong();
+		private final ConcurrentLinkedQueue<Integer> failedPartyIds = new ConcurrentLinkedQueue<>();
+		private final ConcurrentLinkedQueue<SettlementPreviewResponse> previews = new ConcurrentLinkedQueue<>();
+
+		private void record(Party party, SettlementOutcome outcome) {
+			switch (outcome) {
+			case SETTLED -> settled.incrementAndGet();
+			case PENDING_ACCOUNT -> pendingAccount.incrementAndGet();
+			case SKIPPED -> skipped.incrementAndGet();
+			case FAILED -> {
+				failed.incrementAndGet();
+				failedPartyIds.add(party.getPartyId());
+			}
+			}
+		}
+	}
+}
@@ -8,19 +8,23 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.moa.common.exception.BusinessException;
+import com.moa.config.SettlementConfig;
 import com.moa.common.exception.ErrorCode;
 import com.moa.dao.account.AccountDao;
 import com.moa.dao.deposit.DepositDao;
 import com.moa.dao.party.PartyDao;
 import com.moa.dao.payment.PaymentDao;
 import com.moa.dao.settlement.SettlementDao;
+import com.moa.dao.settlement.SettlementLedgerDao;
 import com.moa.domain.Account;
 import com.moa.domain.Deposit;
 import com.moa.domain.Party;
 import com.moa.domain.Settlement;
+import com.moa.domain.SettlementLedger;
 import com.moa.domain.enums.SettlementStatus;
 import com.moa.dto.payment.response.PaymentResponse;
 import com.moa.dto.settlement.response.SettlementDetailResponse;
+import com.moa.dto.settlement.response.SettlementPaymentSummary;
 import com.moa.dto.settlement.response.SettlementResponse;
 import com.moa.service.openbanking.OpenBankingService;
 import com.moa.service.settlement.SettlementService;
@@ -40,11 +44,46 @@ public class SettlementServiceImpl implements SettlementService {
 	private final AccountDao accountDao;
 	private final DepositDao depositDao;
 	private final OpenBankingService openBankingService;
+	private final SettlementLedgerDao settlementLedgerDao;
+	private final SettlementConfig settlementConfig;
 
-	private static final double COMMISSION_RATE = 0.15;
+	static final double COMMISSION_RATE = 0.15;
 
 	@Override
 	public Settlement createMonthlySettlement(Integer partyId, String targetMonth) {
+		SettlementPlan plan = planMonthlySettlement(partyId, targetMonth);
+		if (plan == null) {
+			return null;
+		}
+
+		Settlement settlement = plan.settlement();
+		settlementDao.insertSettlement(settlement);
+		int linked = linkPayments(settlement, plan.totals().paymentCount(), plan.startDate(), plan.endDate(),
+				plan.linkTargetMonth());
+		if (plan.startDate() != null) {
+			reconcileLedger(plan, linked);
+		}
+
+		if (settlement.getSettlementStatus() == SettlementStatus.PENDING_ACCOUNT) {
+			sendAccountRequiredPush(settlement.getPartyLeaderId(), partyId, settlement.getNetAmount());
+			log.info("PENDING_ACCOUNT 정산 생성 완료: settlementId={}, netAmount={}", settlement.getSettlementId(),
+					settlement.getNetAmount());
+		}
+
+		return settlement;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Settlement previewMonthlySettlement(Integer partyId, String targetMonth) {
+		SettlementPlan plan = planMonthlySettlement(partyId, targetMonth);
+		return plan != null ? plan.settlement() : null;
+	}
+
+	/**
+	 * 정산 금액 계산 (저장하지 않음)
+	 */
+	private SettlementPlan planMonthlySettlement(Integer partyId, String targetMonth) {
 		if (settlementDao.findByPartyIdAndMonth(partyId, targetMonth).isPresent()) {
 			throw new BusinessException(ErrorCode.DUPLICATE_SETTLEMENT);
 		}
@@ -54,7 +93,7 @@ public class SettlementServiceImpl implements SettlementService {
 
 		if (account == null) {
 			log.warn("정산 계좌 미등록: partyId={}, leaderId={}", partyId, party.getPartyLeaderId());
-			return createPendingAccountSettlement(partyId, party, targetMonth);
+			return planPendingAccountSettlement(partyId, party, targetMonth);
 		}
 
 		LocalDateTime partyStartDate = party.getStartDate();
@@ -88,38 +127,24 @@ public class SettlementServiceImpl implements SettlementService {
 			throw new BusinessException(ErrorCode.SETTLEMENT_PERIOD_NOT_COMPLETED);
 		}
 
-		List<PaymentResponse> payments = paymentDao.findByPartyId(partyId);
-
-		List<PaymentResponse> targetPayments = payments.stream().filter(p -> "COMPLETED".equals(p.getPaymentStatus()))
-				.filter(p -> p.getPaymentDate() != null).filter(p -> !p.getPaymentDate().isBefore(settlementStartDate)
-						&& !p.getPaymentDate().isAfter(settlementEndDate))
-				.collect(Collectors.toList());
+		// 원장이 있으면 원장 합계를 그대로 쓰고, 없거나 검증 모드면 결제/몰수 내역을 집계한다
+		SettlementLedger ledger = settlementLedgerDao.findByPartyIdAndMonth(partyId, targetMonth).orElse(null);
+		boolean fromLedger = ledger != null && !settlementConfig.isLedgerVerify();
+		PeriodTotals totals = fromLedger ? PeriodTotals.of(ledger)
+				: scanPeriodTotals(partyId, settlementStartDate, settlementEndDate);
 
-		List<Deposit> forfeitedDeposits = depositDao.findForfeitedByPartyIdAndPeriod(partyId, settlementStartDate,
-				settlementEndDate);
-
-		int forfeitedAmount = forfeitedDeposits.stream().mapToInt(Deposit::getDepositAmount).sum();
-
-		if (targetPayments.isEmpty() && forfeitedDeposits.isEmpty()) {
+		if (totals.paymentCount() == 0 && totals.forfeitedCount() == 0) {
 			return null;
 		}
 
-		int paymentTotal = targetPayments.stream().mapToInt(PaymentResponse::getPaymentAmount).sum();
-		int totalAmount = paymentTotal + forfeitedAmount;
-		int commissionAmount = (int) (paymentTotal * COMMISSION_RATE);
-		int netAmount = totalAmount - commissionAmount;
-
 		Settlement settlement = Settlement.builder().partyId(partyId).partyLeaderId(party.getPartyLeaderId())
 				.accountId(account.getAccountId()).settlementMonth(targetMonth).settlementType("MONTHLY")
-				.totalAmount(totalAmount).commissionRate(COMMISSION_RATE).commissionAmount(commissionAmount)
-				.netAmount(netAmount).settlementStatus(SettlementStatus.PENDING).regDate(LocalDateTime.now()).build();
+				.commissionRate(COMMISSION_RATE).settlementStatus(SettlementStatus.PENDING)
+				.regDate(LocalDateTime.now()).build();
+		applyAmounts(settlement, totals);
 
-		settlementDao.insertSettlement(settlement);
-		for (PaymentResponse p : targetPayments) {
-			paymentDao.updateSettlementId(p.getPaymentId(), settlement.getSettlementId());
-		}
-
-		return settlement;
+		return new SettlementPlan(settlement, totals, ledger, fromLedger, settlementStartDate, settlementEndDate,
+				null);
 	}
 
 	@Override
@@ -177,12 +202,11 @@ public class SettlementServiceImpl implements SettlementService {
 				.collect(Collectors.toList());
 	}
 
-	private Settlement createPendingAccountSettlement(Integer partyId, Party party, String targetMonth) {
-		log.info("계좌 미등록으로 PENDING_ACCOUNT 정산 생성: partyId={}, targetMonth={}", partyId, targetMonth);
+	private SettlementPlan planPendingAccountSettlement(Integer partyId, Party party, String targetMonth) {
+		log.info("계좌 미등록으로 PENDING_ACCOUNT 정산 계산: partyId={}, targetMonth={}", partyId, targetMonth);
 
-		List<PaymentResponse> payments = paymentDao.findByPartyId(partyId);
-		List<PaymentResponse> targetPayments = payments.stream().filter(p -> "COMPLETED".equals(p.getPaymentStatus()))
-				.filter(p -> targetMonth.equals(p.getTargetMonth())).collect(Collectors.toList());
+		SettlementPaymentSummary paymentSummary = paymentDao.summarizeSettlementPayments(partyId, null, null,
+				targetMonth);
 
 		LocalDateTime partyStartDate = party.getStartDate();
 		LocalDateTime settlementStartDate = partyStartDate != null ? partyStartDate
@@ -192,34 +216,82 @@ public class SettlementServiceImpl implements SettlementService {
 		List<Deposit> forfeitedDeposits = depositDao.findForfeitedByPartyIdAndPeriod(partyId, settlementStartDate,
 				settlementEndDate);
 
-		int forfeitedAmount = forfeitedDeposits.stream().mapToInt(Deposit::getDepositAmount).sum();
+		PeriodTotals totals = new PeriodTotals(paymentSummary.getPaymentCount(), paymentSummary.getPaymentTotal(),
+				forfeitedDeposits.size(), forfeitedDeposits.stream().mapToInt(Deposit::getDepositAmount).sum());
 
-		if (targetPayments.isEmpty() && forfeitedDeposits.isEmpty()) {
+		if (totals.paymentCount() == 0 && totals.forfeitedCount() == 0) {
 			log.info("정산할 내역 없음: partyId={}", partyId);
 			return null;
 		}
 
-		int paymentTotal = targetPayments.stream().mapToInt(PaymentResponse::getPaymentAmount).sum();
-		int totalAmount = paymentTotal + forfeitedAmount;
-		int commissionAmount = (int) (paymentTotal * COMMISSION_RATE);
-		int netAmount = totalAmount - commissionAmount;
-
 		Settlement settlement = Settlement.builder().partyId(partyId).partyLeaderId(party.getPartyLeaderId())
 				.accountId(null) // 계좌 미등록
-				.settlementMonth(targetMonth).settlementType("MONTHLY").totalAmount(totalAmount)
-				.commissionRate(COMMISSION_RATE).commissionAmount(commissionAmount).netAmount(netAmount)
+				.settlementMonth(targetMonth).settlementType("MONTHLY").commissionRate(COMMISSION_RATE)
 				.settlementStatus(SettlementStatus.PENDING_ACCOUNT).regDate(LocalDateTime.now()).build();
+		applyAmounts(settlement, totals);
 
-		settlementDao.insertSettlement(settlement);
+		return new SettlementPlan(settlement, totals, null, false, null, null, targetMonth);
+	}
+
+	private PeriodTotals scanPeriodTotals(Integer partyId, LocalDateTime startDate, LocalDateTime endDate) {
+		SettlementPaymentSummary paymentSummary = paymentDao.summarizeSettlementPayments(partyId, startDate, endDate,
+				null);
+		List<Deposit> forfeitedDeposits = depositDao.findForfeitedByPartyIdAndPeriod(partyId, startDate, endDate);
 
-		for (PaymentResponse p : targetPayments) {
-			paymentDao.updateSettlementId(p.getPaymentId(), settlement.getSettlementId());
+		return new PeriodTotals(paymentSummary.getPaymentCount(), paymentSummary.getPaymentTotal(),
+				forfeitedDeposits.size(), forfeitedDeposits.stream().mapToInt(Deposit::getDepositAmount).sum());
+	}
+
+	private void applyAmounts(Settlement settlement, PeriodTotals totals) {
+		int totalAmount = totals.paymentTotal() + totals.forfeitedTotal();
+		int commissionAmount = (int) (totals.paymentTotal() * COMMISSION_RATE);
+		settlement.setTotalAmount(totalAmount);
+		settlement.setCommissionAmount(commissionAmount);
+		settlement.setNetAmount(totalAmount - commissionAmount);
+	}
+
+	/**
+	 * 원장 정합성 검증
+	 *
+	 * 원장으로 계산했으면 실제 연결된 결제 건수와 비교해 어긋날 때만 재집계하고,
+	 * 집계로 계산했으면 그 결과로 원장을 보정한다.
+	 */
+	private void reconcileLedger(SettlementPlan plan, int linked) {
+		Settlement settlement = plan.settlement();
+		PeriodTotals totals = plan.totals();
+
+		if (plan.fromLedger()) {
+			if (linked == totals.paymentCount()) {
+				return;
+			}
+			log.warn("정산 원장 불일치, 결제 내역으로 재계산: settlementId={}, ledgerCount={}, linked={}",
+					settlement.getSettlementId(), totals.paymentCount(), linked);
+			totals = scanPeriodTotals(settlement.getPartyId(), plan.startDate(), plan.endDate());
+			applyAmounts(settlement, totals);
+			settlementDao.updateAmounts(settlement);
+		} else if (plan.ledger() != null) {
+			if (totals.equals(PeriodTotals.of(plan.ledger()))) {
+				return;
+			}
+			log.warn("정산 원장 불일치, 원장 보정: partyId={}, month={}, ledger={}, actual={}", settlement.getPartyId(),
+					settlement.getSettlementMonth(), PeriodTotals.of(plan.ledger()), totals);
 		}
-		sendAccountRequiredPush(party.getPartyLeaderId(), partyId, netAmount);
 
-		log.info("PENDING_ACCOUNT 정산 생성 완료: settlementId={}, netAmount={}", settlement.getSettlementId(), netAmount);
+		settlementLedgerDao.upsertLedger(SettlementLedger.builder().partyId(settlement.getPartyId())
+				.periodMonth(settlement.getSettlementMonth()).paymentCount(totals.paymentCount())
+				.paymentTotal(totals.paymentTotal()).forfeitedCount(totals.forfeitedCount())
+				.forfeitedTotal(totals.forfeitedTotal()).build());
+	}
 
-		return settlement;
+	private int linkPayments(Settlement settlement, int expectedCount, LocalDateTime startDate,
+			LocalDateTime endDate, String targetMonth) {
+		int linked = paymentDao.linkSettlementPayments(settlement.getSettlementId(), settlement.getPartyId(),
+				startDate, endDate, targetMonth);
+		if (linked != expectedCount) {
+			log.warn("정산 결제 연결 건수 불일치: settlementId={}, expected={}, linked={}", settlement.getSettlementId(),
+					expectedCount, linked);
+		}
+		return linked;
 	}
 
 	private void sendAccountRequiredPush(String leaderId, Integer partyId, int netAmount) {
@@ -229,4 +301,22 @@ public class SettlementServiceImpl implements SettlementService {
 			log.error("푸시 발송 실패: {}", e.getMessage());
 		}
 	}
+
+	/**
+	 * 계산된 정산과 결제 연결 조건 (기간 또는 대상 월)
+	 */
+	private record SettlementPlan(Settlement settlement, PeriodTotals totals, SettlementLedger ledger,
+			boolean fromLedger, LocalDateTime startDate, LocalDateTime endDate, String linkTargetMonth) {
+	}
+
+	/**
+	 * 정산 기간 결제/몰수 합계
+	 */
+	private record PeriodTotals(int paymentCount, int paymentTotal, int forfeitedCount, int forfeitedTotal) {
+
+		static PeriodTotals of(SettlementLedger ledger) {
+			return new PeriodTotals(ledger.getPaymentCount(), ledger.getPaymentTotal(), ledger.getForfeitedCount(),
+					ledger.getForfeitedTotal());
+		}
+	}
 }
@@ -0,0 +1,27 @@
+package com.moa.web.admin;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moa.common.exception.ApiResponse;
+import com.moa.dto.admin.response.ProductCatalogStatsResponse;
+import com.moa.service.product.ProductCatalog;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class AdminCacheRestController {
+
+    private final ProductCatalog productCatalog;
+
+    /**
+     * 상품 카탈로그 캐시 적중/미적중 통계 (조회한 노드 기준)
+     */
+    @GetMapping("/product")
+    public ApiResponse<ProductCatalogStatsResponse> getProductCatalogStats() {
+        return ApiResponse.success(productCatalog.getStats());
+    }
+}
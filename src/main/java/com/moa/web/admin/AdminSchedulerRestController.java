@@ -0,0 +1,29 @@
+package com.moa.web.admin;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moa.common.exception.ApiResponse;
+import com.moa.dto.admin.response.SchedulerLockResponse;
+import com.moa.service.scheduler.SchedulerLockService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/schedulers")
+@RequiredArgsConstructor
+public class AdminSchedulerRestController {
+
+    private final SchedulerLockService schedulerLockService;
+
+    /**
+     * 스케줄러 작업별 리스 보유 노드 조회
+     */
+    @GetMapping("/locks")
+    public ApiResponse<List<SchedulerLockResponse>> getLocks() {
+        return ApiResponse.success(schedulerLockService.getLocks());
+    }
+}
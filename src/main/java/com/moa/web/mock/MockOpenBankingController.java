@@ -76,6 +76,20 @@ public class MockOpenBankingController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 입금이체 결과 조회
+     * GET /mock/openbanking/transfer/result?bankTranId=
+     */
+    @GetMapping("/transfer/result")
+    public ResponseEntity<TransferDepositResponse> transferResult(@RequestParam String bankTranId) {
+
+        TransferDepositResponse response = mockOpenBankingService.inquireTransferResult(bankTranId);
+
+        log.info("[Mock 오픈뱅킹] 입금이체 결과 조회 - 거래ID: {}, 코드: {}", bankTranId, response.getRspCode());
+
+        return ResponseEntity.ok(response);
+    }
+
     // 계좌번호 마스킹 (앞 4자리 + **** + 뒤 4자리)
     private String maskAccountNum(String accountNum) {
         if (accountNum == null || accountNum.length() < 8) {
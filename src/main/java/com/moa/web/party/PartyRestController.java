@@ -16,6 +16,7 @@ import com.moa.common.exception.ApiResponse;
 import com.moa.common.exception.BusinessException;
 import com.moa.common.exception.ErrorCode;
 import com.moa.dto.party.request.PartyCreateRequest;
+import com.moa.dto.party.response.PartyCursorPageResponse;
 import com.moa.dto.party.response.PartyDetailResponse;
 import com.moa.dto.party.response.PartyListResponse;
 import com.moa.dto.party.request.UpdateOttAccountRequest;
@@ -153,6 +154,31 @@ public class PartyRestController {
 		return ApiResponse.success(response);
 	}
 
+	/**
+	 * 파티 목록 조회 (커서 기반 무한 스크롤)
+	 * GET /api/parties/cursor
+	 *
+	 * 정렬 키 인덱스를 따라 직전 페이지 마지막 행 이후만 읽으므로 스크롤 깊이와 무관하게 페이지 비용이 같다.
+	 *
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size   페이지 크기 (기본값: 10)
+	 * @param sort   latest, price_low, price_high, popularity, deadline, start_date_asc
+	 * @return 파티 목록 + 다음 커서
+	 */
+	@GetMapping("/cursor")
+	public ApiResponse<PartyCursorPageResponse> getPartyListByCursor(
+			@RequestParam(required = false) Integer productId,
+			@RequestParam(required = false) String partyStatus,
+			@RequestParam(required = false) String keyword,
+			@RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(pattern = "yyyy-MM-dd") java.time.LocalDate startDate,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "10") int size,
+			@RequestParam(defaultValue = "latest") String sort) {
+
+		return ApiResponse.success(partyService.getPartyListByCursor(
+				productId, partyStatus, keyword, startDate, cursor, size, sort));
+	}
+
 	// ========================================
 	// 사용자별 파티 조회 (MUST be before /{partyId} patterns)
 	// ========================================
@@ -276,16 +302,14 @@ public class PartyRestController {
 	 *
 	 * v1.0 프로세스:
 	 * 1. 파티 상태 확인 (RECRUITING만 가능)
-	 * 2. 정원 확인
-	 * 3. 중복 가입 확인
-	 * 4. 통합 결제 처리:
+	 * 2. 중복 가입 확인
+	 * 3. 좌석 선점: PARTY CURRENT_MEMBERS 증가 + PARTY_MEMBER(PENDING_PAYMENT) 생성 후 커밋
+	 * 4. 통합 결제 처리 (트랜잭션 밖):
 	 * - 보증금: 인당 요금 (예: 3,250원)
 	 * - 첫 달 구독료: 인당 요금 (예: 3,250원)
 	 * - 총 결제 금액: 6,500원
-	 * 5. DEPOSIT, PAYMENT 생성
-	 * 6. PARTY_MEMBER 상태 → ACTIVE
-	 * 7. PARTY CURRENT_MEMBERS 증가
-	 * 8. 최대 인원 도달 시 PARTY 상태 → ACTIVE
+	 * 5. PARTY_MEMBER 상태 → ACTIVE, DEPOSIT, PAYMENT 생성 (결제 실패 시 좌석 반납)
+	 * 6. 최대 인원 도달 시 PARTY 상태 → ACTIVE
 	 *
 	 * @param partyId        가입할 파티 ID
 	 * @param paymentRequest 결제 정보 (통합 결제 금액)
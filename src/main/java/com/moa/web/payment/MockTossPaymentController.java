@@ -0,0 +1,81 @@
+package com.moa.web.payment;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moa.config.TossPaymentConfig;
+
+/**
+ * 부하 테스트용 로컬 토스 Mock 서버 (toss.mock.enabled=true 일 때만 등록)
+ *
+ * toss.api.base-url=http://localhost:8080/mock-toss 로 지정하면 TossPaymentService 가 이 컨트롤러를 호출한다.
+ * 요청마다 min~max-latency-ms 사이로 대기하고, failure-rate 확률로 토스 형식의 400 에러를 돌려준다.
+ */
+@RestController
+@RequestMapping("/mock-toss/v1")
+@ConditionalOnProperty(name = "toss.mock.enabled", havingValue = "true")
+public class MockTossPaymentController {
+
+    private final TossPaymentConfig tossPaymentConfig;
+
+    public MockTossPaymentController(TossPaymentConfig tossPaymentConfig) {
+        this.tossPaymentConfig = tossPaymentConfig;
+    }
+
+    @PostMapping("/payments/confirm")
+    public ResponseEntity<Map<String, Object>> confirm(@RequestBody Map<String, Object> body) {
+        return respond(() -> Map.of("paymentKey", body.getOrDefault("paymentKey", newKey("pay")),
+                "orderId", body.getOrDefault("orderId", ""), "status", "DONE",
+                "totalAmount", body.getOrDefault("amount", 0)));
+    }
+
+    @PostMapping("/payments/{paymentKey}/cancel")
+    public ResponseEntity<Map<String, Object>> cancel(@PathVariable String paymentKey,
+            @RequestBody Map<String, Object> body) {
+        return respond(() -> Map.of("paymentKey", paymentKey, "status", "CANCELED"));
+    }
+
+    @PostMapping("/billing/authorizations/issue")
+    public ResponseEntity<Map<String, Object>> issueBillingKey(@RequestBody Map<String, Object> body) {
+        return respond(() -> Map.of("billingKey", newKey("bill"),
+                "customerKey", body.getOrDefault("customerKey", ""),
+                "card", Map.of("company", "MOCK", "number", "1234********5678")));
+    }
+
+    @PostMapping("/billing/{billingKey}")
+    public ResponseEntity<Map<String, Object>> charge(@PathVariable String billingKey,
+            @RequestBody Map<String, Object> body) {
+        return respond(() -> Map.of("paymentKey", newKey("pay"), "orderId", body.getOrDefault("orderId", ""),
+                "status", "DONE", "totalAmount", body.getOrDefault("amount", 0)));
+    }
+
+    private ResponseEntity<Map<String, Object>> respond(java.util.function.Supplier<Map<String, Object>> success) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long minLatency = tossPaymentConfig.getMockMinLatencyMs();
+        long maxLatency = Math.max(minLatency, tossPaymentConfig.getMockMaxLatencyMs());
+        try {
+            Thread.sleep(minLatency == maxLatency ? minLatency : random.nextLong(minLatency, maxLatency + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (random.nextDouble() < tossPaymentConfig.getMockFailureRate()) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("code", "REJECT_CARD_PAYMENT", "message", "한도초과 혹은 잔액부족으로 결제에 실패했습니다. (Mock)"));
+        }
+        return ResponseEntity.ok(success.get());
+    }
+
+    private String newKey(String prefix) {
+        return "mock_" + prefix + "_" + UUID.randomUUID().toString().replace("-", "");
+    }
+}
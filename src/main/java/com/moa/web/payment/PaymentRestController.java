@@ -2,6 +2,7 @@ package com.moa.web.payment;
 
 import java.util.List;
 
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,7 +15,9 @@ import com.moa.common.exception.BusinessException;
 import com.moa.common.exception.ErrorCode;
 import com.moa.dto.payment.response.PaymentDetailResponse;
 import com.moa.dto.payment.response.PaymentResponse;
+import com.moa.dto.payment.response.TossApiLatencyResponse;
 import com.moa.service.payment.PaymentService;
+import com.moa.service.payment.TossApiMetrics;
 
 /**
  * 결제 관리 REST API Controller
@@ -38,9 +41,11 @@ import com.moa.service.payment.PaymentService;
 public class PaymentRestController {
 
     private final PaymentService paymentService;
+    private final TossApiMetrics tossApiMetrics;
 
-    public PaymentRestController(PaymentService paymentService) {
+    public PaymentRestController(PaymentService paymentService, TossApiMetrics tossApiMetrics) {
         this.paymentService = paymentService;
+        this.tossApiMetrics = tossApiMetrics;
     }
 
     private String getCurrentUserId() {
@@ -113,4 +118,20 @@ public class PaymentRestController {
         List<PaymentResponse> response = paymentService.getPartyPayments(partyId);
         return ApiResponse.success(response);
     }
-}
\ No newline at end of file
+
+    // ========================================
+    // 토스 API 지연 시간 (관리자)
+    // ========================================
+
+    /**
+     * 토스 API 엔드포인트별 지연 시간 히스토그램
+     * GET /api/v1/payments/admin/toss-latency
+     *
+     * @return confirm / cancel / billing-key-issue / billing-charge 별 호출 수, 에러 수, 백분위 지연(ms)
+     */
+    @GetMapping("/admin/toss-latency")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ApiResponse<List<TossApiLatencyResponse>> getTossLatency() {
+        return ApiResponse.success(tossApiMetrics.snapshot());
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -26,8 +27,11 @@ import com.moa.dto.push.request.MultiPushRequest;
 import com.moa.dto.push.request.PushCodeRequest;
 import com.moa.dto.push.request.PushRequest;
 import com.moa.dto.push.request.TemplatePushRequest;
+import com.moa.dto.push.response.PushBroadcastStatusResponse;
 import com.moa.dto.push.response.PushCodeResponse;
+import com.moa.dto.push.response.PushOutboxStatsResponse;
 import com.moa.dto.push.response.PushResponse;
+import com.moa.dto.push.response.PushSseStatsResponse;
 import com.moa.service.push.PushService;
 import com.moa.service.push.PushSseService;
 
@@ -43,11 +47,15 @@ public class PushRestController {
 	private final PushSseService pushSseService;
 
 	@GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-	public SseEmitter subscribe(@AuthenticationPrincipal UserDetails userDetails, HttpServletResponse response) {
+	public SseEmitter subscribe(@AuthenticationPrincipal UserDetails userDetails,
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+			@RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+			HttpServletResponse response) {
 		response.setHeader("Cache-Control", "no-cache");
 		response.setHeader("X-Accel-Buffering", "no");
 		int initial = pushService.getUnreadCount(userDetails.getUsername());
-		return pushSseService.subscribe(userDetails.getUsername(), initial);
+		String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+		return pushSseService.subscribe(userDetails.getUsername(), initial, lastEventId);
 	}
 
 	@PostMapping
@@ -175,9 +183,27 @@ public class PushRestController {
 	@PostMapping("/admin/send-all")
 	@PreAuthorize("hasAuthority('ADMIN')")
 	public ResponseEntity<Map<String, Object>> sendPushToAllUsers(@RequestBody AdminPushRequest request) {
-		int count = pushService.sendPushToAllUsers(request);
-		return ResponseEntity
-				.ok(Map.of("success", true, "message", "전체 " + count + "명에게 푸시 알림이 발송되었습니다.", "count", count));
+		PushBroadcastStatusResponse job = pushService.sendPushToAllUsers(request);
+		return ResponseEntity.ok(Map.of("success", true, "message", "전체 푸시 발송이 시작되었습니다.", "jobId", job.getJobId(),
+				"status", job.getStatus()));
+	}
+
+	@GetMapping("/admin/broadcast/{jobId}")
+	@PreAuthorize("hasAuthority('ADMIN')")
+	public ResponseEntity<PushBroadcastStatusResponse> getBroadcastStatus(@PathVariable String jobId) {
+		return ResponseEntity.ok(pushService.getBroadcastStatus(jobId));
+	}
+
+	@GetMapping("/admin/outbox")
+	@PreAuthorize("hasAuthority('ADMIN')")
+	public ResponseEntity<PushOutboxStatsResponse> getOutboxStats() {
+		return ResponseEntity.ok(pushService.getOutboxStats());
+	}
+
+	@GetMapping("/admin/sse")
+	@PreAuthorize("hasAuthority('ADMIN')")
+	public ResponseEntity<PushSseStatsResponse> getSseStats() {
+		return ResponseEntity.ok(pushSseService.getStats());
 	}
 
 	@GetMapping("/admin/search")
@@ -186,4 +212,5 @@ public class PushRestController {
 		List<Map<String, String>> users = pushService.searchUsersForPush(keyword);
 		return ResponseEntity.ok(users);
 	}
+
 }
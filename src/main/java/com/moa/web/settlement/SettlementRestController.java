@@ -1,19 +1,28 @@
 package com.moa.web.settlement;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.moa.common.exception.ApiResponse;
 import com.moa.common.exception.BusinessException;
 import com.moa.common.exception.ErrorCode;
 import com.moa.dto.settlement.response.SettlementDetailResponse;
+import com.moa.dto.settlement.response.SettlementExpectedResponse;
 import com.moa.dto.settlement.response.SettlementResponse;
+import com.moa.dto.settlement.response.SettlementRunSummary;
+import com.moa.service.settlement.SettlementLedgerService;
+import com.moa.service.settlement.SettlementRunService;
 import com.moa.service.settlement.SettlementService;
 
 /**
@@ -36,9 +45,14 @@ import com.moa.service.settlement.SettlementService;
 public class SettlementRestController {
 
     private final SettlementService settlementService;
+    private final SettlementRunService settlementRunService;
+    private final SettlementLedgerService settlementLedgerService;
 
-    public SettlementRestController(SettlementService settlementService) {
+    public SettlementRestController(SettlementService settlementService,
+            SettlementRunService settlementRunService, SettlementLedgerService settlementLedgerService) {
         this.settlementService = settlementService;
+        this.settlementRunService = settlementRunService;
+        this.settlementLedgerService = settlementLedgerService;
     }
 
     private String getCurrentUserId() {
@@ -95,4 +109,60 @@ public class SettlementRestController {
         List<SettlementDetailResponse> response = settlementService.getSettlementDetails(settlementId);
         return ApiResponse.success(response);
     }
+
+    /**
+     * 이번 정산 기간 예상 정산액
+     * GET /api/settlements/expected?partyId=1
+     *
+     * 조회 범위:
+     * - 진행 중인 정산 기간에 지금까지 완료된 결제 / 몰수된 보증금 합계
+     * - 수수료 차감 후 예상 입금액
+     *
+     * @param partyId 파티 ID (로그인한 사용자가 방장이어야 함)
+     * @return 예상 정산 정보
+     */
+    @GetMapping("/expected")
+    public ApiResponse<SettlementExpectedResponse> getExpectedSettlement(@RequestParam Integer partyId) {
+        String userId = getCurrentUserId();
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+
+        return ApiResponse.success(settlementLedgerService.getExpectedSettlement(partyId, userId));
+    }
+
+    // ========================================
+    // 월 정산 실행 (관리자)
+    // ========================================
+
+    /**
+     * 월 정산 실행 / 미리보기
+     * POST /api/settlements/admin/run?targetMonth=2025-11&dryRun=true
+     *
+     * - dryRun=true (기본): 저장/이체 없이 파티별 정산 금액만 계산
+     * - dryRun=false: 스케줄러와 같은 실제 정산 실행
+     *
+     * @param targetMonth 정산 대상 월 (YYYY-MM, 생략 시 지난달)
+     * @param dryRun      미리보기 여부
+     * @return 실행 결과 요약
+     */
+    @PostMapping("/admin/run")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ApiResponse<SettlementRunSummary> runMonthlySettlement(
+            @RequestParam(required = false) String targetMonth,
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        String month = targetMonth != null ? targetMonth
+                : LocalDate.now().minusMonths(1).format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        return ApiResponse.success(settlementRunService.runMonthlySettlement(month, dryRun));
+    }
+
+    /**
+     * 마지막 월 정산 실행 결과
+     * GET /api/settlements/admin/runs/latest
+     */
+    @GetMapping("/admin/runs/latest")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ApiResponse<SettlementRunSummary> getLastRunSummary() {
+        return ApiResponse.success(settlementRunService.getLastRunSummary());
+    }
 }
@@ -32,6 +32,8 @@
 SET FOREIGN_KEY_CHECKS = 0;
 
 DROP TABLE IF EXISTS SETTLEMENT_RETRY_HISTORY;
+DROP TABLE IF EXISTS SETTLEMENT_RUN;
+DROP TABLE IF EXISTS SETTLEMENT_LEDGER;
 DROP TABLE IF EXISTS REFUND_RETRY_HISTORY;
 DROP TABLE IF EXISTS PAYMENT_RETRY_HISTORY;
 DROP TABLE IF EXISTS SETTLEMENT;
@@ -44,6 +46,9 @@ DROP TABLE IF EXISTS USER_CARD;
 DROP TABLE IF EXISTS SUBSCRIPTION;
 DROP TABLE IF EXISTS PRODUCT;
 DROP TABLE IF EXISTS CATEGORY;
+DROP TABLE IF EXISTS PUSH_SSE_PRESENCE;
+DROP TABLE IF EXISTS PUSH_BUS_EVENT;
+DROP TABLE IF EXISTS SCHEDULER_LOCK;
 DROP TABLE IF EXISTS PUSH;
 DROP TABLE IF EXISTS PUSH_CODE;
 DROP TABLE IF EXISTS CHATBOT_KNOWLEDGE;
@@ -304,9 +309,46 @@ CREATE TABLE PUSH (
     IS_READ CHAR(1) NOT NULL DEFAULT 'N',
     IS_DELETED CHAR(1) NOT NULL DEFAULT 'N',
     
-    PRIMARY KEY (PUSH_ID)
+    PRIMARY KEY (PUSH_ID),
+    INDEX IDX_PUSH_RECEIVER_UNREAD (RECEIVER_ID, IS_READ, IS_DELETED),
+    INDEX IDX_PUSH_RECEIVER_ID (RECEIVER_ID, PUSH_ID)
 ) COMMENT='푸시 알림 발송 이력';
 
+-- PUSH_BUS_EVENT: 다중 노드 SSE 중계 이벤트 (push.cluster.mode=db)
+CREATE TABLE PUSH_BUS_EVENT (
+    EVENT_ID BIGINT NOT NULL AUTO_INCREMENT,
+    EVENT_TYPE VARCHAR(20) NOT NULL DEFAULT 'PUSH' COMMENT 'PUSH: SSE 발송 중계, UNREAD: 미읽음 수 변경 (PAYLOAD = 사용자 ID 배열)',
+    ORIGIN_NODE VARCHAR(100) NOT NULL,
+    RECEIVER_ID VARCHAR(50) NOT NULL,
+    PAYLOAD TEXT NOT NULL,
+    CREATED_AT DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    PRIMARY KEY (EVENT_ID),
+    INDEX IDX_PUSH_BUS_CREATED (CREATED_AT)
+) COMMENT='푸시 SSE 중계 이벤트';
+
+-- PUSH_SSE_PRESENCE: 노드별 SSE 연결 사용자
+CREATE TABLE PUSH_SSE_PRESENCE (
+    RECEIVER_ID VARCHAR(50) NOT NULL,
+    NODE_ID VARCHAR(100) NOT NULL,
+    HEARTBEAT_AT DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    PRIMARY KEY (RECEIVER_ID, NODE_ID),
+    INDEX IDX_PUSH_PRESENCE_NODE (NODE_ID),
+    INDEX IDX_PUSH_PRESENCE_HEARTBEAT (HEARTBEAT_AT)
+) COMMENT='푸시 SSE 연결 현황';
+
+-- SCHEDULER_LOCK: 스케줄러 작업별 실행 리스(lease), 한 트리거당 한 노드만 실행
+CREATE TABLE SCHEDULER_LOCK (
+    LOCK_NAME VARCHAR(100) NOT NULL,
+    LOCKED_BY VARCHAR(100) NULL COMMENT '리스를 가진 노드 ID',
+    LOCKED_AT DATETIME NULL COMMENT '리스 획득 시각',
+    LOCK_UNTIL DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '리스 만료 시각 (실행 중에는 주기적으로 연장)',
+    LAST_FINISHED_AT DATETIME NULL,
+    
+    PRIMARY KEY (LOCK_NAME)
+) COMMENT='스케줄러 분산 락';
+
 -- --------------------------------------------
 -- 2.4 상품/구독 영역
 -- --------------------------------------------
@@ -399,8 +441,15 @@ CREATE TABLE PARTY (
     REG_DATE DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     START_DATE DATETIME NOT NULL,
     END_DATE DATETIME NULL,
+    REMAINING_SLOTS INT AS (MAX_MEMBERS - CURRENT_MEMBERS) STORED COMMENT '남은 자리 (목록 정렬용)',
     
-    PRIMARY KEY (PARTY_ID)
+    PRIMARY KEY (PARTY_ID),
+    -- 파티 목록 정렬별 keyset 페이징 인덱스
+    INDEX IDX_PARTY_LIST_LATEST (REG_DATE DESC, PARTY_ID DESC),
+    INDEX IDX_PARTY_LIST_FEE_ASC (MONTHLY_FEE ASC, REG_DATE DESC, PARTY_ID DESC),
+    INDEX IDX_PARTY_LIST_FEE_DESC (MONTHLY_FEE DESC, REG_DATE DESC, PARTY_ID DESC),
+    INDEX IDX_PARTY_LIST_SLOTS (REMAINING_SLOTS ASC, REG_DATE DESC, PARTY_ID DESC),
+    INDEX IDX_PARTY_LIST_START (START_DATE ASC, REG_DATE DESC, PARTY_ID DESC)
 ) COMMENT='파티 정보';
 
 -- PARTY_MEMBER: 파티 멤버 정보
@@ -412,9 +461,11 @@ CREATE TABLE PARTY_MEMBER (
     MEMBER_STATUS VARCHAR(20) NOT NULL DEFAULT 'PENDING_PAYMENT',
     JOIN_DATE DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     WITHDRAW_DATE DATETIME NULL,
+    HOLD_UNTIL DATETIME NULL COMMENT '가입 좌석 선점 만료 시각 (결제 확정 전 PENDING_PAYMENT 에서만 사용)',
     
     PRIMARY KEY (PARTY_MEMBER_ID),
-    CONSTRAINT UQ_PARTY_MEMBER_USER UNIQUE (PARTY_ID, USER_ID)
+    CONSTRAINT UQ_PARTY_MEMBER_USER UNIQUE (PARTY_ID, USER_ID),
+    INDEX IDX_PARTY_MEMBER_HOLD (MEMBER_STATUS, HOLD_UNTIL)
 ) COMMENT='파티 멤버 정보';
 
 -- --------------------------------------------
@@ -459,9 +510,13 @@ CREATE TABLE PAYMENT (
     CARD_COMPANY VARCHAR(50) NULL,
     TARGET_MONTH VARCHAR(7) NOT NULL,
     SETTLEMENT_ID INT NULL COMMENT '정산 ID (FK - SETTLEMENT_DETAIL 대체)',
+    IDEMPOTENCY_KEY VARCHAR(100) NULL COMMENT '멱등 키 ({유형}_{파티멤버ID}_{yyyyMM})',
     
     PRIMARY KEY (PAYMENT_ID),
-    CONSTRAINT UQ_PAYMENT_MEMBER_MONTH UNIQUE (PARTY_MEMBER_ID, TARGET_MONTH)
+    CONSTRAINT UQ_PAYMENT_MEMBER_MONTH UNIQUE (PARTY_MEMBER_ID, TARGET_MONTH),
+    CONSTRAINT UQ_PAYMENT_IDEMPOTENCY_KEY UNIQUE (IDEMPOTENCY_KEY),
+    INDEX IDX_PAYMENT_PARTY_STATUS_DATE (PARTY_ID, PAYMENT_STATUS, PAYMENT_DATE),
+    INDEX IDX_PAYMENT_PARTY_MONTH (PARTY_ID, TARGET_MONTH)
 ) COMMENT='월회비 결제 정보';
 
 -- PAYMENT_RETRY_HISTORY: 결제 재시도 이력
@@ -531,11 +586,45 @@ CREATE TABLE SETTLEMENT (
     SETTLEMENT_DATE DATETIME NULL,
     REG_DATE DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
     BANK_TRAN_ID VARCHAR(30) NULL COMMENT '오픈뱅킹 거래고유번호',
+    TRANSFER_TRAN_ID VARCHAR(30) NULL COMMENT '이체 요청 거래고유번호 (결과 조회 키)',
+    TRANSFER_REQUESTED_AT DATETIME NULL COMMENT '이체 요청 시각',
     
     PRIMARY KEY (SETTLEMENT_ID),
+    INDEX IDX_SETTLEMENT_TRANSFER_REQUESTED (SETTLEMENT_STATUS, TRANSFER_REQUESTED_AT),
     CONSTRAINT CHK_SETTLEMENT_STATUS CHECK (SETTLEMENT_STATUS IN ('PENDING', 'PENDING_ACCOUNT', 'IN_PROGRESS', 'COMPLETED', 'FAILED'))
 ) COMMENT='정산 정보 (파티장 월간 정산)';
 
+-- SETTLEMENT_RUN: 월 정산 실행 이력
+CREATE TABLE SETTLEMENT_RUN (
+    RUN_ID INT NOT NULL AUTO_INCREMENT,
+    TARGET_MONTH VARCHAR(7) NOT NULL,
+    PARTY_COUNT INT NOT NULL DEFAULT 0,
+    SETTLED_COUNT INT NOT NULL DEFAULT 0,
+    PENDING_ACCOUNT_COUNT INT NOT NULL DEFAULT 0,
+    FAILED_COUNT INT NOT NULL DEFAULT 0,
+    SKIPPED_COUNT INT NOT NULL DEFAULT 0,
+    TOTAL_NET_AMOUNT BIGINT NOT NULL DEFAULT 0 COMMENT '생성된 정산 순지급액 합계',
+    STARTED_AT DATETIME NOT NULL,
+    ELAPSED_MILLIS BIGINT NOT NULL DEFAULT 0,
+    TIMED_OUT TINYINT(1) NOT NULL DEFAULT 0,
+    
+    PRIMARY KEY (RUN_ID),
+    INDEX IDX_SETTLEMENT_RUN_MONTH (TARGET_MONTH)
+) COMMENT='월 정산 실행 이력';
+
+-- SETTLEMENT_LEDGER: 파티별 정산 기간 누적 원장 (결제 완료/보증금 몰수 시점에 갱신)
+CREATE TABLE SETTLEMENT_LEDGER (
+    PARTY_ID INT NOT NULL,
+    PERIOD_MONTH VARCHAR(7) NOT NULL COMMENT '정산 대상 월 (YYYY-MM)',
+    PAYMENT_COUNT INT NOT NULL DEFAULT 0,
+    PAYMENT_TOTAL INT NOT NULL DEFAULT 0,
+    FORFEITED_COUNT INT NOT NULL DEFAULT 0,
+    FORFEITED_TOTAL INT NOT NULL DEFAULT 0,
+    UPDATED_AT DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    
+    PRIMARY KEY (PARTY_ID, PERIOD_MONTH)
+) COMMENT='정산 누적 원장';
+
 -- SETTLEMENT_RETRY_HISTORY: 정산 재시도 이력
 CREATE TABLE SETTLEMENT_RETRY_HISTORY (
     RETRY_ID INT NOT NULL AUTO_INCREMENT,
@@ -543,7 +632,7 @@ CREATE TABLE SETTLEMENT_RETRY_HISTORY (
     ATTEMPT_NUMBER INT NOT NULL COMMENT '시도 횟수 (1=초기, 2~4=재시도)',
     ATTEMPT_DATE DATETIME NOT NULL COMMENT '시도 일시',
     RETRY_REASON VARCHAR(500) NULL COMMENT '재시도 사유',
-    RETRY_STATUS VARCHAR(20) NOT NULL COMMENT '결과 상태 (SUCCESS/FAILED)',
+    RETRY_STATUS VARCHAR(20) NOT NULL COMMENT '상태 (PENDING/IN_PROGRESS/SUCCESS/FAILED)',
     NEXT_RETRY_DATE DATETIME NULL COMMENT '다음 재시도 예정 일시',
     TRANSFER_AMOUNT INT NOT NULL COMMENT '이체 금액',
     ERROR_CODE VARCHAR(50) NULL COMMENT '오픈뱅킹 에러 코드',
@@ -552,11 +641,12 @@ CREATE TABLE SETTLEMENT_RETRY_HISTORY (
     BANK_RSP_MESSAGE VARCHAR(200) NULL COMMENT '은행 응답 메시지',
     BANK_TRAN_ID VARCHAR(30) NULL COMMENT '오픈뱅킹 거래고유번호',
     CREATED_AT DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UPDATED_AT DATETIME NULL,
     
     PRIMARY KEY (RETRY_ID),
-    INDEX IDX_SETTLEMENT_RETRY_STATUS (RETRY_STATUS),
-    INDEX IDX_SETTLEMENT_RETRY_NEXT (NEXT_RETRY_DATE, RETRY_STATUS)
-) COMMENT='정산 재시도 이력 (오픈뱅킹 이체 실패 시 최대 4회 시도 추적)';
+    UNIQUE KEY UK_SETTLEMENT_RETRY_SETTLEMENT (SETTLEMENT_ID),
+    INDEX IDX_SETTLEMENT_RETRY_DUE (RETRY_STATUS, NEXT_RETRY_DATE)
+) COMMENT='정산 재시도 큐 (정산당 1건, PENDING 만 재시도 대상 / SUCCESS, FAILED 는 종료 상태)';
 
 -- ============================================
 -- 3. 인덱스 추가
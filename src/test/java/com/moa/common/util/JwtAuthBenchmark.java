@@ -0,0 +1,106 @@
+package com.moa.common.util;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import com.moa.auth.provider.JwtProvider;
+import com.moa.auth.provider.VerifiedToken;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JwtAuthenticationFilter 의 요청당 인증 비용 측정 (단일 스레드, ns/request)
+ *
+ * - legacy: 예전 필터 경로 (validateToken → getAuthentication → getProviderFromToken, 매번 새 파서로 3회 파싱)
+ * - verify: 재사용 파서로 1회 파싱
+ * - verify+cache: 최근 검증 토큰 캐시 적중
+ *
+ * 운영 jar 에 포함되지 않도록 테스트 소스에 둔다 (JUnit 테스트가 아니므로 mvn test 에서 실행되지 않음).
+ * 실행: mvn -q test-compile 후 테스트 classpath 로 main 실행
+ * (예: java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) com.moa.common.util.JwtAuthBenchmark)
+ */
+public class JwtAuthBenchmark {
+
+	private static final int USERS = 1_000;
+	private static final int WARMUP_ROUNDS = 50;
+	private static final int MEASURE_ROUNDS = 200;
+
+	public static void main(String[] args) {
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		String secret = Base64.getEncoder().encodeToString(key);
+		SecretKey secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+
+		JwtProvider uncached = new JwtProvider(secret, 3_600_000, 604_800_000, false, 0);
+		JwtProvider cached = new JwtProvider(secret, 3_600_000, 604_800_000, true, 10_000);
+
+		List<String> tokens = new ArrayList<>();
+		for (int i = 0; i < USERS; i++) {
+			Authentication user = new UsernamePasswordAuthenticationToken("user" + i + "@moa.com", "",
+					List.of(new SimpleGrantedAuthority("USER")));
+			tokens.add(uncached.generateToken(user).getAccessToken());
+		}
+
+		report("legacy", measure(tokens, token -> legacyAuthenticate(secretKey, token)));
+		report("verify", measure(tokens, token -> authenticate(uncached, token)));
+		report("verify+cache", measure(tokens, token -> authenticate(cached, token)));
+	}
+
+	private static Object legacyAuthenticate(SecretKey secretKey, String token) {
+		Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+
+		Claims claims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+		List<SimpleGrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
+				.map(SimpleGrantedAuthority::new).toList();
+		Authentication authentication = new UsernamePasswordAuthenticationToken(
+				new User(claims.getSubject(), "", authorities), token, authorities);
+
+		Claims providerClaims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+		return providerClaims.get("provider", String.class) + authentication.getName();
+	}
+
+	private static Object authenticate(JwtProvider jwtProvider, String token) {
+		VerifiedToken verified = jwtProvider.verify(token);
+		return verified.provider() + verified.toAuthentication(token).getName();
+	}
+
+	private static double measure(List<String> tokens, Function<String, Object> call) {
+		long sink = 0;
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			for (String token : tokens) {
+				sink += call.apply(token).hashCode();
+			}
+		}
+
+		long startedAt = System.nanoTime();
+		for (int round = 0; round < MEASURE_ROUNDS; round++) {
+			for (String token : tokens) {
+				sink += call.apply(token).hashCode();
+			}
+		}
+		long elapsed = System.nanoTime() - startedAt;
+
+		if (sink == 42) {
+			System.out.println();
+		}
+		return (double) elapsed / ((long) MEASURE_ROUNDS * tokens.size());
+	}
+
+	private static void report(String name, double nanosPerRequest) {
+		System.out.printf("%-14s %10.0f ns/request%n", name, nanosPerRequest);
+	}
+}